@@ -0,0 +1,39 @@
+package game.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmarks.jar 의 실행 진입점입니다.
+ *
+ * JMH 기본 명령행 옵션을 그대로 받고, 항상 GC 프로파일러(gc.alloc.rate.norm 등 할당량)를 붙여서
+ * 결과를 target/jmh-result.json 에 남깁니다.
+ *
+ *   java -jar target/benchmarks.jar                       전체
+ *   java -jar target/benchmarks.jar Combat -f 1 -wi 1     이름 정규식 + JMH 옵션
+ */
+public final class BattleBenchmarks {
+
+    static final String RESULT_FILE = "target/jmh-result.json";
+
+    private BattleBenchmarks() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cli);
+        if (cli.getIncludes().isEmpty()) builder.include("game\\.bench\\..*");
+        builder.addProfiler(GCProfiler.class);
+        if (!cli.getResult().hasValue()) {
+            builder.result(RESULT_FILE).resultFormat(ResultFormatType.JSON);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,78 @@
+package game.bench;
+
+import game.battle.BattleLogSink;
+import game.battle.BattleSide;
+import game.battle.ChangeJournal;
+import game.battle.GameState;
+import game.battle.PlayerBattleState;
+import game.battle.TurnManager;
+import game.battle.UnitState;
+import game.card.CardRepository;
+import game.card.card;
+import game.stage.Stage;
+import game.stage.StageBattleFactory;
+
+/**
+ * 벤치마크들이 같이 쓰는 전투 준비 코드입니다.
+ *
+ * 모든 벤치마크는 고정 시드로 만든 같은 전투에서 시작하고, 측정하는 동작을
+ * ChangeJournal 의 mark / rollbackTo 로 감싸서 매번 같은 상태에서 다시 실행합니다.
+ * (MCTS 탐색이 엔진을 쓰는 방식과 같으므로, 측정값에는 되돌리기 비용도 들어갑니다)
+ */
+final class BattleFixtures {
+
+    /** 모든 벤치마크가 쓰는 시드 */
+    static final long SEED = 0x5EED_0020L;
+
+    private BattleFixtures() {}
+
+    /** @Param 값("NO_OP" / "RECORDING")에 해당하는 로그 방식 */
+    static BattleLogSink sink(String name) {
+        switch (name) {
+            case "NO_OP": return BattleLogSink.NO_OP;
+            case "RECORDING": return BattleLogSink.RECORDING;
+            default: throw new IllegalArgumentException("알 수 없는 로그 방식입니다: " + name);
+        }
+    }
+
+    /**
+     * PLAYER 의 첫 턴 메인 페이즈까지 진행한 NORMAL 전투.
+     * 일지는 준비가 끝난 뒤에 연결하므로 준비 과정은 기록되지 않습니다.
+     */
+    static GameState newBattle(String logSink) {
+        GameState state = StageBattleFactory.createGameState(Stage.Difficulty.NORMAL, SEED);
+        state.setLogSink(sink(logSink));
+        new TurnManager(state).startTurn();
+        return state;
+    }
+
+    /** 준비가 끝난 state 에 일지를 연결합니다. */
+    static ChangeJournal attachJournal(GameState state) {
+        ChangeJournal journal = new ChangeJournal();
+        state.setJournal(journal);
+        return journal;
+    }
+
+    /** 카드 저장소에서 id 로 카드를 찾습니다. */
+    static card card(String id) {
+        card c = CardRepository.findById(id);
+        if (c == null) throw new IllegalArgumentException("카드 저장소에 없는 카드입니다: " + id);
+        return c;
+    }
+
+    /** side 필드에 id 카드의 유닛을 놓습니다. ready 이면 이번 턴에 바로 공격할 수 있습니다. */
+    static UnitState place(GameState state, BattleSide side, String id, boolean ready) {
+        UnitState unit = state.createUnit(card(id));
+        PlayerBattleState owner = state.getPlayerState(side);
+        if (!owner.summonUnit(unit)) throw new IllegalStateException("필드가 가득 찼습니다: " + side);
+        if (ready) unit.setSummonedThisTurn(false);
+        return unit;
+    }
+
+    /** side 의 마나를 10/10 으로 채웁니다. */
+    static void fillMana(GameState state, BattleSide side) {
+        PlayerBattleState p = state.getPlayerState(side);
+        p.setMaxMana(10);
+        p.setCurrentMana(10);
+    }
+}
@@ -0,0 +1,75 @@
+package game.bench;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.CardExecutor;
+import game.battle.ChangeJournal;
+import game.battle.GameState;
+import game.battle.TargetType;
+import game.card.EffectType;
+import game.card.card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CardExecutor.playCard: 손패의 카드 한 장을 내고(소환 + 효과) 되돌립니다.
+ *
+ * - MON_001: 효과 없는 몬스터
+ * - MON_013: 도발 + 영웅 직접 피해
+ * - MON_014: 상대 유닛 지정 피해 (상대 필드에 유닛 3 마리)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CardPlayBenchmark {
+
+    @Param({"MON_001", "MON_013", "MON_014"})
+    public String cardId;
+
+    @Param({"NO_OP", "RECORDING"})
+    public String logSink;
+
+    private ChangeJournal journal;
+    private CardExecutor executor;
+    private card card;
+    private TargetType targetType;
+    private int targetIndex;
+
+    @Setup
+    public void setUp() {
+        GameState state = BattleFixtures.newBattle(logSink);
+        for (int i = 0; i < 3; i++) BattleFixtures.place(state, BattleSide.ENEMY, "MON_002", true);
+        BattleFixtures.fillMana(state, BattleSide.PLAYER);
+
+        card = BattleFixtures.card(cardId);
+        state.getPlayerState(BattleSide.PLAYER).addCardToHand(card);
+        boolean needsUnit = card.getEffects().stream().anyMatch(e -> e.getType() == EffectType.DAMAGE_TO_MONSTER);
+        targetType = needsUnit ? TargetType.UNIT : TargetType.NONE;
+        targetIndex = needsUnit ? 0 : -1;
+
+        executor = new CardExecutor(state);
+        journal = BattleFixtures.attachJournal(state);
+    }
+
+    @Benchmark
+    public BattleLog playCard() {
+        int mark = journal.mark();
+        BattleLog log = executor.playCard(BattleSide.PLAYER, card, BattleSide.ENEMY, targetType, targetIndex);
+        journal.rollbackTo(mark);
+        return log;
+    }
+}
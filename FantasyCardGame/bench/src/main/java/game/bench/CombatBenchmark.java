@@ -0,0 +1,84 @@
+package game.bench;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.ChangeJournal;
+import game.battle.CombatEngine;
+import game.battle.GameState;
+import game.battle.TargetType;
+import game.battle.UnitState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CombatEngine.attack: 공격 가능한 아군 유닛 하나가 가득 찬 상대 필드를 공격하고 되돌립니다.
+ *
+ * taunt = true 이면 상대 필드의 마지막 칸 유닛이 도발을 가집니다.
+ * - attackUnit: 도발이 있으면 그 유닛을, 없으면 첫 칸 유닛을 공격 (유닛끼리 피해 교환)
+ * - attackHero: 영웅 공격. 도발이 있으면 검사에서 거절되는 경로를 잽니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CombatBenchmark {
+
+    @Param({"false", "true"})
+    public boolean taunt;
+
+    @Param({"NO_OP", "RECORDING"})
+    public String logSink;
+
+    private ChangeJournal journal;
+    private CombatEngine engine;
+    private int attackerSlot;
+    private int targetSlot;
+
+    @Setup
+    public void setUp() {
+        GameState state = BattleFixtures.newBattle(logSink);
+        UnitState attacker = BattleFixtures.place(state, BattleSide.PLAYER, "MON_001", true);
+        attackerSlot = attacker.getSlot();
+
+        UnitState first = null;
+        UnitState last = null;
+        while (state.getPlayerState(BattleSide.ENEMY).canSummonMoreUnits()) {
+            last = BattleFixtures.place(state, BattleSide.ENEMY, "MON_002", true);
+            if (first == null) first = last;
+        }
+        if (taunt) last.setTaunt(true);
+        targetSlot = (taunt ? last : first).getSlot();
+
+        engine = new CombatEngine(state);
+        journal = BattleFixtures.attachJournal(state);
+    }
+
+    @Benchmark
+    public BattleLog attackUnit() {
+        int mark = journal.mark();
+        BattleLog log = engine.attack(BattleSide.PLAYER, attackerSlot, TargetType.UNIT, targetSlot);
+        journal.rollbackTo(mark);
+        return log;
+    }
+
+    @Benchmark
+    public BattleLog attackHero() {
+        int mark = journal.mark();
+        BattleLog log = engine.attack(BattleSide.PLAYER, attackerSlot, TargetType.HERO, -1);
+        journal.rollbackTo(mark);
+        return log;
+    }
+}
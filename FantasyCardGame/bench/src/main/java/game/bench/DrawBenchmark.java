@@ -0,0 +1,63 @@
+package game.bench;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.ChangeJournal;
+import game.battle.GameState;
+import game.battle.PlayerBattleState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlayerBattleState.drawCardWithFatigue: 한 장 뽑고 되돌립니다.
+ *
+ * emptyDeck = true 이면 덱을 비워 두어 피로 피해 경로를 잽니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DrawBenchmark {
+
+    @Param({"false", "true"})
+    public boolean emptyDeck;
+
+    @Param({"NO_OP", "RECORDING"})
+    public String logSink;
+
+    private GameState state;
+    private ChangeJournal journal;
+    private PlayerBattleState player;
+
+    @Setup
+    public void setUp() {
+        state = BattleFixtures.newBattle(logSink);
+        player = state.getPlayerState(BattleSide.PLAYER);
+        if (emptyDeck) {
+            while (!player.getDeck().isEmpty()) player.drawCardWithFatigue(BattleLog.DISABLED);
+        }
+        journal = BattleFixtures.attachJournal(state);
+    }
+
+    @Benchmark
+    public BattleLog draw() {
+        int mark = journal.mark();
+        BattleLog log = state.newLog();
+        player.drawCardWithFatigue(log);
+        journal.rollbackTo(mark);
+        return log;
+    }
+}
@@ -0,0 +1,65 @@
+package game.bench;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.ChangeJournal;
+import game.battle.EnemyAI;
+import game.battle.GameState;
+import game.battle.TurnManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnemyAI.playEnemyMainPhase: 기본 AI 가 메인 페이즈 전체(카드 사용 + 공격)를 진행하고 되돌립니다.
+ *
+ * ENEMY 턴 시작 직후, 마나 10 / 양쪽 필드에 유닛 2 마리씩인 상태에서 시작합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnemyAIBenchmark {
+
+    @Param({"NO_OP", "RECORDING"})
+    public String logSink;
+
+    private ChangeJournal journal;
+    private EnemyAI ai;
+
+    @Setup
+    public void setUp() {
+        GameState state = BattleFixtures.newBattle(logSink);
+        TurnManager turns = new TurnManager(state);
+        turns.endTurn();
+        turns.startTurn();
+        for (int i = 0; i < 2; i++) {
+            BattleFixtures.place(state, BattleSide.PLAYER, "MON_001", true);
+            BattleFixtures.place(state, BattleSide.ENEMY, "MON_002", true);
+        }
+        BattleFixtures.fillMana(state, BattleSide.ENEMY);
+
+        ai = new EnemyAI(state);
+        journal = BattleFixtures.attachJournal(state);
+    }
+
+    @Benchmark
+    public BattleLog playEnemyMainPhase() {
+        int mark = journal.mark();
+        BattleLog log = ai.playEnemyMainPhase();
+        journal.rollbackTo(mark);
+        return log;
+    }
+}
@@ -0,0 +1,67 @@
+package game.bench;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.ChangeJournal;
+import game.battle.GameState;
+import game.battle.TurnManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TurnManager.endTurn / startTurn: 양쪽 필드에 유닛이 3 마리씩 있는 상태에서
+ * PLAYER 의 턴을 끝내고 ENEMY 의 턴을 시작한 뒤 되돌립니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TurnBenchmark {
+
+    @Param({"NO_OP", "RECORDING"})
+    public String logSink;
+
+    private ChangeJournal journal;
+    private TurnManager turns;
+
+    @Setup
+    public void setUp() {
+        GameState state = BattleFixtures.newBattle(logSink);
+        for (int i = 0; i < 3; i++) {
+            BattleFixtures.place(state, BattleSide.PLAYER, "MON_001", true);
+            BattleFixtures.place(state, BattleSide.ENEMY, "MON_002", true);
+        }
+        turns = new TurnManager(state);
+        journal = BattleFixtures.attachJournal(state);
+    }
+
+    @Benchmark
+    public BattleLog endTurn() {
+        int mark = journal.mark();
+        BattleLog log = turns.endTurn();
+        journal.rollbackTo(mark);
+        return log;
+    }
+
+    @Benchmark
+    public BattleLog endTurnThenStartTurn() {
+        int mark = journal.mark();
+        BattleLog log = turns.endTurn();
+        log.append(turns.startTurn());
+        journal.rollbackTo(mark);
+        return log;
+    }
+}
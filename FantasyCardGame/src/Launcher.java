@@ -1,9 +1,25 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import javax.swing.SwingUtilities;
+
+import game.sim.Replay;
 import game.ui.swing.MainFrame;
 
 public class Launcher {
 
-	public static void main(String[] args) {
-		new MainFrame();
+	/**
+	 * 인자로 리플레이 파일(.fcr)을 주면 시작하자마자 그 리플레이를 재생합니다.
+	 * 화면과 전투 상태는 EDT 에서만 다루므로 파일만 여기서 읽고 나머지는 EDT 로 넘깁니다.
+	 */
+	public static void main(String[] args) throws IOException {
+		Replay replay = args.length > 0 ? Replay.read(Paths.get(args[0])) : null;
+		SwingUtilities.invokeLater(() -> {
+			MainFrame frame = new MainFrame();
+			if (replay != null) {
+				frame.getScreen().playReplay(replay);
+			}
+		});
 	}
 
 }
@@ -0,0 +1,28 @@
+package game.battle;
+
+import game.card.card;
+
+/**
+ * 전투 중에 실제로 실행된 행동(카드 사용, 공격, 턴 종료)을 받아 적는 곳입니다.
+ * GameState.setActionRecorder 로 연결합니다. (리플레이 기록용)
+ *
+ * 엔진은 검사를 모두 통과해서 실제로 상태를 바꾸기 직전에만 호출합니다.
+ * 실패한 시도(마나 부족, 잘못된 대상 등)는 전달되지 않으므로,
+ * 같은 시드의 전투에 같은 순서로 다시 실행하면 같은 전투가 재현됩니다.
+ * 턴 시작은 항상 턴 종료 뒤에 이어지므로 따로 전달하지 않습니다.
+ */
+public interface ActionRecorder {
+
+    /**
+     * 카드가 사용되어 유닛이 slot 칸에 소환되었습니다. (효과 처리 직전)
+     * targetSide 는 효과 대상 쪽으로, 호출자가 null 을 넘겼으면 상대 쪽으로 채워서 전달합니다.
+     */
+    void cardPlayed(BattleSide side, card card, int slot,
+                    BattleSide targetSide, TargetType targetType, int targetIndex);
+
+    /** side 의 attackerSlot 칸 유닛이 공격합니다. 영웅 공격이면 targetType 이 HERO, targetSlot 은 -1 */
+    void unitAttacked(BattleSide side, int attackerSlot, TargetType targetType, int targetSlot);
+
+    /** side 의 턴이 끝났습니다. */
+    void turnEnded(BattleSide side);
+}
@@ -0,0 +1,238 @@
+package game.battle;
+
+import game.card.StatusType;
+import game.card.card;
+
+/**
+ * 전투 중에 일어난 일을 구조화해서 전달하는 이벤트입니다.
+ *
+ * BattleLog 가 사람이 읽는 문장이라면, BattleEvent 는 UI/사운드/리플레이/통계처럼
+ * 프로그램이 "무엇이 바뀌었는지"를 알아야 하는 쪽을 위한 값입니다.
+ * BattleEventBus 로 발행되며, 모든 이벤트는 불변입니다.
+ *
+ * 유닛 위치(slot)는 필드 칸 번호(Board slot)이며, 유닛이 필드에 있는 동안 바뀌지 않습니다.
+ */
+public abstract class BattleEvent {
+
+    public enum Type {
+        CARD_PLAYED,
+        UNIT_SUMMONED,
+        DAMAGE_DEALT,
+        UNIT_DIED,
+        HERO_DIED,
+        TURN_STARTED,
+        CARD_DRAWN,
+        FATIGUE,
+        HERO_HEALED,
+        UNIT_STATS_CHANGED,
+        STATUS_CHANGED
+    }
+
+    /** 영웅을 가리키는 slot 값 */
+    public static final int HERO = -1;
+
+    private final Type type;
+    private final BattleSide side;
+
+    protected BattleEvent(Type type, BattleSide side) {
+        this.type = type;
+        this.side = side;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** 이벤트의 주체 (카드를 낸 쪽, 피해를 받은 쪽, 턴을 시작한 쪽 등) */
+    public BattleSide getSide() {
+        return side;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + side + ")";
+    }
+
+    // ---- 이벤트 종류 --------------------------------------------------------
+
+    /** side 가 손패에서 카드를 냈습니다. */
+    public static final class CardPlayed extends BattleEvent {
+        private final card card;
+        private final int manaAfter;
+
+        public CardPlayed(BattleSide side, card card, int manaAfter) {
+            super(Type.CARD_PLAYED, side);
+            this.card = card;
+            this.manaAfter = manaAfter;
+        }
+
+        public card getCard() { return card; }
+        public int getManaAfter() { return manaAfter; }
+    }
+
+    /** side 의 필드 slot 위치에 유닛이 소환되었습니다. */
+    public static final class UnitSummoned extends BattleEvent {
+        private final card card;
+        private final int slot;
+        private final int attack;
+        private final int health;
+
+        public UnitSummoned(BattleSide side, card card, int slot, int attack, int health) {
+            super(Type.UNIT_SUMMONED, side);
+            this.card = card;
+            this.slot = slot;
+            this.attack = attack;
+            this.health = health;
+        }
+
+        public card getCard() { return card; }
+        public int getSlot() { return slot; }
+        public int getAttack() { return attack; }
+        public int getHealth() { return health; }
+    }
+
+    /** side 의 유닛(slot) 또는 영웅(slot == HERO)이 피해를 받았습니다. */
+    public static final class DamageDealt extends BattleEvent {
+        private final int slot;
+        private final int amount;
+        private final int healthBefore;
+        private final int healthAfter;
+
+        public DamageDealt(BattleSide side, int slot, int amount, int healthBefore, int healthAfter) {
+            super(Type.DAMAGE_DEALT, side);
+            this.slot = slot;
+            this.amount = amount;
+            this.healthBefore = healthBefore;
+            this.healthAfter = healthAfter;
+        }
+
+        public int getSlot() { return slot; }
+        public boolean isHeroTarget() { return slot == HERO; }
+        public int getAmount() { return amount; }
+        public int getHealthBefore() { return healthBefore; }
+        public int getHealthAfter() { return healthAfter; }
+
+        @Override
+        public String toString() {
+            return "DAMAGE_DEALT(" + getSide() + ", slot=" + slot + ", " + healthBefore + "->" + healthAfter + ")";
+        }
+    }
+
+    /** side 의 필드 slot 위치 유닛이 파괴되어 제거되었습니다. */
+    public static final class UnitDied extends BattleEvent {
+        private final card card;
+        private final int slot;
+
+        public UnitDied(BattleSide side, card card, int slot) {
+            super(Type.UNIT_DIED, side);
+            this.card = card;
+            this.slot = slot;
+        }
+
+        public card getCard() { return card; }
+        public int getSlot() { return slot; }
+    }
+
+    /** side 의 영웅이 쓰러졌습니다. (전투 종료) */
+    public static final class HeroDied extends BattleEvent {
+        public HeroDied(BattleSide side) {
+            super(Type.HERO_DIED, side);
+        }
+    }
+
+    /** side 의 턴이 시작되었습니다. */
+    public static final class TurnStarted extends BattleEvent {
+        private final int turnNumber;
+        private final int maxMana;
+
+        public TurnStarted(BattleSide side, int turnNumber, int maxMana) {
+            super(Type.TURN_STARTED, side);
+            this.turnNumber = turnNumber;
+            this.maxMana = maxMana;
+        }
+
+        public int getTurnNumber() { return turnNumber; }
+        public int getMaxMana() { return maxMana; }
+    }
+
+    /** side 가 덱에서 카드를 한 장 뽑았습니다. */
+    public static final class CardDrawn extends BattleEvent {
+        private final card card;
+
+        public CardDrawn(BattleSide side, card card) {
+            super(Type.CARD_DRAWN, side);
+            this.card = card;
+        }
+
+        public card getCard() { return card; }
+    }
+
+    /** side 가 빈 덱에서 드로우하여 피로 피해를 받았습니다. */
+    public static final class Fatigue extends BattleEvent {
+        private final int damage;
+
+        public Fatigue(BattleSide side, int damage) {
+            super(Type.FATIGUE, side);
+            this.damage = damage;
+        }
+
+        public int getDamage() { return damage; }
+    }
+
+    /** side 의 영웅이 체력을 회복했습니다. */
+    public static final class HeroHealed extends BattleEvent {
+        private final int amount;
+        private final int healthBefore;
+        private final int healthAfter;
+
+        public HeroHealed(BattleSide side, int amount, int healthBefore, int healthAfter) {
+            super(Type.HERO_HEALED, side);
+            this.amount = amount;
+            this.healthBefore = healthBefore;
+            this.healthAfter = healthAfter;
+        }
+
+        public int getAmount() { return amount; }
+        public int getHealthBefore() { return healthBefore; }
+        public int getHealthAfter() { return healthAfter; }
+    }
+
+    /** side 의 필드 slot 위치 유닛의 공격력/체력이 버프나 디버프로 바뀌었습니다. (바뀐 뒤 값) */
+    public static final class UnitStatsChanged extends BattleEvent {
+        private final int slot;
+        private final int attack;
+        private final int health;
+        private final int maxHealth;
+
+        public UnitStatsChanged(BattleSide side, int slot, int attack, int health, int maxHealth) {
+            super(Type.UNIT_STATS_CHANGED, side);
+            this.slot = slot;
+            this.attack = attack;
+            this.health = health;
+            this.maxHealth = maxHealth;
+        }
+
+        public int getSlot() { return slot; }
+        public int getAttack() { return attack; }
+        public int getHealth() { return health; }
+        public int getMaxHealth() { return maxHealth; }
+    }
+
+    /** side 의 slot 위치 유닛(HERO 면 영웅)에게 상태이상이 걸렸거나(active) 풀렸습니다. */
+    public static final class StatusChanged extends BattleEvent {
+        private final int slot;
+        private final StatusType status;
+        private final boolean active;
+
+        public StatusChanged(BattleSide side, int slot, StatusType status, boolean active) {
+            super(Type.STATUS_CHANGED, side);
+            this.slot = slot;
+            this.status = status;
+            this.active = active;
+        }
+
+        public int getSlot() { return slot; }
+        public StatusType getStatus() { return status; }
+        public boolean isActive() { return active; }
+    }
+}
@@ -0,0 +1,74 @@
+package game.battle;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * 전투 이벤트(BattleEvent)를 구독자들에게 나눠 주는 발행자입니다.
+ * GameState.getEventBus() 로 얻어서 subscribe 하면 됩니다.
+ *
+ * - java.util.concurrent.Flow 규약을 따릅니다. 구독자는 request(n) 만큼만 받습니다.
+ * - 구독자마다 bufferCapacity 크기의 버퍼가 있고, 버퍼가 가득 차면 엔진을 멈추지 않고
+ *   그 구독자에게 갈 이벤트를 버립니다. (버린 개수는 getDroppedCount)
+ * - 기본 생성자는 발행한 스레드에서 바로 전달합니다. 엔진 호출이 끝났을 때
+ *   (요청량이 남아 있는) 구독자는 이미 이벤트를 받은 상태라서 UI 동기화에 쓰기 좋습니다.
+ *   느린 구독자(파일 기록 등)가 있다면 별도 Executor 로 버스를 만드세요.
+ *
+ * 구독자가 하나도 없으면 엔진은 이벤트 객체를 만들지 않습니다.
+ */
+public final class BattleEventBus implements Flow.Publisher<BattleEvent>, AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+
+    private final SubmissionPublisher<BattleEvent> publisher;
+    private final LongAdder dropped = new LongAdder();
+
+    private final BiPredicate<Flow.Subscriber<? super BattleEvent>, BattleEvent> onDrop = (s, e) -> {
+        dropped.increment();
+        return false; // 다시 시도하지 않고 버림
+    };
+
+    /** 발행한 스레드에서 바로 전달하는 버스 */
+    public BattleEventBus() {
+        this(Runnable::run, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public BattleEventBus(Executor executor, int bufferCapacity) {
+        if (executor == null) throw new IllegalArgumentException("Executor 는 null 일 수 없습니다.");
+        if (bufferCapacity < 1) throw new IllegalArgumentException("버퍼 크기는 1 이상이어야 합니다.");
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BattleEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    public int getSubscriberCount() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /** 엔진에서 호출합니다. 버스가 닫혔으면 무시합니다. */
+    void publish(BattleEvent event) {
+        if (publisher.isClosed()) return;
+        publisher.offer(event, onDrop);
+    }
+
+    /** 버퍼가 가득 차서 버린 이벤트 수 (모든 구독자 합계) */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** 모든 구독자에게 onComplete 를 보내고 더 이상 발행하지 않습니다. */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -9,24 +9,56 @@ import java.util.List;
  *
  * 전투 엔진(CombatEngine), 카드 실행(CardExecutor), 턴 매니저(TurnManager)에서
  * 발생한 로그를 모아서 UI 쪽으로 넘겨주면, UI는 이를 출력/이펙트 재생 등에 활용할 수 있습니다.
+ *
+ * 엔진은 GameState.newLog() 로 로그를 얻습니다. 시뮬레이션/탐색처럼 아무도 읽지 않는 경우
+ * BattleLogSink.NO_OP 을 쓰면 DISABLED 로그가 돌아오고, 엔진은 isEnabled() 를 보고
+ * 메시지 문자열 조립과 타임스탬프 생성을 건너뜁니다.
  */
 public class BattleLog {
 
+    /** 아무것도 기록하지 않는 공유 로그 (BattleLogSink.NO_OP 용) */
+    public static final BattleLog DISABLED = new BattleLog(false);
+
     private final List<BattleLogEntry> entries = new ArrayList<>();
+    private final boolean enabled;
+
+    public BattleLog() {
+        this(true);
+    }
+
+    private BattleLog(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * false 면 add 가 아무 일도 하지 않습니다.
+     * 메시지를 만드는 비용이 큰 곳에서는 먼저 이 값을 확인하세요.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
 
     public void add(String message) {
-        if (message != null && !message.isEmpty()) {
+        if (enabled && message != null && !message.isEmpty()) {
             entries.add(new BattleLogEntry(message));
         }
     }
 
     public void addAll(List<String> messages) {
-        if (messages == null) return;
+        if (!enabled || messages == null) return;
         for (String msg : messages) {
             add(msg);
         }
     }
 
+    /**
+     * 다른 로그의 항목을 (원래 시각 그대로) 이어 붙입니다.
+     */
+    public void append(BattleLog other) {
+        if (!enabled || other == null || other == this) return;
+        entries.addAll(other.entries);
+    }
+
     public List<BattleLogEntry> getEntries() {
         return Collections.unmodifiableList(entries);
     }
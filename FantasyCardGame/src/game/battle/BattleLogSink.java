@@ -0,0 +1,20 @@
+package game.battle;
+
+/**
+ * 엔진(CombatEngine, CardExecutor, TurnManager, AI)이 쓸 BattleLog 를 만들어 주는 곳입니다.
+ * GameState.setLogSink 로 바꿔 끼울 수 있습니다.
+ *
+ * - RECORDING : 지금까지처럼 시각이 찍힌 메시지를 모두 모읍니다. (실제 플레이, 기본값)
+ * - NO_OP     : 아무것도 기록하지 않습니다. 엔진은 메시지 조립과 타임스탬프를 건너뜁니다.
+ *               (헤드리스 시뮬레이션, AI 탐색용)
+ */
+@FunctionalInterface
+public interface BattleLogSink {
+
+    BattleLogSink RECORDING = BattleLog::new;
+
+    BattleLogSink NO_OP = () -> BattleLog.DISABLED;
+
+    /** 엔진 호출 한 번(카드 사용, 공격, 턴 시작 등)에 쓸 로그를 반환합니다. */
+    BattleLog open();
+}
@@ -0,0 +1,169 @@
+package game.battle;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 한 쪽 필드를 고정 크기 칸(slot) 배열로 나타냅니다.
+ *
+ * 유닛은 소환된 칸에 그대로 머무르고, 다른 유닛이 죽어도 칸 번호가 바뀌지 않습니다.
+ * 그래서 엔진의 칸 번호가 UI 의 FieldSlot 번호와 항상 같습니다.
+ * 어느 칸이 차 있는지는 비트마스크(occupiedMask)로 들고 있으므로, 추가/제거는 배열 한 칸과
+ * 비트 하나만 바꾸고 다른 유닛을 옮기지 않습니다.
+ *
+ * 할당 없이 차 있는 칸만 순회하려면 마스크를 사용합니다.
+ * <pre>
+ * for (long m = board.occupiedMask(); m != 0; m &amp;= m - 1) {
+ *     int slot = Long.numberOfTrailingZeros(m);
+ *     UnitState u = board.get(slot);
+ *     ...
+ * }
+ * </pre>
+ *
+ * 도발 유닛의 칸도 같은 방식의 마스크(tauntMask)로 함께 관리합니다.
+ * 변경은 PlayerBattleState 를 통해서만 일어납니다. (ChangeJournal / 해시 갱신)
+ */
+public final class Board implements Iterable<UnitState> {
+
+    /** 마스크 하나(long)로 표현할 수 있는 최대 칸 수 */
+    public static final int MAX_CAPACITY = 64;
+
+    private final UnitState[] slots;
+    private final long allMask;
+    private long occupied;
+    private long taunts;
+
+    Board(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("필드 칸 수는 1 ~ " + MAX_CAPACITY + " 이어야 합니다: " + capacity);
+        }
+        this.slots = new UnitState[capacity];
+        this.allMask = capacity == MAX_CAPACITY ? -1L : (1L << capacity) - 1;
+    }
+
+    // ---- 조회 ---------------------------------------------------------------
+
+    /** 전체 칸 수 */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /** 유닛이 있는 칸 수 */
+    public int size() {
+        return Long.bitCount(occupied);
+    }
+
+    public boolean isEmpty() {
+        return occupied == 0;
+    }
+
+    public boolean isFull() {
+        return occupied == allMask;
+    }
+
+    /** slot 칸의 유닛. 비어 있거나 범위를 벗어나면 null */
+    public UnitState get(int slot) {
+        return slot < 0 || slot >= slots.length ? null : slots[slot];
+    }
+
+    public boolean isOccupied(int slot) {
+        return get(slot) != null;
+    }
+
+    /** 유닛이 있는 칸 비트 (bit i = i 번 칸) */
+    public long occupiedMask() {
+        return occupied;
+    }
+
+    /** 도발 유닛이 있는 칸 비트 */
+    public long tauntMask() {
+        return taunts;
+    }
+
+    /** unit 이 있는 칸 번호 (이 필드에 없으면 -1) */
+    public int slotOf(UnitState unit) {
+        if (unit == null) return -1;
+        int slot = unit.getSlot();
+        return slot >= 0 && slot < slots.length && slots[slot] == unit ? slot : -1;
+    }
+
+    /** 가장 왼쪽 빈 칸 (가득 찼으면 -1) */
+    public int firstFreeSlot() {
+        long free = ~occupied & allMask;
+        return free == 0 ? -1 : Long.numberOfTrailingZeros(free);
+    }
+
+    /** 가장 왼쪽 유닛의 칸 (비었으면 -1) */
+    public int firstOccupiedSlot() {
+        return occupied == 0 ? -1 : Long.numberOfTrailingZeros(occupied);
+    }
+
+    /** 칸 번호 순서로 유닛을 돌려줍니다. (탐색 루프에서는 occupiedMask 순회를 쓰세요) */
+    @Override
+    public Iterator<UnitState> iterator() {
+        return new Iterator<UnitState>() {
+            private long remaining = occupied;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public UnitState next() {
+                if (remaining == 0) throw new NoSuchElementException();
+                int slot = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return slots[slot];
+            }
+        };
+    }
+
+    // ---- 변경 (PlayerBattleState 전용) ---------------------------------------
+
+    void put(int slot, UnitState unit) {
+        if (slots[slot] != null) throw new IllegalStateException(slot + " 번 칸에 이미 유닛이 있습니다.");
+        slots[slot] = unit;
+        unit.placeAt(slot);
+        long bit = 1L << slot;
+        occupied |= bit;
+        if (unit.isTaunt()) taunts |= bit;
+    }
+
+    UnitState remove(int slot) {
+        UnitState unit = slots[slot];
+        if (unit == null) throw new IllegalStateException(slot + " 번 칸이 비어 있습니다.");
+        slots[slot] = null;
+        unit.placeAt(-1);
+        long bit = ~(1L << slot);
+        occupied &= bit;
+        taunts &= bit;
+        return unit;
+    }
+
+    void tauntChanged(int slot, boolean taunt) {
+        if (taunt) taunts |= 1L << slot;
+        else taunts &= ~(1L << slot);
+    }
+
+    /** 모든 칸을 비웁니다. (PackedGameState 복원용) */
+    void clear() {
+        for (long m = occupied; m != 0; m &= m - 1) {
+            int slot = Long.numberOfTrailingZeros(m);
+            slots[slot].placeAt(-1);
+            slots[slot] = null;
+        }
+        occupied = 0;
+        taunts = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < slots.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(slots[i] == null ? "-" : slots[i].getName());
+        }
+        return sb.append(']').toString();
+    }
+}
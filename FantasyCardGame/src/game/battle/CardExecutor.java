@@ -1,22 +1,37 @@
 package game.battle;
 
-import game.card.EffectType;
 import game.card.card;
-import game.card.cardEffect;
-
-import java.util.List;
 
 public class CardExecutor {
 
     private final GameState gameState;
+    private final EffectRegistry effects;
+    private final EffectContext effectContext;
 
     public CardExecutor(GameState gameState) {
+        this(gameState, EffectRegistry.defaults());
+    }
+
+    /** 효과 처리기를 바꾼 등록표로 카드를 실행합니다. */
+    public CardExecutor(GameState gameState, EffectRegistry effects) {
         if (gameState == null) throw new IllegalArgumentException("GameState 는 null 일 수 없습니다.");
+        if (effects == null) throw new IllegalArgumentException("EffectRegistry 는 null 일 수 없습니다.");
         this.gameState = gameState;
+        this.effects = effects;
+        this.effectContext = new EffectContext(gameState);
     }
 
     public GameState getGameState() { return gameState; }
 
+    /**
+     * 로그를 만들지 않고 카드를 사용할 수 있는지만 검사합니다. (마나, 필드 여유)
+     */
+    public boolean canPlayCard(BattleSide side, card card) {
+        if (card == null) return false;
+        PlayerBattleState casterState = gameState.getPlayerState(side);
+        return casterState.getCurrentMana() >= card.getCost() && casterState.canSummonMoreUnits();
+    }
+
     /**UI 연결용: summonPosition(0~4)을 받아서 그 위치로 소환 */
     public BattleLog playCard(BattleSide side,
                               card card,
@@ -25,7 +40,7 @@ public class CardExecutor {
                               int targetIndex,
                               int summonPosition) {
 
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
         if (card == null) {
             log.add("[카드 사용 실패] 카드가 null 입니다.");
@@ -35,14 +50,18 @@ public class CardExecutor {
         PlayerBattleState casterState = gameState.getPlayerState(side);
 
         if (casterState.getCurrentMana() < card.getCost()) {
-            log.add("[카드 사용 실패] 마나가 부족하여 \"" + card.getName() +
-                    "\" 카드를 사용할 수 없습니다. (필요 코스트=" + card.getCost() + ")");
+            if (log.isEnabled()) {
+                log.add("[카드 사용 실패] 마나가 부족하여 \"" + card.getName() +
+                        "\" 카드를 사용할 수 없습니다. (필요 코스트=" + card.getCost() + ")");
+            }
             return log;
         }
 
         if (!casterState.canSummonMoreUnits()) {
-            log.add("[카드 사용 실패] 필드에는 최대 " +
-                    PlayerBattleState.MAX_BOARD_SIZE + " 마리까지만 소환할 수 있습니다.");
+            if (log.isEnabled()) {
+                log.add("[카드 사용 실패] 필드에는 최대 " +
+                        casterState.getBoard().capacity() + " 마리까지만 소환할 수 있습니다.");
+            }
             return log;
         }
 
@@ -53,27 +72,50 @@ public class CardExecutor {
             casterState.removeCardFromHand(card);
         }
 
-        log.add("[카드 사용] " + side + " 이(가) \"" + card.getName() +
-                "\" (코스트 " + card.getCost() + ") 카드를 사용했습니다.");
+        if (log.isEnabled()) {
+            log.add("[카드 사용] " + side + " 이(가) \"" + card.getName() +
+                    "\" (코스트 " + card.getCost() + ") 카드를 사용했습니다.");
+        }
+        BattleEventBus events = gameState.activeEvents();
+        if (events != null) events.publish(new BattleEvent.CardPlayed(side, card, casterState.getCurrentMana()));
 
-        UnitState summoned = new UnitState(card);
-        summoned.applyCardEffectsOnSummon(card.getEffects());
+        // 도발은 UnitState 가 카드에서 바로 가져옵니다. (나머지 효과는 소환 뒤 EffectChain 으로)
+        UnitState summoned = gameState.createUnit(card);
 
         boolean summonedOk = casterState.summonUnitAt(summoned, summonPosition);
         if (!summonedOk) {
-            log.add("[소환 실패] 필드가 가득 차 있어 \"" + summoned.getName() +
-                    "\" 을(를) 더 이상 소환할 수 없습니다.");
+            if (log.isEnabled()) {
+                log.add("[소환 실패] 필드가 가득 차 있어 \"" + summoned.getName() +
+                        "\" 을(를) 더 이상 소환할 수 없습니다.");
+            }
+            gameState.recycleUnit(summoned);
             return log;
         }
 
-        log.add("[소환] \"" + summoned.getName() + "\" 이(가) 전장에 소환되었습니다. " +
-                "(공격력=" + summoned.getAttack() +
-                ", 체력=" + summoned.getCurrentHealth() + ", 위치=" + summonPosition + ")");
+        if (log.isEnabled()) {
+            log.add("[소환] \"" + summoned.getName() + "\" 이(가) 전장에 소환되었습니다. " +
+                    "(공격력=" + summoned.getAttack() +
+                    ", 체력=" + summoned.getCurrentHealth() + ", 위치=" + summoned.getSlot() + ")");
+        }
+        if (events != null) {
+            events.publish(new BattleEvent.UnitSummoned(side, card, summoned.getSlot(),
+                    summoned.getAttack(), summoned.getCurrentHealth()));
+        }
 
-        List<cardEffect> effects = card.getEffects();
-        if (!effects.isEmpty()) {
-            if (targetSide == null) targetSide = side.getOpponent();
-            handleEffects(effects, targetSide, targetType, targetIndex, summoned, log);
+        if (targetSide == null) targetSide = side.getOpponent();
+        ActionRecorder recorder = gameState.getActionRecorder();
+        if (recorder != null) {
+            recorder.cardPlayed(side, card, summoned.getSlot(), targetSide, targetType, targetIndex);
+        }
+
+        EffectChain chain = effects.chainFor(card);
+        if (!chain.isEmpty()) {
+            effectContext.reset(side, targetSide, targetType, targetIndex, summoned, card, log);
+            try {
+                chain.run(effectContext);
+            } finally {
+                effectContext.clear();
+            }
         }
 
         return log;
@@ -87,99 +129,4 @@ public class CardExecutor {
                               int targetIndex) {
         return playCard(side, card, targetSide, targetType, targetIndex, Integer.MAX_VALUE);
     }
-
-    private void handleEffects(List<cardEffect> effects,
-                               BattleSide targetSide,
-                               TargetType targetType,
-                               int targetIndex,
-                               UnitState self,
-                               BattleLog log) {
-
-        PlayerBattleState targetOwner = gameState.getPlayerState(targetSide);
-
-        for (cardEffect effect : effects) {
-            EffectType type = effect.getType();
-
-            switch (type) {
-                case TAUNT:
-                    self.setTaunt(true);
-                    log.add("[효과] " + self.getName() + " 은(는) 도발(TAUNT)을 보유합니다.");
-                    break;
-
-                case DIRECT_ATTACK_PLAYER:
-                    handleDirectAttackPlayer(effect, targetOwner, log);
-                    break;
-
-                case DAMAGE_TO_MONSTER:
-                    handleDamageToMonster(effect, targetOwner, targetType, targetIndex, log);
-                    break;
-
-                // 요청대로 전부 무시
-                case HEAL_PLAYER:
-                case BUFF_ATTACK:
-                case BUFF_DEFENSE:
-                case DEBUFF_ATTACK:
-                case DEBUFF_DEFENSE:
-                    log.add("[효과 무시] " + type + " 효과는 현재 게임 규칙에서 사용하지 않습니다.");
-                    break;
-
-                default:
-                    log.add("[효과] 아직 처리되지 않은 EffectType: " + type);
-            }
-        }
-    }
-
-    private void handleDirectAttackPlayer(cardEffect effect,
-                                          PlayerBattleState targetOwner,
-                                          BattleLog log) {
-
-        int damage = effect.getValue();
-        if (damage <= 0) {
-            log.add("[효과] DIRECT_ATTACK_PLAYER 값이 0 이하입니다. 피해 없음.");
-            return;
-        }
-
-        HeroState hero = targetOwner.getHero();
-        int beforeHp = hero.getCurrentHealth();
-
-        hero.applyDamage(damage);
-
-        log.add("[효과] 영웅 \"" + hero.getName() + "\" 에게 " + damage + " 의 직통 피해");
-        log.add(" -> 체력: " + beforeHp + " -> " + hero.getCurrentHealth());
-
-        if (hero.isDead()) {
-            log.add("[효과 결과] 영웅 \"" + hero.getName() + "\" 이(가) 쓰러졌습니다!");
-        }
-    }
-
-    private void handleDamageToMonster(cardEffect effect,
-                                       PlayerBattleState targetOwner,
-                                       TargetType targetType,
-                                       int targetIndex,
-                                       BattleLog log) {
-
-        if (targetType != TargetType.UNIT) {
-            log.add("[효과 실패] DAMAGE_TO_MONSTER 는 유닛(TargetType.UNIT)을 대상으로 해야 합니다.");
-            return;
-        }
-
-        List<UnitState> board = targetOwner.getBoard();
-        if (targetIndex < 0 || targetIndex >= board.size()) {
-            log.add("[효과 실패] DAMAGE_TO_MONSTER 대상 인덱스가 잘못되었습니다.");
-            return;
-        }
-
-        UnitState target = board.get(targetIndex);
-        int damage = effect.getValue();
-        int beforeHp = target.getCurrentHealth();
-        target.applyDamage(damage);
-
-        log.add("[효과] \"" + target.getName() + "\" 에게 " + damage +
-                " 피해 (" + beforeHp + " -> " + target.getCurrentHealth() + ")");
-
-        if (target.isDead()) {
-            board.remove(targetIndex);
-            log.add("[효과 결과] \"" + target.getName() + "\" 이(가) 파괴되었습니다.");
-        }
-    }
 }
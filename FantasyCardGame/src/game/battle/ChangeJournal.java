@@ -0,0 +1,197 @@
+package game.battle;
+
+import game.card.card;
+
+import java.util.Arrays;
+
+/**
+ * GameState 에 일어난 상태 변경을 되돌릴 수 있도록 기록하는 변경 일지입니다.
+ *
+ * GameState.setJournal(journal) 로 연결하면 CardExecutor / CombatEngine / TurnManager 가
+ * 일으키는 모든 변경(마나, 체력, 필드 추가/제거, 손패, 덱, 피로, 턴 정보, 상태이상 등)이
+ * "변경 전 값"과 함께 이 일지에 쌓입니다.
+ *
+ * 탐색형 AI 는 상태를 복사하지 않고 다음처럼 사용할 수 있습니다.
+ *
+ *   int mark = journal.mark();
+ *   combatEngine.attack(...);      // 한 수 진행
+ *   ... 평가 ...
+ *   journal.rollbackTo(mark);      // 정확히 원래 상태로 복귀
+ *
+ * 기록은 병렬 배열(ops/targets/values/refs)에 쌓이므로 항목마다 객체를 만들지 않습니다.
+ * 덱 셔플(shuffleDeck)과 PackedGameState.restoreInto 같은 일괄 변경은 기록하지 않습니다.
+ */
+public final class ChangeJournal {
+
+    // ---- 변경 종류 ----------------------------------------------------------
+
+    static final int GAME_SIDE = 0;
+    static final int GAME_TURN_NUMBER = 1;
+    static final int GAME_PHASE = 2;
+    static final int GAME_TURN_START = 3;
+
+    static final int PLAYER_MAX_MANA = 10;
+    static final int PLAYER_MANA = 11;
+    static final int PLAYER_FATIGUE = 12;
+    static final int PLAYER_HERO_POWER = 13;
+
+    static final int BOARD_INSERT = 20;
+    static final int BOARD_REMOVE = 21;
+    static final int HAND_INSERT = 22;
+    static final int HAND_REMOVE = 23;
+    static final int DECK_INSERT = 24;
+    static final int DECK_REMOVE = 25;
+
+    static final int HERO_HEALTH = 30;
+    static final int HERO_STATUS = 31;
+
+    static final int UNIT_ATTACK = 40;
+    static final int UNIT_MAX_HEALTH = 41;
+    static final int UNIT_HEALTH = 42;
+    static final int UNIT_TAUNT = 43;
+    static final int UNIT_CHARGE = 44;
+    static final int UNIT_ATTACKS = 45;
+    static final int UNIT_SUMMONED = 46;
+    static final int UNIT_STATUS = 47;
+
+    static final int STATUS_SCHEDULE = 50;
+    static final int STATUS_DRAIN = 51;
+
+    private int[] ops;
+    private Object[] targets;
+    private long[] values;
+    private Object[] refs;
+    private int size;
+
+    public ChangeJournal() {
+        this(256);
+    }
+
+    public ChangeJournal(int initialCapacity) {
+        int cap = Math.max(16, initialCapacity);
+        this.ops = new int[cap];
+        this.targets = new Object[cap];
+        this.values = new long[cap];
+        this.refs = new Object[cap];
+    }
+
+    /** 현재 위치를 반환합니다. rollbackTo 에 넘겨서 이 시점으로 되돌릴 수 있습니다. */
+    public int mark() {
+        return size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * mark 이후에 기록된 변경을 최근 것부터 거꾸로 되돌립니다.
+     */
+    public void rollbackTo(int mark) {
+        if (mark < 0 || mark > size) {
+            throw new IllegalArgumentException("잘못된 journal 위치입니다: " + mark + " (size=" + size + ")");
+        }
+        while (size > mark) {
+            size--;
+            undo(ops[size], targets[size], values[size], refs[size]);
+            targets[size] = null;
+            refs[size] = null;
+        }
+    }
+
+    /** 되돌리지 않고 기록만 모두 비웁니다. (현재 상태를 확정) */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            targets[i] = null;
+            refs[i] = null;
+        }
+        size = 0;
+    }
+
+    // ---- 기록 (state 클래스에서 호출) ---------------------------------------
+
+    void record(int op, Object target, long oldValue) {
+        record(op, target, oldValue, null);
+    }
+
+    void record(int op, Object target, long value, Object ref) {
+        if (size == ops.length) grow();
+        ops[size] = op;
+        targets[size] = target;
+        values[size] = value;
+        refs[size] = ref;
+        size++;
+    }
+
+    private void grow() {
+        int cap = ops.length * 2;
+        ops = Arrays.copyOf(ops, cap);
+        targets = Arrays.copyOf(targets, cap);
+        values = Arrays.copyOf(values, cap);
+        refs = Arrays.copyOf(refs, cap);
+    }
+
+    // ---- 되돌리기 -----------------------------------------------------------
+
+    private static void undo(int op, Object target, long value, Object ref) {
+        int v = (int) value;
+        switch (op) {
+            case GAME_SIDE:
+            case GAME_TURN_NUMBER:
+            case GAME_PHASE:
+            case GAME_TURN_START:
+                ((GameState) target).restore(op, value);
+                break;
+
+            case PLAYER_MAX_MANA:
+            case PLAYER_MANA:
+            case PLAYER_FATIGUE:
+            case PLAYER_HERO_POWER:
+                ((PlayerBattleState) target).restore(op, v);
+                break;
+
+            case BOARD_INSERT:
+                ((PlayerBattleState) target).undoBoardInsert(v);
+                break;
+            case BOARD_REMOVE:
+                ((PlayerBattleState) target).undoBoardRemove(v, (UnitState) ref);
+                break;
+            case HAND_INSERT:
+            case HAND_REMOVE:
+            case DECK_INSERT:
+            case DECK_REMOVE:
+                ((PlayerBattleState) target).undoCardMove(op, v, (card) ref);
+                break;
+
+            case HERO_HEALTH:
+                ((HeroState) target).restoreHealth(v);
+                break;
+            case HERO_STATUS:
+                ((HeroState) target).restoreStatus((int) (value >>> 32), v);
+                break;
+
+            case UNIT_ATTACK:
+            case UNIT_MAX_HEALTH:
+            case UNIT_HEALTH:
+            case UNIT_TAUNT:
+            case UNIT_CHARGE:
+            case UNIT_ATTACKS:
+            case UNIT_SUMMONED:
+                ((UnitState) target).restore(op, v);
+                break;
+            case UNIT_STATUS:
+                ((UnitState) target).restoreStatus((int) (value >>> 32), v);
+                break;
+
+            case STATUS_SCHEDULE:
+                ((StatusScheduler) target).undoSchedule(v);
+                break;
+            case STATUS_DRAIN:
+                ((StatusScheduler) target).undoDrain(v, ref);
+                break;
+
+            default:
+                throw new IllegalStateException("알 수 없는 journal 항목입니다: " + op);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package game.battle;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * 유닛 전투(유닛 → 유닛 / 유닛 → 영웅)를 처리합니다.
+ * 유닛은 필드 칸 번호(Board slot)로 가리키며, 유닛이 죽어도 다른 유닛의 칸 번호는 바뀌지 않습니다.
+ */
 public class CombatEngine {
 
     private final GameState gameState;
@@ -32,32 +33,50 @@ public class CombatEngine {
         if (targetType == TargetType.UNIT) {
             return unitAttackUnit(attackerSide, attackerIndex, targetIndex);
         }
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
         log.add("[공격 실패] targetType 이 NONE 입니다.");
         return log;
     }
 
+    /**
+     * 로그를 만들지 않고 공격이 가능한지만 검사합니다.
+     * attack(...) 이 "[공격 실패]" 없이 실행되는 경우에만 true 입니다.
+     */
+    public boolean canAttack(BattleSide attackerSide,
+                             int attackerIndex,
+                             TargetType targetType,
+                             int targetIndex) {
+        UnitState attacker = gameState.getPlayerState(attackerSide).getBoard().get(attackerIndex);
+        if (attacker == null || !attacker.canAttack()) return false;
+
+        PlayerBattleState defState = gameState.getPlayerState(attackerSide.getOpponent());
+        if (targetType == TargetType.HERO) {
+            return !hasTauntUnit(defState);
+        }
+        if (targetType == TargetType.UNIT) {
+            UnitState defender = defState.getBoard().get(targetIndex);
+            return defender != null && isValidTauntTarget(defState, defender);
+        }
+        return false;
+    }
+
     public BattleLog unitAttackUnit(BattleSide attackerSide,
                                     int attackerIndex,
                                     int defenderIndex) {
 
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
         PlayerBattleState atkState = gameState.getPlayerState(attackerSide);
         PlayerBattleState defState = gameState.getPlayerState(attackerSide.getOpponent());
 
-        List<UnitState> atkBoard = atkState.getBoard();
-        List<UnitState> defBoard = defState.getBoard();
+        UnitState attacker = atkState.getBoard().get(attackerIndex);
+        UnitState defender = defState.getBoard().get(defenderIndex);
 
-        if (attackerIndex < 0 || attackerIndex >= atkBoard.size()
-                || defenderIndex < 0 || defenderIndex >= defBoard.size()) {
+        if (attacker == null || defender == null) {
             log.add("[공격 실패] 잘못된 유닛 인덱스입니다.");
             return log;
         }
 
-        UnitState attacker = atkBoard.get(attackerIndex);
-        UnitState defender = defBoard.get(defenderIndex);
-
         if (!canUnitAttack(attacker, log)) {
             return log;
         }
@@ -67,11 +86,16 @@ public class CombatEngine {
             return log;
         }
 
+        ActionRecorder recorder = gameState.getActionRecorder();
+        if (recorder != null) recorder.unitAttacked(attackerSide, attackerIndex, TargetType.UNIT, defenderIndex);
+
         int damageToDef = damageCalculator.calculateUnitToUnitDamage(attacker, defender);
         int damageToAtk = damageCalculator.calculateUnitToUnitDamage(defender, attacker);
 
-        log.add("[전투] \"" + attacker.getName() + "\" 이(가) \"" +
-                defender.getName() + "\" 을(를) 공격합니다!");
+        if (log.isEnabled()) {
+            log.add("[전투] \"" + attacker.getName() + "\" 이(가) \"" +
+                    defender.getName() + "\" 을(를) 공격합니다!");
+        }
 
         int defBefore = defender.getCurrentHealth();
         int atkBefore = attacker.getCurrentHealth();
@@ -79,41 +103,56 @@ public class CombatEngine {
         defender.applyDamage(damageToDef);
         attacker.applyDamage(damageToAtk);
 
-        log.add(" -> " + defender.getName() + " 체력: " + defBefore +
-                " -> " + defender.getCurrentHealth());
-        log.add(" -> " + attacker.getName() + " 체력: " + atkBefore +
-                " -> " + attacker.getCurrentHealth());
+        if (log.isEnabled()) {
+            log.add(" -> " + defender.getName() + " 체력: " + defBefore +
+                    " -> " + defender.getCurrentHealth());
+            log.add(" -> " + attacker.getName() + " 체력: " + atkBefore +
+                    " -> " + attacker.getCurrentHealth());
+        }
 
         attacker.incrementAttacksThisTurn();
 
+        BattleSide defenderSide = attackerSide.getOpponent();
+        BattleEventBus events = gameState.activeEvents();
+        if (events != null) {
+            events.publish(new BattleEvent.DamageDealt(defenderSide, defenderIndex, damageToDef,
+                    defBefore, defender.getCurrentHealth()));
+            events.publish(new BattleEvent.DamageDealt(attackerSide, attackerIndex, damageToAtk,
+                    atkBefore, attacker.getCurrentHealth()));
+        }
+
         if (defender.isDead()) {
-            log.add("[전투 결과] " + defender.getName() + " 이(가) 파괴되었습니다.");
-            defBoard.remove(defenderIndex);
+            if (log.isEnabled()) log.add("[전투 결과] " + defender.getName() + " 이(가) 파괴되었습니다.");
+            defState.removeUnitAt(defenderIndex);
+            if (events != null) events.publish(new BattleEvent.UnitDied(defenderSide, defender.getBaseCard(), defenderIndex));
         }
         if (attacker.isDead()) {
-            log.add("[전투 결과] " + attacker.getName() + " 이(가) 파괴되었습니다.");
-            atkBoard.remove(attackerIndex);
+            if (log.isEnabled()) log.add("[전투 결과] " + attacker.getName() + " 이(가) 파괴되었습니다.");
+            atkState.removeUnitAt(attackerIndex);
+            if (events != null) events.publish(new BattleEvent.UnitDied(attackerSide, attacker.getBaseCard(), attackerIndex));
         }
 
+        // 로그/이벤트를 다 만든 뒤에 재사용 풀로 반환
+        if (defender.isDead()) gameState.recycleDeadUnit(defender);
+        if (attacker.isDead()) gameState.recycleDeadUnit(attacker);
+
         return log;
     }
 
     public BattleLog unitAttackHero(BattleSide attackerSide,
                                     int attackerIndex) {
 
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
         PlayerBattleState atkState = gameState.getPlayerState(attackerSide);
         PlayerBattleState defState = gameState.getPlayerState(attackerSide.getOpponent());
 
-        List<UnitState> atkBoard = atkState.getBoard();
-        if (attackerIndex < 0 || attackerIndex >= atkBoard.size()) {
+        UnitState attacker = atkState.getBoard().get(attackerIndex);
+        if (attacker == null) {
             log.add("[공격 실패] 잘못된 유닛 인덱스입니다.");
             return log;
         }
 
-        UnitState attacker = atkBoard.get(attackerIndex);
-
         if (!canUnitAttack(attacker, log)) {
             return log;
         }
@@ -123,22 +162,34 @@ public class CombatEngine {
             return log;
         }
 
+        ActionRecorder recorder = gameState.getActionRecorder();
+        if (recorder != null) recorder.unitAttacked(attackerSide, attackerIndex, TargetType.HERO, -1);
+
         HeroState hero = defState.getHero();
 
         int damage = damageCalculator.calculateUnitToHeroDamage(attacker, hero);
         int beforeHp = hero.getCurrentHealth();
 
-        log.add("[전투] \"" + attacker.getName() + "\" 이(가) 적 영웅 \"" +
-                hero.getName() + "\" 을(를) 공격합니다! (" + damage + " 피해)");
+        if (log.isEnabled()) {
+            log.add("[전투] \"" + attacker.getName() + "\" 이(가) 적 영웅 \"" +
+                    hero.getName() + "\" 을(를) 공격합니다! (" + damage + " 피해)");
+        }
 
         hero.applyDamage(damage);
 
-        log.add(" -> 영웅 체력: " + beforeHp + " -> " + hero.getCurrentHealth());
+        if (log.isEnabled()) log.add(" -> 영웅 체력: " + beforeHp + " -> " + hero.getCurrentHealth());
 
         attacker.incrementAttacksThisTurn();
 
+        BattleEventBus events = gameState.activeEvents();
+        if (events != null) {
+            events.publish(new BattleEvent.DamageDealt(attackerSide.getOpponent(), BattleEvent.HERO, damage,
+                    beforeHp, hero.getCurrentHealth()));
+        }
+
         if (hero.isDead()) {
-            log.add("[전투 결과] 영웅 " + hero.getName() + " 이(가) 쓰러졌습니다!");
+            if (log.isEnabled()) log.add("[전투 결과] 영웅 " + hero.getName() + " 이(가) 쓰러졌습니다!");
+            if (events != null) events.publish(new BattleEvent.HeroDied(attackerSide.getOpponent()));
         }
 
         return log;
@@ -154,30 +205,30 @@ public class CombatEngine {
             return false;
         }
         if (attacker.getAttacksThisTurn() >= 1) {
-            log.add("[공격 실패] " + attacker.getName() + " 은(는) 이번 턴에 더 이상 공격할 수 없습니다.");
+            if (log.isEnabled()) log.add("[공격 실패] " + attacker.getName() + " 은(는) 이번 턴에 더 이상 공격할 수 없습니다.");
+            return false;
+        }
+        if (attacker.isStunned()) {
+            if (log.isEnabled()) log.add("[공격 실패] " + attacker.getName() + " 은(는) 기절 상태입니다.");
             return false;
         }
         if (attacker.isSummonedThisTurn() && !attacker.isCharge()) {
-            log.add("[공격 실패] " + attacker.getName() + " 은(는) 소환된 턴에는 공격할 수 없습니다.");
+            if (log.isEnabled()) log.add("[공격 실패] " + attacker.getName() + " 은(는) 소환된 턴에는 공격할 수 없습니다.");
             return false;
         }
         if (attacker.getAttack() <= 0) {
-            log.add("[공격 실패] " + attacker.getName() + " 은(는) 공격력이 0 입니다.");
+            if (log.isEnabled()) log.add("[공격 실패] " + attacker.getName() + " 은(는) 공격력이 0 입니다.");
             return false;
         }
         return true;
     }
 
-    private boolean hasTauntUnit(PlayerBattleState state) {
-        return state.getBoard().stream().anyMatch(UnitState::isTaunt);
+    static boolean hasTauntUnit(PlayerBattleState state) {
+        return state.hasTauntUnit();
     }
 
-    private boolean isValidTauntTarget(PlayerBattleState defenderState, UnitState target) {
-        List<UnitState> taunts = defenderState.getBoard().stream()
-                .filter(UnitState::isTaunt)
-                .collect(Collectors.toList());
-
-        if (taunts.isEmpty()) return true;
+    private static boolean isValidTauntTarget(PlayerBattleState defenderState, UnitState target) {
+        if (!hasTauntUnit(defenderState)) return true;
         return target != null && target.isTaunt();
     }
 }
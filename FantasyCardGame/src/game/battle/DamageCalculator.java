@@ -3,7 +3,8 @@ package game.battle;
 /**
  * 피해량 계산
  *
- * 기본 구현(DefaultDamageCalculator)은 단순히 공격력 그대로 적용
+ * 기본 구현(DefaultDamageCalculator)은 GameState 의 DamageModifiers 로 만든
+ * DamageProfile 을 적용 (수정자가 없으면 공격력 그대로)
  */
 public interface DamageCalculator {
 
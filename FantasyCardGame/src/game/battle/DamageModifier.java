@@ -0,0 +1,19 @@
+package game.battle;
+
+/**
+ * 피해 수정자 하나입니다. (방어도, 보호막, 속성, 난이도 배율 등)
+ *
+ * 공격할 때마다 불리는 것이 아니라, 유닛/영웅의 상태가 바뀐 뒤 처음 공격에 참여할 때
+ * 한 번 불려서 DamageProfile 에 값을 쌓습니다. 그래서 결과는 유닛의 카드, 도발, 상태이상,
+ * 그리고 진영에만 의존해야 합니다. (체력/공격력이 바뀌어도 다시 불리지 않습니다)
+ */
+@FunctionalInterface
+public interface DamageModifier {
+
+    /**
+     * @param profile 값을 쌓을 곳
+     * @param side    유닛/영웅의 진영
+     * @param unit    대상 유닛 (영웅이면 null)
+     */
+    void apply(DamageProfile.Builder profile, BattleSide side, UnitState unit);
+}
@@ -0,0 +1,113 @@
+package game.battle;
+
+import game.card.ElementType;
+
+import java.util.Arrays;
+
+/**
+ * 전투 하나에 걸린 피해 수정자 목록입니다. (불변, GameState.setDamageModifiers 로 연결)
+ *
+ * 수정자는 앞에서부터 차례로 DamageProfile 에 값을 쌓습니다.
+ * 만든 프로필은 UnitState / PlayerBattleState 가 들고 있다가 관련 상태가 바뀔 때만 다시 만듭니다.
+ *
+ * 사용 예:
+ * <pre>
+ * DamageModifiers mods = DamageModifiers.defaults()
+ *         .with((p, side, unit) -> { if (side == BattleSide.ENEMY) p.scaleOutgoing(110); });
+ * state.setDamageModifiers(mods);
+ * </pre>
+ */
+public final class DamageModifiers {
+
+    /**
+     * 카드 태그를 읽는 기본 수정자입니다. (대소문자 무시)
+     * <pre>
+     * FIRE / WATER / NATURE / LIGHT / DARK   공격 속성
+     * RESIST:속성                             그 속성 피해 절반
+     * WEAK:속성                               그 속성 피해 두 배
+     * ARMOR:n                                 받는 피해 n 감소
+     * SHIELD:n                                n 이하의 피해는 막아 냄
+     * </pre>
+     * 모르는 태그(BASIC, TANK 등)는 무시합니다.
+     */
+    public static final DamageModifier CARD_TAGS = (profile, side, unit) -> {
+        if (unit == null) return;
+        for (String tag : unit.getBaseCard().getTags()) {
+            applyTag(profile, tag);
+        }
+    };
+
+    /** 수정자가 없는 목록. 피해는 공격력 그대로입니다. */
+    public static final DamageModifiers NONE = new DamageModifiers(new DamageModifier[0]);
+
+    private static final DamageModifiers DEFAULTS = NONE.with(CARD_TAGS);
+
+    private final DamageModifier[] modifiers;
+
+    private DamageModifiers(DamageModifier[] modifiers) {
+        this.modifiers = modifiers;
+    }
+
+    /** 카드 태그 수정자만 들어 있는 기본 목록 */
+    public static DamageModifiers defaults() {
+        return DEFAULTS;
+    }
+
+    /** 끝에 modifier 를 붙인 새 목록을 반환합니다. */
+    public DamageModifiers with(DamageModifier modifier) {
+        if (modifier == null) throw new IllegalArgumentException("DamageModifier 는 null 일 수 없습니다.");
+        DamageModifier[] next = Arrays.copyOf(modifiers, modifiers.length + 1);
+        next[modifiers.length] = modifier;
+        return new DamageModifiers(next);
+    }
+
+    public int size() {
+        return modifiers.length;
+    }
+
+    /** unit(영웅이면 null)의 프로필을 만듭니다. */
+    public DamageProfile resolve(BattleSide side, UnitState unit) {
+        if (modifiers.length == 0) return DamageProfile.NONE;
+        DamageProfile.Builder builder = new DamageProfile.Builder();
+        for (DamageModifier m : modifiers) {
+            m.apply(builder, side, unit);
+        }
+        return builder.build();
+    }
+
+    private static void applyTag(DamageProfile.Builder profile, String tag) {
+        int colon = tag.indexOf(':');
+        if (colon < 0) {
+            ElementType element = ElementType.fromTag(tag.trim());
+            if (element != null) profile.addElements(element.bit());
+            return;
+        }
+        String key = tag.substring(0, colon).trim();
+        String value = tag.substring(colon + 1).trim();
+        if (key.equalsIgnoreCase("RESIST") || key.equalsIgnoreCase("WEAK")) {
+            ElementType element = ElementType.fromTag(value);
+            if (element == null) throw new IllegalArgumentException("알 수 없는 속성 태그입니다: " + tag);
+            if (key.equalsIgnoreCase("RESIST")) profile.addResists(element.bit());
+            else profile.addWeaknesses(element.bit());
+        } else if (key.equalsIgnoreCase("ARMOR")) {
+            profile.addArmor(amount(tag, value));
+        } else if (key.equalsIgnoreCase("SHIELD")) {
+            profile.addShield(amount(tag, value));
+        }
+    }
+
+    private static int amount(String tag, String value) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n < 0) throw new IllegalArgumentException("태그 값은 음수일 수 없습니다: " + tag);
+            return n;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("태그 값이 숫자가 아닙니다: " + tag, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DamageModifiers{size=" + modifiers.length + "}";
+    }
+}
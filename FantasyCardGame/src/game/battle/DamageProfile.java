@@ -0,0 +1,136 @@
+package game.battle;
+
+/**
+ * 유닛(또는 영웅) 하나에 걸린 피해 수정자들을 미리 합쳐 둔 값입니다.
+ *
+ * DamageModifiers 의 수정자들을 유닛마다 한 번만 돌려서 이 값을 만들고(UnitState 가 캐시),
+ * 공격할 때는 hit(...) 의 정수 계산만 합니다. 공격마다 수정자 목록을 돌지 않습니다.
+ *
+ * 적용 순서 (hit)
+ *   1. 공격자: (공격력 + outgoingBonus) × outgoingPercent / 100  (반올림)
+ *   2. 속성:   공격 속성이 방어자의 약점이면 × 2, 내성이면 ÷ 2
+ *   3. 방어자: armor 만큼 감소
+ *   4. 방어자: 남은 피해가 shield 이하이면 0 (보호막이 막아 냄)
+ * 수정자가 하나도 없으면(NONE) 공격력 그대로입니다.
+ */
+public final class DamageProfile {
+
+    /** 아무 수정도 없는 프로필 */
+    public static final DamageProfile NONE = new Builder().build();
+
+    private final int outgoingPercent;
+    private final int outgoingBonus;
+    private final int armor;
+    private final int shield;
+    private final int elements;
+    private final int resists;
+    private final int weaknesses;
+
+    private DamageProfile(Builder b) {
+        this.outgoingPercent = b.outgoingPercent;
+        this.outgoingBonus = b.outgoingBonus;
+        this.armor = b.armor;
+        this.shield = b.shield;
+        this.elements = b.elements;
+        this.resists = b.resists;
+        this.weaknesses = b.weaknesses;
+    }
+
+    /**
+     * attack 공격력으로 attacker 프로필을 가진 쪽이 defender 프로필을 가진 쪽을 때릴 때의 피해량.
+     */
+    public static int hit(int attack, DamageProfile attacker, DamageProfile defender) {
+        if (attack <= 0) return 0;
+        if (attacker == NONE && defender == NONE) return attack;
+
+        long damage = attack + attacker.outgoingBonus;
+        if (attacker.outgoingPercent != 100) damage = (damage * attacker.outgoingPercent + 50) / 100;
+        if ((attacker.elements & defender.weaknesses) != 0) damage *= 2;
+        if ((attacker.elements & defender.resists) != 0) damage /= 2;
+        damage -= defender.armor;
+        if (damage <= defender.shield) return 0;
+        return (int) Math.min(Integer.MAX_VALUE, damage);
+    }
+
+    public int getOutgoingPercent() { return outgoingPercent; }
+    public int getOutgoingBonus() { return outgoingBonus; }
+    public int getArmor() { return armor; }
+    public int getShield() { return shield; }
+    /** 공격 속성 비트 (ElementType.bit) */
+    public int getElements() { return elements; }
+    public int getResists() { return resists; }
+    public int getWeaknesses() { return weaknesses; }
+
+    @Override
+    public String toString() {
+        return "DamageProfile{out=" + outgoingPercent + "%+" + outgoingBonus + ", armor=" + armor +
+                ", shield=" + shield + ", elements=" + elements + ", resists=" + resists +
+                ", weak=" + weaknesses + "}";
+    }
+
+    /**
+     * DamageModifier 들이 차례로 값을 쌓는 곳입니다.
+     * 배율은 곱해지고, 나머지 수치는 더해지며, 속성 비트는 합쳐집니다.
+     */
+    public static final class Builder {
+        private int outgoingPercent = 100;
+        private int outgoingBonus;
+        private int armor;
+        private int shield;
+        private int elements;
+        private int resists;
+        private int weaknesses;
+
+        Builder() {}
+
+        /** 주는 피해 배율 (퍼센트, 곱해짐) */
+        public Builder scaleOutgoing(int percent) {
+            if (percent < 0) throw new IllegalArgumentException("피해 배율은 음수일 수 없습니다: " + percent);
+            this.outgoingPercent = (int) Math.min(Integer.MAX_VALUE, (long) outgoingPercent * percent / 100);
+            return this;
+        }
+
+        /** 주는 피해에 더하는 값 */
+        public Builder addOutgoing(int bonus) {
+            this.outgoingBonus += bonus;
+            return this;
+        }
+
+        /** 받는 피해를 줄이는 값 */
+        public Builder addArmor(int armor) {
+            this.armor += armor;
+            return this;
+        }
+
+        /** 이 값 이하의 피해는 막아 냄 */
+        public Builder addShield(int shield) {
+            this.shield += shield;
+            return this;
+        }
+
+        public Builder addElements(int bits) {
+            this.elements |= bits;
+            return this;
+        }
+
+        public Builder addResists(int bits) {
+            this.resists |= bits;
+            return this;
+        }
+
+        public Builder addWeaknesses(int bits) {
+            this.weaknesses |= bits;
+            return this;
+        }
+
+        private boolean isNeutral() {
+            return outgoingPercent == 100 && outgoingBonus == 0 && armor == 0 && shield == 0
+                    && elements == 0 && resists == 0 && weaknesses == 0;
+        }
+
+        /** 아무것도 바뀌지 않았으면 NONE 을 그대로 돌려줍니다. (hit 의 빠른 길) */
+        DamageProfile build() {
+            return isNeutral() && NONE != null ? NONE : new DamageProfile(this);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package game.battle;
 
 /**
- * 가장 단순한 피해량 계산
- * - 유닛의 공격력 그대로 피해로 사용
+ * 기본 피해량 계산
+ * - 공격자/방어자의 DamageProfile(방어도, 보호막, 속성, 난이도 배율)을 적용
+ * - 프로필은 유닛/영웅이 캐시해 두므로 여기서는 정수 계산만 함
+ * - 수정자가 없으면 유닛의 공격력 그대로 피해로 사용
  */
 public class DefaultDamageCalculator implements DamageCalculator {
 
@@ -11,7 +13,7 @@ public class DefaultDamageCalculator implements DamageCalculator {
         if (attacker == null || defender == null) {
             return 0;
         }
-        return Math.max(0, attacker.getAttack());
+        return DamageProfile.hit(attacker.getAttack(), attacker.getDamageProfile(), defender.getDamageProfile());
     }
 
     @Override
@@ -19,6 +21,6 @@ public class DefaultDamageCalculator implements DamageCalculator {
         if (attacker == null || hero == null) {
             return 0;
         }
-        return Math.max(0, attacker.getAttack());
+        return DamageProfile.hit(attacker.getAttack(), attacker.getDamageProfile(), hero.getDamageProfile());
     }
 }
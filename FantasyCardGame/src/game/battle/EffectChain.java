@@ -0,0 +1,35 @@
+package game.battle;
+
+import game.card.cardEffect;
+
+/**
+ * 카드 한 장의 효과 처리 순서를 미리 풀어 둔 목록입니다.
+ * EffectRegistry.chainFor 가 카드마다 한 번 만들어 두며, 카드를 낼 때는
+ * 효과마다 등록된 EffectHandler 를 바로 호출합니다. (EffectType 분기 없음)
+ */
+public final class EffectChain {
+
+    static final EffectChain EMPTY = new EffectChain(new EffectHandler[0], new cardEffect[0]);
+
+    private final EffectHandler[] handlers;
+    private final cardEffect[] effects;
+
+    EffectChain(EffectHandler[] handlers, cardEffect[] effects) {
+        this.handlers = handlers;
+        this.effects = effects;
+    }
+
+    public int size() {
+        return handlers.length;
+    }
+
+    public boolean isEmpty() {
+        return handlers.length == 0;
+    }
+
+    void run(EffectContext ctx) {
+        for (int i = 0; i < handlers.length; i++) {
+            handlers[i].apply(ctx, effects[i]);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package game.battle;
+
+import game.card.StatusType;
+import game.card.card;
+import game.card.cardEffect;
+
+/**
+ * 카드 한 장의 효과를 처리하는 동안 EffectHandler 들이 공유하는 정보입니다.
+ *
+ * CardExecutor 가 하나를 만들어 두고 카드를 낼 때마다 값만 바꿔서 재사용합니다.
+ * (AI 탐색에서 카드를 낼 때마다 객체를 만들지 않도록)
+ *
+ * 피해/사망 처리처럼 여러 효과가 함께 쓰는 규칙은 여기 도우미 메서드로 모아 둡니다.
+ */
+public final class EffectContext {
+
+    private final GameState gameState;
+
+    private BattleSide casterSide;
+    private BattleSide targetSide;
+    private TargetType targetType;
+    private int targetIndex;
+    private UnitState self;
+    private card sourceCard;
+    private BattleLog log;
+
+    EffectContext(GameState gameState) {
+        this.gameState = gameState;
+    }
+
+    void reset(BattleSide casterSide, BattleSide targetSide, TargetType targetType, int targetIndex,
+               UnitState self, card sourceCard, BattleLog log) {
+        this.casterSide = casterSide;
+        this.targetSide = targetSide;
+        this.targetType = targetType;
+        this.targetIndex = targetIndex;
+        this.self = self;
+        this.sourceCard = sourceCard;
+        this.log = log;
+    }
+
+    /** 처리가 끝나면 유닛/로그를 붙잡고 있지 않도록 비웁니다. */
+    void clear() {
+        reset(null, null, null, -1, null, null, null);
+    }
+
+    // ---- 조회 ---------------------------------------------------------------
+
+    public GameState getGameState() { return gameState; }
+
+    /** 카드를 낸 쪽 */
+    public BattleSide getCasterSide() { return casterSide; }
+
+    public PlayerBattleState getCaster() { return gameState.getPlayerState(casterSide); }
+
+    /** 효과 대상 쪽 (보통 상대) */
+    public BattleSide getTargetSide() { return targetSide; }
+
+    public PlayerBattleState getTarget() { return gameState.getPlayerState(targetSide); }
+
+    public TargetType getTargetType() { return targetType; }
+
+    /** TargetType.UNIT 일 때 대상 필드 인덱스 */
+    public int getTargetIndex() { return targetIndex; }
+
+    /** 이 카드로 방금 소환된 유닛 */
+    public UnitState getSelf() { return self; }
+
+    public card getSourceCard() { return sourceCard; }
+
+    public BattleLog getLog() { return log; }
+
+    // ---- 공통 규칙 ----------------------------------------------------------
+
+    /** 구독자가 있을 때만 이벤트를 발행합니다. */
+    public void publish(BattleEvent event) {
+        BattleEventBus events = gameState.activeEvents();
+        if (events != null) events.publish(event);
+    }
+
+    /** 구독자가 있는지 (이벤트 객체를 만들기 전에 확인용) */
+    public boolean hasEventSubscribers() {
+        return gameState.activeEvents() != null;
+    }
+
+    /**
+     * side 영웅에게 피해를 주고, 로그/이벤트/사망 처리를 합니다.
+     */
+    public void damageHero(BattleSide side, int damage, String reason) {
+        HeroState hero = gameState.getPlayerState(side).getHero();
+        int beforeHp = hero.getCurrentHealth();
+        hero.applyDamage(damage);
+
+        if (log.isEnabled()) {
+            log.add("[효과] 영웅 \"" + hero.getName() + "\" 에게 " + damage + " 의 " + reason);
+            log.add(" -> 체력: " + beforeHp + " -> " + hero.getCurrentHealth());
+        }
+        if (hasEventSubscribers()) {
+            publish(new BattleEvent.DamageDealt(side, BattleEvent.HERO, damage, beforeHp, hero.getCurrentHealth()));
+        }
+
+        if (hero.isDead()) {
+            if (log.isEnabled()) log.add("[효과 결과] 영웅 \"" + hero.getName() + "\" 이(가) 쓰러졌습니다!");
+            if (hasEventSubscribers()) publish(new BattleEvent.HeroDied(side));
+        }
+    }
+
+    /**
+     * side 필드 index 칸의 유닛에게 피해를 주고, 죽으면 필드에서 제거합니다.
+     * @return 유닛이 파괴되었으면 true
+     */
+    public boolean damageUnit(BattleSide side, int index, int damage) {
+        PlayerBattleState owner = gameState.getPlayerState(side);
+        UnitState target = owner.getBoard().get(index);
+        int beforeHp = target.getCurrentHealth();
+        target.applyDamage(damage);
+
+        if (log.isEnabled()) {
+            log.add("[효과] \"" + target.getName() + "\" 에게 " + damage +
+                    " 피해 (" + beforeHp + " -> " + target.getCurrentHealth() + ")");
+        }
+        if (hasEventSubscribers()) {
+            publish(new BattleEvent.DamageDealt(side, index, damage, beforeHp, target.getCurrentHealth()));
+        }
+
+        if (!target.isDead()) return false;
+        owner.removeUnitAt(index);
+        if (log.isEnabled()) log.add("[효과 결과] \"" + target.getName() + "\" 이(가) 파괴되었습니다.");
+        if (hasEventSubscribers()) publish(new BattleEvent.UnitDied(side, target.getBaseCard(), index));
+        gameState.recycleDeadUnit(target);
+        return true;
+    }
+
+    /**
+     * effect 에 붙은 상태이상을 side 의 slot 위치 유닛(BattleEvent.HERO 면 영웅)에게 겁니다.
+     * 상태가 없거나(NONE/TAUNT), 지속 턴이 0 이거나, 대상이 받을 수 없는 상태면 아무것도 하지 않습니다.
+     * @return 새로 걸렸거나 연장되었으면 true
+     */
+    public boolean applyStatus(BattleSide side, int slot, cardEffect effect) {
+        StatusType status = effect.getStatusType();
+        int duration = effect.getDuration();
+        if (!status.isDebuff() || duration <= 0) return false;
+
+        PlayerBattleState owner = gameState.getPlayerState(side);
+        boolean applied;
+        String name;
+        if (slot == BattleEvent.HERO) {
+            applied = owner.applyHeroStatus(status, duration);
+            name = "영웅 \"" + owner.getHero().getName() + "\"";
+        } else {
+            UnitState unit = owner.getBoard().get(slot);
+            applied = owner.applyStatus(unit, status, duration);
+            name = "\"" + unit.getName() + "\"";
+        }
+        if (!applied) return false;
+
+        if (log.isEnabled()) log.add("[상태] " + name + " 에게 " + status + " (" + duration + "턴)");
+        if (hasEventSubscribers()) publish(new BattleEvent.StatusChanged(side, slot, status, true));
+        return true;
+    }
+
+    /** side 필드의 모든 유닛에게 effect 의 상태이상을 겁니다. @return 걸린 유닛 수 */
+    public int applyStatusToBoard(BattleSide side, cardEffect effect) {
+        if (!effect.getStatusType().isDebuff() || effect.getDuration() <= 0) return 0;
+        int count = 0;
+        Board board = gameState.getPlayerState(side).getBoard();
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            if (applyStatus(side, Long.numberOfTrailingZeros(m), effect)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * side 필드의 모든 유닛 공격력/최대 체력을 바꿉니다. (버프/디버프 공통)
+     * 최대 체력이 늘면 현재 체력도 같이 늘고, 줄면 현재 체력이 새 최대치로 깎입니다. 최대 체력은 1 미만이 되지 않습니다.
+     * @return 바뀐 유닛 수
+     */
+    public int modifyBoardStats(BattleSide side, int attackDelta, int healthDelta) {
+        Board board = gameState.getPlayerState(side).getBoard();
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
+            UnitState u = board.get(i);
+            if (attackDelta != 0) u.setAttack(u.getAttack() + attackDelta);
+            if (healthDelta > 0) {
+                u.setMaxHealth(u.getMaxHealth() + healthDelta);
+                u.setCurrentHealth(u.getCurrentHealth() + healthDelta);
+            } else if (healthDelta < 0) {
+                u.setMaxHealth(u.getMaxHealth() + healthDelta);
+            }
+            if (hasEventSubscribers()) {
+                publish(new BattleEvent.UnitStatsChanged(side, i, u.getAttack(), u.getCurrentHealth(), u.getMaxHealth()));
+            }
+        }
+        return board.size();
+    }
+}
@@ -0,0 +1,20 @@
+package game.battle;
+
+import game.card.cardEffect;
+
+/**
+ * 카드 효과 한 종류(EffectType)를 실제로 적용하는 처리기입니다.
+ *
+ * EffectRegistry 에 EffectType 별로 하나씩 등록되며,
+ * 카드마다 미리 만들어 둔 EffectChain 이 효과 순서대로 바로 호출합니다.
+ * 새 효과를 추가할 때는 처리기를 만들어 등록만 하면 됩니다. (CardExecutor 수정 불필요)
+ */
+@FunctionalInterface
+public interface EffectHandler {
+
+    /**
+     * effect 를 ctx 의 전투 상황에 적용합니다.
+     * 대상이 잘못되어 적용할 수 없으면 로그만 남기고 돌아갑니다. (예외를 던지지 않음)
+     */
+    void apply(EffectContext ctx, cardEffect effect);
+}
@@ -0,0 +1,99 @@
+package game.battle;
+
+import game.card.cardEffect;
+
+/**
+ * EffectType 별 기본 처리기 모음입니다. EffectRegistry.defaults() 가 이것들을 등록합니다.
+ *
+ * - TAUNT                : 소환된 유닛에 도발 부여
+ * - DIRECT_ATTACK_PLAYER : 대상 영웅에게 value 피해
+ * - DAMAGE_TO_MONSTER    : 고른 대상 유닛(TargetType.UNIT)에게 value 피해
+ * - HEAL_PLAYER          : 아군 영웅 체력 value 회복 (최대 체력까지)
+ * - BUFF_ATTACK/DEFENSE  : 아군 필드의 모든 유닛(방금 소환된 유닛 포함) 공격력/체력 +value
+ * - DEBUFF_ATTACK/DEFENSE: 대상 필드의 모든 유닛 공격력/최대 체력 -value (체력은 1 아래로 내려가지 않음)
+ *
+ * 방어력(defense)은 이 게임에서 체력으로 쓰이므로 DEFENSE 버프/디버프는 체력을 바꿉니다.
+ *
+ * 효과에 상태이상(기절/중독/화상)과 지속 턴이 붙어 있으면 피해/디버프 대상에게 함께 겁니다.
+ * (직통 피해 → 대상 영웅, 유닛 피해 → 살아남은 대상 유닛, 디버프 → 대상 필드의 모든 유닛)
+ */
+public final class EffectHandlers {
+
+    private EffectHandlers() {}
+
+    public static final EffectHandler TAUNT = (ctx, effect) -> {
+        UnitState self = ctx.getSelf();
+        self.setTaunt(true);
+        BattleLog log = ctx.getLog();
+        if (log.isEnabled()) log.add("[효과] " + self.getName() + " 은(는) 도발(TAUNT)을 보유합니다.");
+    };
+
+    public static final EffectHandler DIRECT_ATTACK_PLAYER = (ctx, effect) -> {
+        int damage = effect.getValue();
+        if (damage > 0) {
+            ctx.damageHero(ctx.getTargetSide(), damage, "직통 피해");
+        } else {
+            ctx.getLog().add("[효과] DIRECT_ATTACK_PLAYER 값이 0 이하입니다. 피해 없음.");
+        }
+        if (!ctx.getTarget().getHero().isDead()) ctx.applyStatus(ctx.getTargetSide(), BattleEvent.HERO, effect);
+    };
+
+    public static final EffectHandler DAMAGE_TO_MONSTER = (ctx, effect) -> {
+        if (ctx.getTargetType() != TargetType.UNIT) {
+            ctx.getLog().add("[효과 실패] DAMAGE_TO_MONSTER 는 유닛(TargetType.UNIT)을 대상으로 해야 합니다.");
+            return;
+        }
+        int index = ctx.getTargetIndex();
+        if (!ctx.getTarget().getBoard().isOccupied(index)) {
+            ctx.getLog().add("[효과 실패] DAMAGE_TO_MONSTER 대상 인덱스가 잘못되었습니다.");
+            return;
+        }
+        if (!ctx.damageUnit(ctx.getTargetSide(), index, effect.getValue())) {
+            ctx.applyStatus(ctx.getTargetSide(), index, effect);
+        }
+    };
+
+    public static final EffectHandler HEAL_PLAYER = (ctx, effect) -> {
+        HeroState hero = ctx.getCaster().getHero();
+        int beforeHp = hero.getCurrentHealth();
+        int healed = hero.heal(effect.getValue());
+
+        BattleLog log = ctx.getLog();
+        if (log.isEnabled()) {
+            log.add("[효과] 영웅 \"" + hero.getName() + "\" 이(가) " + healed + " 회복 (" +
+                    beforeHp + " -> " + hero.getCurrentHealth() + ")");
+        }
+        if (healed > 0 && ctx.hasEventSubscribers()) {
+            ctx.publish(new BattleEvent.HeroHealed(ctx.getCasterSide(), healed, beforeHp, hero.getCurrentHealth()));
+        }
+    };
+
+    public static final EffectHandler BUFF_ATTACK = (ctx, effect) ->
+            modifyBoard(ctx, effect, ctx.getCasterSide(), effect.getValue(), 0, "공격력 +");
+
+    public static final EffectHandler BUFF_DEFENSE = (ctx, effect) ->
+            modifyBoard(ctx, effect, ctx.getCasterSide(), 0, effect.getValue(), "체력 +");
+
+    public static final EffectHandler DEBUFF_ATTACK = (ctx, effect) -> {
+        modifyBoard(ctx, effect, ctx.getTargetSide(), -effect.getValue(), 0, "공격력 -");
+        ctx.applyStatusToBoard(ctx.getTargetSide(), effect);
+    };
+
+    public static final EffectHandler DEBUFF_DEFENSE = (ctx, effect) -> {
+        modifyBoard(ctx, effect, ctx.getTargetSide(), 0, -effect.getValue(), "최대 체력 -");
+        ctx.applyStatusToBoard(ctx.getTargetSide(), effect);
+    };
+
+    private static void modifyBoard(EffectContext ctx, cardEffect effect, BattleSide side,
+                                    int attackDelta, int healthDelta, String what) {
+        BattleLog log = ctx.getLog();
+        if (effect.getValue() <= 0) {
+            log.add("[효과] " + effect.getType() + " 값이 0 이하입니다. 변화 없음.");
+            return;
+        }
+        int changed = ctx.modifyBoardStats(side, attackDelta, healthDelta);
+        if (log.isEnabled()) {
+            log.add("[효과] " + side + " 필드의 유닛 " + changed + " 마리 " + what + effect.getValue());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package game.battle;
+
+import game.card.CardRepository;
+import game.card.EffectType;
+import game.card.card;
+import game.card.cardEffect;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EffectType → EffectHandler 등록표와, 카드별로 미리 만든 EffectChain 캐시입니다.
+ *
+ * - 모든 EffectType 에 처리기가 있어야 합니다. (빠진 종류가 있으면 만들 때 예외)
+ * - 카탈로그(CardRepository) 카드의 체인은 처음 낼 때 한 번 만들어 서수 자리에 저장하고,
+ *   이후에는 그대로 꺼내 씁니다. 여러 스레드(시뮬레이터 워커)가 같이 써도 됩니다.
+ * - 등록표는 불변입니다. 처리기를 바꾸고 싶으면 with 로 새 등록표를 만드세요.
+ */
+public final class EffectRegistry {
+
+    private static final EffectRegistry DEFAULT = new EffectRegistry(defaultHandlers());
+
+    private final EnumMap<EffectType, EffectHandler> handlers;
+    private final AtomicReferenceArray<EffectChain> chains;
+
+    private EffectRegistry(EnumMap<EffectType, EffectHandler> handlers) {
+        for (EffectType type : EffectType.values()) {
+            if (handlers.get(type) == null) {
+                throw new IllegalArgumentException("처리기가 등록되지 않은 효과 종류입니다: " + type);
+            }
+        }
+        this.handlers = handlers;
+        this.chains = new AtomicReferenceArray<>(CardRepository.size());
+    }
+
+    private static EnumMap<EffectType, EffectHandler> defaultHandlers() {
+        EnumMap<EffectType, EffectHandler> map = new EnumMap<>(EffectType.class);
+        map.put(EffectType.TAUNT, EffectHandlers.TAUNT);
+        map.put(EffectType.DIRECT_ATTACK_PLAYER, EffectHandlers.DIRECT_ATTACK_PLAYER);
+        map.put(EffectType.DAMAGE_TO_MONSTER, EffectHandlers.DAMAGE_TO_MONSTER);
+        map.put(EffectType.HEAL_PLAYER, EffectHandlers.HEAL_PLAYER);
+        map.put(EffectType.BUFF_ATTACK, EffectHandlers.BUFF_ATTACK);
+        map.put(EffectType.BUFF_DEFENSE, EffectHandlers.BUFF_DEFENSE);
+        map.put(EffectType.DEBUFF_ATTACK, EffectHandlers.DEBUFF_ATTACK);
+        map.put(EffectType.DEBUFF_DEFENSE, EffectHandlers.DEBUFF_DEFENSE);
+        return map;
+    }
+
+    /** EffectHandlers 의 기본 처리기로 채운 등록표 (공유 인스턴스) */
+    public static EffectRegistry defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * type 의 처리기만 바꾼 새 등록표를 만듭니다. 체인 캐시는 새로 시작합니다.
+     */
+    public EffectRegistry with(EffectType type, EffectHandler handler) {
+        if (type == null || handler == null) {
+            throw new IllegalArgumentException("효과 종류와 처리기는 null 일 수 없습니다.");
+        }
+        EnumMap<EffectType, EffectHandler> copy = new EnumMap<>(handlers);
+        copy.put(type, handler);
+        return new EffectRegistry(copy);
+    }
+
+    public EffectHandler handlerFor(EffectType type) {
+        return handlers.get(type);
+    }
+
+    /**
+     * 카드의 효과 체인을 반환합니다. 카탈로그 카드는 한 번만 만들고,
+     * 카탈로그에 없는 카드(테스트용으로 직접 만든 카드 등)는 매번 만듭니다.
+     */
+    public EffectChain chainFor(card c) {
+        int ordinal = CardRepository.ordinalOf(c);
+        if (ordinal < 0 || ordinal >= chains.length() || CardRepository.findByOrdinal(ordinal) != c) {
+            return compile(c);
+        }
+        EffectChain chain = chains.get(ordinal);
+        if (chain == null) {
+            chain = compile(c);
+            if (!chains.compareAndSet(ordinal, null, chain)) chain = chains.get(ordinal);
+        }
+        return chain;
+    }
+
+    private EffectChain compile(card c) {
+        List<cardEffect> effects = c.getEffects();
+        if (effects.isEmpty()) return EffectChain.EMPTY;
+        EffectHandler[] hs = new EffectHandler[effects.size()];
+        cardEffect[] es = effects.toArray(new cardEffect[0]);
+        for (int i = 0; i < es.length; i++) hs[i] = handlers.get(es[i].getType());
+        return new EffectChain(hs, es);
+    }
+}
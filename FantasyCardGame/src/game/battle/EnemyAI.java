@@ -3,25 +3,39 @@ package game.battle;
 import game.card.EffectType;
 import game.card.card;
 
-import java.util.List;
-
 public class EnemyAI {
 
-    private final GameState gameState;
-    private final CardExecutor cardExecutor;
-    private final CombatEngine combatEngine;
+    protected final GameState gameState;
+    protected final CardExecutor cardExecutor;
+    protected final CombatEngine combatEngine;
+
+    /** 이 AI 가 조종하는 쪽 (기본 ENEMY, 시뮬레이션에서는 PLAYER 도 가능) */
+    protected final BattleSide side;
 
     public EnemyAI(GameState gameState) {
+        this(gameState, BattleSide.ENEMY);
+    }
+
+    public EnemyAI(GameState gameState, BattleSide side) {
+        if (side == null) throw new IllegalArgumentException("BattleSide 는 null 일 수 없습니다.");
         this.gameState = gameState;
         this.cardExecutor = new CardExecutor(gameState);
         this.combatEngine = new CombatEngine(gameState);
+        this.side = side;
     }
 
+    public BattleSide getSide() { return side; }
+
     public BattleLog playEnemyMainPhase() {
-        BattleLog log = new BattleLog();
+        return playMainPhase();
+    }
+
+    /** side 쪽의 메인 페이즈(카드 사용 + 공격)를 진행합니다. */
+    public BattleLog playMainPhase() {
+        BattleLog log = gameState.newLog();
 
         while (true) {
-            PlayerBattleState enemy = gameState.getPlayerState(BattleSide.ENEMY);
+            PlayerBattleState enemy = gameState.getPlayerState(side);
 
             if (enemy.getHand().isEmpty()) break;
             if (!enemy.canSummonMoreUnits()) break;
@@ -38,61 +52,55 @@ public class EnemyAI {
                     .anyMatch(e -> e.getType() == EffectType.DAMAGE_TO_MONSTER);
 
             if (needUnitTarget) {
-                List<UnitState> targets = gameState.getPlayerState(BattleSide.PLAYER).getBoard();
+                Board targets = gameState.getPlayerState(side.getOpponent()).getBoard();
                 if (!targets.isEmpty()) {
                     targetType = TargetType.UNIT;
                     targetIndex = indexOfLowestHp(targets);
                 }
             }
 
-            // AI도 "빈 자리"로 소환(그냥 끝에)
+            // AI도 "빈 자리"로 소환(가장 왼쪽 빈 칸)
             BattleLog one = cardExecutor.playCard(
-                    BattleSide.ENEMY, c,
-                    BattleSide.PLAYER,
+                    side, c,
+                    side.getOpponent(),
                     targetType, targetIndex,
                     Integer.MAX_VALUE
             );
 
-            merge(log, one);
+            log.append(one);
             if (gameState.isGameOver()) return log;
         }
 
-        merge(log, attackWithTrade());
+        log.append(attackWithTrade());
         return log;
     }
 
     private BattleLog attackWithTrade() {
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
-        PlayerBattleState enemy = gameState.getPlayerState(BattleSide.ENEMY);
+        Board board = gameState.getPlayerState(side).getBoard();
 
-        int i = 0;
-        while (i < enemy.getBoard().size()) {
+        // 유닛은 죽어도 칸이 바뀌지 않으므로, 시작 시점의 칸들을 차례로 보면 됩니다.
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
             if (gameState.isGameOver()) break;
 
-            UnitState attacker = enemy.getBoard().get(i);
-            if (!attacker.canAttack()) {
-                i++;
-                continue;
-            }
+            int i = Long.numberOfTrailingZeros(m);
+            UnitState attacker = board.get(i);
+            if (attacker == null || !attacker.canAttack()) continue;
 
-            PlayerBattleState player = gameState.getPlayerState(BattleSide.PLAYER);
+            PlayerBattleState player = gameState.getPlayerState(side.getOpponent());
 
-            int tauntIdx = firstTauntIndex(player.getBoard());
+            int tauntIdx = player.firstTauntIndex();
             if (tauntIdx >= 0) {
-                merge(log, combatEngine.unitAttackUnit(BattleSide.ENEMY, i, tauntIdx));
+                log.append(combatEngine.unitAttackUnit(side, i, tauntIdx));
             } else {
                 Integer tradeIdx = findBestTradeTargetIndex(attacker, player.getBoard());
                 if (tradeIdx != null) {
-                    merge(log, combatEngine.unitAttackUnit(BattleSide.ENEMY, i, tradeIdx));
+                    log.append(combatEngine.unitAttackUnit(side, i, tradeIdx));
                 } else {
-                    merge(log, combatEngine.unitAttackHero(BattleSide.ENEMY, i));
+                    log.append(combatEngine.unitAttackHero(side, i));
                 }
             }
-
-            if (i < enemy.getBoard().size() && enemy.getBoard().get(i) == attacker) {
-                i++;
-            }
         }
         return log;
     }
@@ -116,17 +124,11 @@ public class EnemyAI {
         return bestIdx;
     }
 
-    private int firstTauntIndex(List<UnitState> board) {
-        for (int i = 0; i < board.size(); i++) {
-            if (board.get(i).isTaunt()) return i;
-        }
-        return -1;
-    }
-
-    private int indexOfLowestHp(List<UnitState> board) {
-        int best = 0;
+    private int indexOfLowestHp(Board board) {
+        int best = board.firstOccupiedSlot();
         int hp = Integer.MAX_VALUE;
-        for (int i = 0; i < board.size(); i++) {
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
             int cur = board.get(i).getCurrentHealth();
             if (cur < hp) {
                 hp = cur;
@@ -136,11 +138,12 @@ public class EnemyAI {
         return best;
     }
 
-    private Integer findBestTradeTargetIndex(UnitState attacker, List<UnitState> enemyBoard) {
+    private Integer findBestTradeTargetIndex(UnitState attacker, Board enemyBoard) {
         Integer bestIndex = null;
         int bestScore = Integer.MIN_VALUE;
 
-        for (int i = 0; i < enemyBoard.size(); i++) {
+        for (long m = enemyBoard.occupiedMask(); m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
             UnitState defender = enemyBoard.get(i);
 
             int attackerHpAfter = attacker.getCurrentHealth() - defender.getAttack();
@@ -162,11 +165,4 @@ public class EnemyAI {
     private int unitValue(UnitState u) {
         return u.getAttack() * 2 + u.getCurrentHealth();
     }
-
-    private void merge(BattleLog total, BattleLog child) {
-        if (total == null || child == null) return;
-        for (BattleLogEntry e : child.getEntries()) {
-            total.add(e.getMessage());
-        }
-    }
 }
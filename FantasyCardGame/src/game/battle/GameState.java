@@ -1,9 +1,13 @@
 package game.battle;
 
+import game.card.card;
+
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 전투 화면에 존재하는 모든 상태를 담는 클래스입니다.
@@ -12,6 +16,10 @@ import java.util.Map;
  * - 현재 턴을 진행 중인 쪽(BattleSide)
  * - 현재 턴 번호, 현재 턴 Phase
  * - 턴 시간 제한(예: 60초) 및 턴 시작
+ * - 이 전투의 시드와 난수 발생기(덱 셔플 등)
+ *
+ * 전투의 모든 무작위 요소는 getRandom() 한 줄기에서 나오므로,
+ * 같은 시드로 같은 순서의 행동을 하면 같은 전투가 재현됩니다.
  */
 public class GameState {
 
@@ -27,9 +35,56 @@ public class GameState {
     /** 턴 시간 제한 (millis) - 기본 60초 */
     private long turnTimeLimitMillis;
 
+    /** 상태 변경 기록(되돌리기용). null 이면 기록하지 않습니다. */
+    private ChangeJournal journal;
+
+    /** 엔진이 쓰는 로그를 만드는 곳. 기본은 모두 기록 */
+    private BattleLogSink logSink = BattleLogSink.RECORDING;
+
+    /** 이 전투에서 다음에 소환될 유닛의 ID */
+    private int nextUnitId = 1;
+
+    /** 유닛 재사용 풀 (시뮬레이션/탐색용). null 이면 매번 새로 만듭니다. */
+    private UnitStatePool unitPool;
+
+    /** 전투 이벤트 발행자. 처음 getEventBus() 를 부를 때 만듭니다. */
+    private BattleEventBus eventBus;
+
+    /** 실행된 행동을 받아 적는 곳 (리플레이 기록). null 이면 기록하지 않습니다. */
+    private ActionRecorder actionRecorder;
+
+    /** 피해 수정자 목록 (방어도/보호막/속성/난이도 배율). 기본은 카드 태그만 */
+    private DamageModifiers damageModifiers = DamageModifiers.defaults();
+
+    /**
+     * Zobrist 해시 (Zobrist 클래스 참고).
+     * 상태가 바뀔 때마다 바뀐 부분만 갱신하며, ChangeJournal 되돌리기에서도 같이 되돌아갑니다.
+     */
+    private long xorHash;
+    private long sumHash;
+
+    /** 이 전투의 시드 */
+    private final long seed;
+
+    /** 이 전투의 난수 발생기. 전투를 진행하는 스레드 하나에서만 씁니다. */
+    private final SplittableRandom random;
+
+    /**
+     * 시드를 새로 뽑아서 만듭니다. (재현할 필요가 없는 전투용)
+     * 스레드마다 따로인 ThreadLocalRandom 에서 뽑으므로 병렬로 만들어도 서로 기다리지 않습니다.
+     */
     public GameState(PlayerBattleState playerState, PlayerBattleState enemyState) {
+        this(playerState, enemyState, ThreadLocalRandom.current().nextLong());
+    }
+
+    public GameState(PlayerBattleState playerState, PlayerBattleState enemyState, long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+
         players.put(BattleSide.PLAYER, playerState);
         players.put(BattleSide.ENEMY, enemyState);
+        playerState.bind(this, BattleSide.PLAYER);
+        enemyState.bind(this, BattleSide.ENEMY);
 
         this.currentTurnSide = BattleSide.PLAYER;
         this.turnNumber = 1;
@@ -37,6 +92,32 @@ public class GameState {
 
         this.turnTimeLimitMillis = 60_000L; // 60초
         this.turnStartTimeMillis = System.currentTimeMillis();
+
+        // 생성 전에 채워진 덱/손패까지 포함해서 한 번 전체 계산
+        recomputeHash();
+    }
+
+    // ---- 시드 / 난수 ---------------------------------------------------------
+
+    /** 이 전투를 만든 시드. 같은 시드로 다시 만들면 같은 덱 순서에서 시작합니다. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 이 전투의 난수 발생기를 반환합니다. (덱 셔플 등 전투 규칙에 쓰는 무작위 값)
+     * SplittableRandom 은 스레드 안전하지 않으므로 다른 스레드에 넘길 때는 split() 을 쓰세요.
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * 이 전투의 난수에서 독립된 자식 난수 발생기를 떼어 냅니다.
+     * 병렬 탐색 워커처럼 다른 스레드에서 쓸 난수는 이렇게 나눠서 각자 들고 갑니다.
+     */
+    public SplittableRandom split() {
+        return random.split();
     }
 
     public PlayerBattleState getPlayerState(BattleSide side) {
@@ -64,6 +145,8 @@ public class GameState {
     }
 
     public void setTurnPhase(TurnPhase phase) {
+        if (phase == turnPhase) return;
+        if (journal != null) journal.record(ChangeJournal.GAME_PHASE, this, turnPhase.ordinal());
         this.turnPhase = phase;
     }
 
@@ -72,6 +155,7 @@ public class GameState {
     }
 
     public void markTurnStartNow() {
+        if (journal != null) journal.record(ChangeJournal.GAME_TURN_START, this, turnStartTimeMillis);
         this.turnStartTimeMillis = System.currentTimeMillis();
     }
 
@@ -83,6 +167,15 @@ public class GameState {
         this.turnTimeLimitMillis = Math.max(1_000L, turnTimeLimitMillis); // 최소 1초
     }
 
+    /**
+     * 남은 턴 시간이 remainingMillis 가 되도록 턴 시작 시각을 맞춥니다. (저장해 둔 전투를 이어서 할 때)
+     * 전투 준비용이므로 ChangeJournal 에 기록하지 않습니다.
+     */
+    public void resumeTurnTimer(long remainingMillis) {
+        long remaining = Math.max(0, Math.min(turnTimeLimitMillis, remainingMillis));
+        this.turnStartTimeMillis = System.currentTimeMillis() - (turnTimeLimitMillis - remaining);
+    }
+
     /**
      * 남은 턴 시간(ms)을 반환합니다.
      */
@@ -128,12 +221,205 @@ public class GameState {
      * 다음 턴으로 넘어갈 때 호출되는 내부 메서드입니다.
      */
     public void advanceTurn() {
+        if (journal != null) {
+            journal.record(ChangeJournal.GAME_SIDE, this, currentTurnSide.ordinal());
+            journal.record(ChangeJournal.GAME_TURN_NUMBER, this, turnNumber);
+        }
         currentTurnSide = currentTurnSide.getOpponent();
+        xorHash ^= Zobrist.ENEMY_TO_MOVE;
         turnNumber++;
-        turnPhase = TurnPhase.START;
+        setTurnPhase(TurnPhase.START);
         markTurnStartNow();
     }
 
+    // ---- 유닛 생성 / 재사용 ---------------------------------------------------
+
+    /**
+     * 소환할 유닛을 만듭니다. ID 는 이 전투 안에서 1부터 순서대로 붙습니다.
+     * 풀이 연결되어 있으면 풀에서 꺼내 재사용합니다.
+     */
+    public UnitState createUnit(card baseCard) {
+        int id = nextUnitId++;
+        return unitPool == null ? new UnitState(baseCard, id) : unitPool.acquire(baseCard, id);
+    }
+
+    public UnitStatePool getUnitPool() {
+        return unitPool;
+    }
+
+    /**
+     * 유닛 재사용 풀을 연결합니다. (null 이면 끔)
+     * 유닛 객체를 밖에서 붙잡아 두지 않는 시뮬레이션/AI 탐색에서만 사용하세요.
+     */
+    public void setUnitPool(UnitStatePool unitPool) {
+        this.unitPool = unitPool;
+    }
+
+    /** 아무 곳에서도 참조하지 않는 유닛을 풀로 돌려보냅니다. (소환 취소/실패) */
+    void recycleUnit(UnitState unit) {
+        if (unitPool != null) unitPool.release(unit);
+    }
+
+    /**
+     * 파괴되어 필드에서 빠진 유닛을 풀로 돌려보냅니다.
+     * ChangeJournal 이 기록 중이면 되돌리기에 다시 쓰이므로 돌려보내지 않습니다.
+     */
+    void recycleDeadUnit(UnitState unit) {
+        if (unitPool != null && journal == null) unitPool.release(unit);
+    }
+
+    // ---- 로그 ---------------------------------------------------------------
+
+    public BattleLogSink getLogSink() {
+        return logSink;
+    }
+
+    /**
+     * 엔진 로그를 만드는 곳을 바꿉니다. 시뮬레이션/탐색에서는 BattleLogSink.NO_OP 을 쓰세요.
+     */
+    public void setLogSink(BattleLogSink logSink) {
+        if (logSink == null) throw new IllegalArgumentException("BattleLogSink 는 null 일 수 없습니다.");
+        this.logSink = logSink;
+    }
+
+    /** 엔진 호출 한 번에 쓸 로그 */
+    public BattleLog newLog() {
+        return logSink.open();
+    }
+
+    // ---- 전투 이벤트 ---------------------------------------------------------
+
+    /**
+     * 이 전투의 이벤트 발행자를 반환합니다. UI/사운드/리플레이 등은 여기에 구독합니다.
+     */
+    public BattleEventBus getEventBus() {
+        if (eventBus == null) eventBus = new BattleEventBus();
+        return eventBus;
+    }
+
+    /**
+     * 구독자가 있을 때만 발행자를 반환합니다. (없으면 null)
+     * 엔진은 null 이면 이벤트 객체를 만들지 않습니다.
+     */
+    BattleEventBus activeEvents() {
+        BattleEventBus bus = eventBus;
+        return bus != null && bus.hasSubscribers() ? bus : null;
+    }
+
+    // ---- 행동 기록 ------------------------------------------------------------
+
+    public ActionRecorder getActionRecorder() {
+        return actionRecorder;
+    }
+
+    /**
+     * 카드 사용 / 공격 / 턴 종료를 받아 적을 곳을 연결합니다. null 을 넘기면 끕니다.
+     * AI 탐색용 사본(PackedGameState.toGameState)에는 연결되지 않습니다.
+     */
+    public void setActionRecorder(ActionRecorder actionRecorder) {
+        this.actionRecorder = actionRecorder;
+    }
+
+    // ---- 피해 수정자 ----------------------------------------------------------
+
+    public DamageModifiers getDamageModifiers() {
+        return damageModifiers;
+    }
+
+    /**
+     * 피해 수정자 목록을 바꿉니다. 유닛/영웅이 들고 있던 프로필은 다음 공격 때 다시 만듭니다.
+     * 전투 규칙의 일부이므로 해시에는 들어가지 않습니다. (AI 탐색 사본에도 같은 목록을 넘기세요)
+     */
+    public void setDamageModifiers(DamageModifiers damageModifiers) {
+        if (damageModifiers == null) throw new IllegalArgumentException("DamageModifiers 는 null 일 수 없습니다.");
+        if (damageModifiers == this.damageModifiers) return;
+        this.damageModifiers = damageModifiers;
+        for (PlayerBattleState p : players.values()) p.invalidateDamageProfiles();
+    }
+
+    // ---- 변경 기록(ChangeJournal) ------------------------------------------
+
+    public ChangeJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * 상태 변경 기록을 연결합니다. null 을 넘기면 기록을 끕니다.
+     * 연결 이후의 변경만 되돌릴 수 있습니다.
+     */
+    public void setJournal(ChangeJournal journal) {
+        this.journal = journal;
+    }
+
+    /** ChangeJournal 되돌리기용 */
+    void restore(int op, long value) {
+        switch (op) {
+            case ChangeJournal.GAME_SIDE: {
+                BattleSide side = BattleSide.values()[(int) value];
+                if (side != currentTurnSide) xorHash ^= Zobrist.ENEMY_TO_MOVE;
+                currentTurnSide = side;
+                break;
+            }
+            case ChangeJournal.GAME_TURN_NUMBER:
+                turnNumber = (int) value;
+                break;
+            case ChangeJournal.GAME_PHASE:
+                turnPhase = TurnPhase.values()[(int) value];
+                break;
+            case ChangeJournal.GAME_TURN_START:
+                turnStartTimeMillis = value;
+                break;
+            default:
+                throw new IllegalArgumentException("GameState 항목이 아닙니다: " + op);
+        }
+    }
+
+    // ---- Zobrist 해시 -------------------------------------------------------
+
+    /**
+     * 현재 전투 상태의 Zobrist 해시를 반환합니다.
+     *
+     * 필드 유닛(카드, 공격력, 체력, 도발, 공격 가능 여부), 손패 구성, 마나, 영웅 체력,
+     * 덱 수, 피로, 턴 주체가 같으면 같은 값입니다. 턴 번호와 남은 시간은 포함하지 않습니다.
+     * 필드 유닛의 순서와 손패 순서는 해시에 영향을 주지 않습니다.
+     */
+    public long getHash() {
+        return xorHash ^ sumHash;
+    }
+
+    void hashXor(long key) {
+        xorHash ^= key;
+    }
+
+    void hashAdd(long delta) {
+        sumHash += delta;
+    }
+
+    /**
+     * 해시를 처음부터 다시 계산합니다. (생성 시, 일괄 덮어쓰기 후)
+     * 계산한 값을 반환하므로 증분 값과 비교하는 검증에도 쓸 수 있습니다.
+     */
+    long recomputeHash() {
+        long x = currentTurnSide == BattleSide.ENEMY ? Zobrist.ENEMY_TO_MOVE : 0L;
+        long sum = 0L;
+        for (PlayerBattleState p : players.values()) {
+            x ^= p.computeXorHash();
+            sum += p.computeSumHash();
+        }
+        this.xorHash = x;
+        this.sumHash = sum;
+        return x ^ sum;
+    }
+
+    /**
+     * 압축 상태(PackedGameState) 복원용: 턴 주체/번호/Phase 를 그대로 덮어씁니다.
+     */
+    void restoreTurn(BattleSide side, int turnNumber, TurnPhase phase) {
+        this.currentTurnSide = side;
+        this.turnNumber = turnNumber;
+        this.turnPhase = phase;
+    }
+
     /**
      * 디버깅 또는 UI용으로 남길 수 있는 간단한 상태 문자열.
      */
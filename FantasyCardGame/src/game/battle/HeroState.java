@@ -1,9 +1,12 @@
 package game.battle;
 
+import game.card.StatusType;
+
 /**
  * 한 플레이어(또는 AI)의 "영웅" 전투 상태를 나타내는 클래스입니다.
  *
- * - 체력만 존재 (기본 20)
+ * - 체력 (기본 20)
+ * - 지속 피해 상태이상(중독/화상)과 풀리는 턴 (StatusScheduler 가 관리)
  */
 public class HeroState {
 
@@ -14,6 +17,12 @@ public class HeroState {
     private final int maxHealth;
     private int currentHealth;
 
+    /** StatusType.ordinal → 상태가 풀리는 턴 번호 (0 = 없음) */
+    private final int[] statusUntil = new int[StatusType.values().length];
+
+    /** 이 영웅을 가진 PlayerBattleState (ChangeJournal 조회용) */
+    private PlayerBattleState owner;
+
     public HeroState(String name) {
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException("영웅 이름은 비어 있을 수 없습니다.");
@@ -36,7 +45,65 @@ public class HeroState {
     }
 
     public void setCurrentHealth(int currentHealth) {
-        this.currentHealth = Math.max(0, Math.min(currentHealth, maxHealth));
+        int v = Math.max(0, Math.min(currentHealth, maxHealth));
+        if (v == this.currentHealth) return;
+        ChangeJournal j = owner == null ? null : owner.journal();
+        if (j != null) j.record(ChangeJournal.HERO_HEALTH, this, this.currentHealth);
+        assignHealth(v);
+    }
+
+    void bind(PlayerBattleState owner) {
+        this.owner = owner;
+    }
+
+    /** 이 영웅의 피해 프로필 (전투에 연결되지 않았으면 NONE) */
+    public DamageProfile getDamageProfile() {
+        return owner == null ? DamageProfile.NONE : owner.heroDamageProfile();
+    }
+
+    /** ChangeJournal 되돌리기용 */
+    void restoreHealth(int value) {
+        assignHealth(value);
+    }
+
+    private void assignHealth(int v) {
+        if (owner != null) owner.heroHealthChanged(currentHealth, v);
+        this.currentHealth = v;
+    }
+
+    public boolean hasStatus(StatusType type) {
+        return statusUntil[type.ordinal()] != 0;
+    }
+
+    /** 상태가 풀리는 턴 번호 (GameState.getTurnNumber 기준, 없으면 0) */
+    public int getStatusUntil(StatusType type) {
+        return statusUntil[type.ordinal()];
+    }
+
+    /** StatusScheduler / PackedGameState 전용 */
+    void setStatusUntil(StatusType type, int turn) {
+        int i = type.ordinal();
+        int v = Math.max(0, turn);
+        if (v == statusUntil[i]) return;
+        ChangeJournal j = owner == null ? null : owner.journal();
+        if (j != null) j.record(ChangeJournal.HERO_STATUS, this, ((long) i << 32) | (statusUntil[i] & 0xFFFFFFFFL));
+        assignStatus(i, v);
+    }
+
+    /** ChangeJournal 되돌리기용 */
+    void restoreStatus(int ordinal, int value) {
+        assignStatus(ordinal, value);
+    }
+
+    private void assignStatus(int ordinal, int v) {
+        int before = statusFlags();
+        statusUntil[ordinal] = v;
+        if (owner != null) owner.heroStatusChanged(before, statusFlags());
+    }
+
+    /** 해시용: 걸려 있는 지속 피해 상태 (bit0 = 중독, bit1 = 화상) */
+    int statusFlags() {
+        return (hasStatus(StatusType.POISONED) ? 1 : 0) | (hasStatus(StatusType.BURNING) ? 2 : 0);
     }
 
     public boolean isDead() {
@@ -51,12 +118,25 @@ public class HeroState {
         setCurrentHealth(currentHealth - damage);
     }
 
+    /**
+     * 영웅 체력을 amount 만큼 회복합니다. (최대 체력까지)
+     * @return 실제로 회복된 양
+     */
+    public int heal(int amount) {
+        if (amount <= 0 || isDead()) return 0;
+        int before = currentHealth;
+        setCurrentHealth(currentHealth + amount);
+        return currentHealth - before;
+    }
+
     @Override
     public String toString() {
         return "HeroState{" +
                 "name='" + name + '\'' +
                 ", currentHealth=" + currentHealth +
                 "/" + maxHealth +
+                (hasStatus(StatusType.POISONED) ? ", poisoned" : "") +
+                (hasStatus(StatusType.BURNING) ? ", burning" : "") +
                 '}';
     }
     //난이도 테스트
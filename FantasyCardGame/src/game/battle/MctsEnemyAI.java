@@ -0,0 +1,496 @@
+package game.battle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 몬테카를로 트리 탐색(MCTS)으로 메인 페이즈를 진행하는 AI 입니다.
+ *
+ * EnemyAI 의 그리디 규칙(pickBestPlayable / findBestTradeTargetIndex) 대신,
+ * 이번 턴에 할 수 있는 행동(카드 사용 + 소환 위치 + 효과 대상, 공격자 × 대상, 턴 종료)을
+ * 트리로 펼쳐서 무작위 롤아웃으로 평가합니다.
+ *
+ * - 생각 시간: 턴 전체 예산(turnBudgetMillis)을 수(결정) 단위로 나눠 씁니다.
+ *   (Stage.Difficulty.aiThinkMillis 로 난이도별 예산을 넘겨주면 HARD 가 더 오래 생각합니다)
+ * - 병렬화: 루트 병렬화. 워커마다 상태 사본 + ChangeJournal 로 독립된 트리를 키우고,
+ *   마지막에 루트 자식들의 방문 수를 합쳐서 가장 많이 방문한 수를 고릅니다.
+ * - 트리 안에서는 상태를 복사하지 않고 ChangeJournal.mark / rollbackTo 로 오르내립니다.
+ * - 평가값과 각 결정의 최선 수는 TranspositionTable 에 GameState.getHash() 로 저장합니다.
+ *   공격 순서만 다른 수순으로 같은 국면에 도달하면 저장된 평가를 그대로 쓰고,
+ *   저장된 최선 수가 있는 국면에서는 그 수부터 확장합니다. (워커들이 같은 테이블을 공유)
+ *
+ * 롤아웃 난수는 전투 시드에서 따로 만든 줄기에서 수마다 다시 워커별로 나눕니다.
+ * 워커끼리 난수 상태를 공유하지 않고, 전투 본래의 난수(덱 셔플 등)도 건드리지 않으므로
+ * AI 를 붙이지 않고 다시 실행하는 리플레이도 같은 난수 흐름을 갖습니다.
+ *
+ * 탐색 중 오류가 나면 그리디 EnemyAI 동작으로 이어서 진행합니다.
+ *
+ * 화면(EDT)에서는 playMainPhase 대신 beginMainPhase() 로 받은 MainPhase 를 게임 루프 update 마다
+ * step() 합니다. 탐색은 POOL 에서 압축 상태 사본으로만 하고, 고른 수는 step() 을 부른 스레드에서
+ * update 한 번에 한 수씩 실제 GameState 에 적용하므로 생각하는 동안에도 화면이 멈추지 않습니다.
+ *
+ * 탐색은 ChangeJournal 의 되돌리기가 정확하다는 가정 위에 있습니다. -ea 또는 -Dgame.ai.verifyRollback=true 로
+ * 실행하면 워커가 반복마다 이를 확인하고, 어긋나면 그리디로 넘어가지 않고 AssertionError 를 던집니다.
+ * - 잎 국면에서 증분 해시 == 처음부터 다시 계산한 해시(recomputeHash)
+ * - rollbackTo 후 압축 상태(PackedGameState 의 int[])와 해시 == 탐색 시작 국면
+ */
+public class MctsEnemyAI extends EnemyAI {
+
+    /** 되돌리기 검증을 켜는 시스템 속성 (-ea 로 실행해도 켜짐) */
+    public static final String VERIFY_ROLLBACK_PROPERTY = "game.ai.verifyRollback";
+    static final boolean VERIFY_ROLLBACK =
+            Boolean.getBoolean(VERIFY_ROLLBACK_PROPERTY) || MctsEnemyAI.class.desiredAssertionStatus();
+
+    /** 한 수를 고를 때 쓰는 최소 시간(ms). 예산이 바닥나도 이만큼은 생각합니다. */
+    private static final long MIN_DECISION_MILLIS = 5;
+
+    /** UCT 탐험 상수 */
+    private static final double EXPLORATION = 1.0;
+
+    /** 롤아웃 중 매 수마다 턴을 끝낼 확률 */
+    private static final double ROLLOUT_END_CHANCE = 0.15;
+
+    /** 전투 시드와 섞어서 AI 전용 난수 줄기를 만드는 값 */
+    private static final long SEED_SALT = 0x6D43_5453_A1A1_0001L;
+
+    /** 모든 MctsEnemyAI 가 같이 쓰는 워커 스레드 풀 (데몬 스레드) */
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "mcts-worker");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final long turnBudgetMillis;
+    private final int workers;
+    private final TranspositionTable table = new TranspositionTable();
+
+    /** 수마다 워커 난수를 나눠 주는 줄기 (AI 스레드에서만 사용) */
+    private final SplittableRandom seeds;
+
+    public MctsEnemyAI(GameState gameState, long turnBudgetMillis) {
+        this(gameState, BattleSide.ENEMY, turnBudgetMillis, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MctsEnemyAI(GameState gameState, BattleSide side, long turnBudgetMillis, int workers) {
+        super(gameState, side);
+        if (turnBudgetMillis < 1) throw new IllegalArgumentException("생각 시간은 1ms 이상이어야 합니다.");
+        if (workers < 1) throw new IllegalArgumentException("워커 수는 1 이상이어야 합니다.");
+        this.turnBudgetMillis = turnBudgetMillis;
+        this.workers = workers;
+        this.seeds = new SplittableRandom(gameState.getSeed() ^ SEED_SALT);
+    }
+
+    public long getTurnBudgetMillis() {
+        return turnBudgetMillis;
+    }
+
+    /** 이 AI 가 쓰는 평가/최선 수 캐시 (통계 확인용) */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /** 메인 페이즈를 끝까지 진행합니다. 탐색이 끝날 때까지 부른 스레드가 기다립니다. (시뮬레이터/벤치마크용) */
+    @Override
+    public BattleLog playMainPhase() {
+        BattleLog log = gameState.newLog();
+        MainPhase phase = beginMainPhase();
+        while (!phase.isFinished()) {
+            phase.awaitMove();
+            log.append(phase.step());
+        }
+        return log;
+    }
+
+    /**
+     * 메인 페이즈를 한 수씩 진행할 준비를 하고 첫 수의 탐색을 시작합니다. (UI 용, 기다리지 않음)
+     * 받은 MainPhase 가 끝날 때까지 이 전투의 GameState 는 step() 으로만 바꿔야 합니다.
+     */
+    public MainPhase beginMainPhase() {
+        return new MainPhase(System.nanoTime() + turnBudgetMillis * 1_000_000L);
+    }
+
+    /**
+     * 진행 중인 메인 페이즈. beginMainPhase() 를 부른 스레드에서만 사용합니다.
+     *
+     * step() 은 탐색이 끝난 수가 있으면 그 수 하나를 GameState 에 적용하고 바로 다음 수의 탐색을 시작합니다.
+     * 아직 생각 중이면 아무것도 하지 않습니다. 턴 종료를 고르거나 게임이 끝나면 isFinished() 가 true 입니다.
+     */
+    public final class MainPhase {
+        private final long turnDeadline;
+        private PendingMove pending;
+        private boolean finished;
+
+        private MainPhase(long turnDeadline) {
+            this.turnDeadline = turnDeadline;
+            startNext();
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /** 이번 step() 에서 둘 수가 준비되었는지 (탐색이 끝남) */
+        public boolean isMoveReady() {
+            return finished || pending.isDone();
+        }
+
+        /** 준비된 수가 있으면 하나 적용합니다. 적용한 내용의 로그를 반환합니다. (없으면 빈 로그) */
+        public BattleLog step() {
+            BattleLog log = gameState.newLog();
+            if (!isMoveReady()) return log;
+            try {
+                int move = pending.get();
+                if (move == Move.END_TURN) {
+                    finished = true;
+                    return log;
+                }
+                log.append(MoveGenerator.apply(move, side, cardExecutor, combatEngine));
+                startNext();
+            } catch (RuntimeException e) {
+                finished = true;
+                if (log.isEnabled()) log.add("[AI] 탐색 중 오류가 발생하여 기본 AI 로 진행합니다: " + e);
+                log.append(MctsEnemyAI.super.playMainPhase());
+            }
+            return log;
+        }
+
+        /** 생각 중인 탐색을 버립니다. (전투를 다시 시작하거나 나갈 때) */
+        public void cancel() {
+            finished = true;
+            if (pending != null) pending.cancel();
+        }
+
+        /** 다음 수가 준비될 때까지 기다립니다. (playMainPhase 용) */
+        private void awaitMove() {
+            if (!finished) pending.await();
+        }
+
+        private void startNext() {
+            if (gameState.isGameOver()) {
+                finished = true;
+                return;
+            }
+            long remaining = (turnDeadline - System.nanoTime()) / 1_000_000L;
+            pending = startChooseMove(Math.max(MIN_DECISION_MILLIS, remaining / 2));
+        }
+    }
+
+    /**
+     * 현재 상태를 압축해서 POOL 에서 budgetMillis 동안 탐색을 시작합니다. (기다리지 않음)
+     * 워커는 압축 상태의 사본만 쓰므로, 탐색하는 동안 부른 스레드가 GameState 를 읽어도 됩니다.
+     */
+    private PendingMove startChooseMove(long budgetMillis) {
+        int[] rootMoves = new int[MoveGenerator.DEFAULT_BUFFER_SIZE];
+        int count = MoveGenerator.generate(gameState, side, rootMoves);
+        if (count == 1) return new PendingMove(rootMoves[0]); // 턴 종료 밖에 없음
+
+        PackedGameState root = PackedGameState.of(gameState);
+        DamageModifiers modifiers = gameState.getDamageModifiers();
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+
+        List<Future<Map<Integer, Integer>>> futures = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom rng = seeds.split();
+            futures.add(POOL.submit(() -> new Worker(root, modifiers, side, rng, table).search(deadline)));
+        }
+        return new PendingMove(futures, gameState.getHash());
+    }
+
+    /** 탐색 중인 한 수. 워커들이 모두 끝나면 방문 수를 합쳐서 가장 많이 방문한 수를 고릅니다. */
+    private final class PendingMove {
+        private final List<Future<Map<Integer, Integer>>> futures;
+        private final long rootHash;
+        private final int immediate;
+
+        PendingMove(int move) {
+            this.futures = List.of();
+            this.rootHash = 0L;
+            this.immediate = move;
+        }
+
+        PendingMove(List<Future<Map<Integer, Integer>>> futures, long rootHash) {
+            this.futures = futures;
+            this.rootHash = rootHash;
+            this.immediate = Move.END_TURN;
+        }
+
+        boolean isDone() {
+            for (Future<?> f : futures) {
+                if (!f.isDone()) return false;
+            }
+            return true;
+        }
+
+        void await() {
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("MCTS 탐색이 중단되었습니다.", e);
+                } catch (ExecutionException e) {
+                    // get() 에서 처리
+                }
+            }
+        }
+
+        void cancel() {
+            for (Future<?> f : futures) f.cancel(true);
+        }
+
+        /** 모든 워커가 끝난 뒤에 부릅니다. */
+        int get() {
+            if (futures.isEmpty()) return immediate;
+
+            Map<Integer, Integer> visits = new HashMap<>();
+            try {
+                for (Future<Map<Integer, Integer>> f : futures) {
+                    for (Map.Entry<Integer, Integer> e : f.get().entrySet()) {
+                        visits.merge(e.getKey(), e.getValue(), Integer::sum);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("MCTS 탐색이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error) throw (Error) e.getCause(); // 되돌리기 검증 실패는 그대로
+                throw new IllegalStateException("MCTS 탐색 중 오류가 발생했습니다.", e.getCause());
+            }
+
+            int best = Move.END_TURN;
+            int bestVisits = -1;
+            for (Map.Entry<Integer, Integer> e : visits.entrySet()) {
+                if (e.getValue() > bestVisits) {
+                    bestVisits = e.getValue();
+                    best = e.getKey();
+                }
+            }
+            table.putBestMove(rootHash, best);
+            return best;
+        }
+    }
+
+    // ---- 평가 ---------------------------------------------------------------
+
+    /**
+     * side 관점에서 상태를 0.0(패배) ~ 1.0(승리) 사이 값으로 평가합니다.
+     */
+    static double evaluate(GameState state, BattleSide side) {
+        BattleSide winner = state.getWinnerSide();
+        if (winner != null) return winner == side ? 1.0 : 0.0;
+
+        PlayerBattleState me = state.getPlayerState(side);
+        PlayerBattleState opp = state.getPlayerState(side.getOpponent());
+
+        double score = 0;
+        score += 1.5 * (me.getHero().getCurrentHealth() - opp.getHero().getCurrentHealth());
+        score += boardValue(me.getBoard()) - boardValue(opp.getBoard());
+        score += 0.5 * (me.getHand().size() - opp.getHand().size());
+
+        // 상대 다음 턴 치명타 위협: 내 도발이 없고 상대 필드 공격력 합이 내 체력 이상이면 큰 감점
+        int oppAttack = 0;
+        Board oppBoard = opp.getBoard();
+        for (long m = oppBoard.occupiedMask(); m != 0; m &= m - 1) {
+            oppAttack += oppBoard.get(Long.numberOfTrailingZeros(m)).getAttack();
+        }
+        if (!me.hasTauntUnit() && oppAttack >= me.getHero().getCurrentHealth()) score -= 30;
+
+        return 1.0 / (1.0 + Math.exp(-score / 15.0));
+    }
+
+    private static double boardValue(Board board) {
+        double value = 0;
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            UnitState u = board.get(Long.numberOfTrailingZeros(m));
+            value += u.getAttack() * 2 + u.getCurrentHealth();
+            if (u.isTaunt()) value += 2;
+        }
+        return value;
+    }
+
+    // ---- 탐색 워커 ----------------------------------------------------------
+
+    /** 트리 노드 하나 = 루트에서부터 수를 순서대로 둔 상태 */
+    private static final class Node {
+        final int move;
+        final Node parent;
+        final List<Node> children = new ArrayList<>();
+        int[] untried;
+        int untriedCount = -1; // -1 = 아직 수를 생성하지 않음
+        int visits;
+        double value;
+
+        Node(int move, Node parent) {
+            this.move = move;
+            this.parent = parent;
+        }
+
+        boolean isTerminal() {
+            return move == Move.END_TURN && parent != null;
+        }
+
+        Node selectChild() {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logN = Math.log(visits);
+            for (Node c : children) {
+                double score = c.value / c.visits + EXPLORATION * Math.sqrt(logN / c.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 워커 하나: 자기 상태 사본 위에서 독립된 트리를 키웁니다.
+     */
+    private static final class Worker {
+        private final GameState state;
+        private final ChangeJournal journal = new ChangeJournal();
+        private final CardExecutor executor;
+        private final CombatEngine engine;
+        private final BattleSide side;
+        private final SplittableRandom rng;
+        private final TranspositionTable table;
+        private final int[] buffer = new int[MoveGenerator.DEFAULT_BUFFER_SIZE];
+
+        Worker(PackedGameState root, DamageModifiers modifiers, BattleSide side,
+               SplittableRandom rng, TranspositionTable table) {
+            this.state = root.toGameState();
+            this.state.setDamageModifiers(modifiers);
+            this.state.setJournal(journal);
+            this.state.setLogSink(BattleLogSink.NO_OP);
+            this.state.setUnitPool(new UnitStatePool());
+            this.executor = new CardExecutor(state);
+            this.engine = new CombatEngine(state);
+            this.side = side;
+            this.rng = rng;
+            this.table = table;
+        }
+
+        Map<Integer, Integer> search(long deadline) {
+            Node root = new Node(Move.END_TURN, null);
+            int base = journal.mark();
+
+            // 되돌리기 검증용: 탐색 시작 국면
+            PackedGameState expected = VERIFY_ROLLBACK ? PackedGameState.of(state) : null;
+            PackedGameState actual = VERIFY_ROLLBACK ? new PackedGameState() : null;
+            long expectedHash = state.getHash();
+
+            int iterations = 0;
+            while (iterations == 0 || System.nanoTime() < deadline) {
+                iterate(root);
+                journal.rollbackTo(base);
+                if (VERIFY_ROLLBACK) verifyRollback(expected, actual, expectedHash);
+                iterations++;
+            }
+
+            Map<Integer, Integer> visits = new HashMap<>();
+            for (Node c : root.children) visits.put(c.move, c.visits);
+            return visits;
+        }
+
+        private void iterate(Node root) {
+            Node node = root;
+
+            // 1) 선택: 모든 수를 시도해 본 노드에서는 UCT 로 내려감
+            while (!node.isTerminal() && !state.isGameOver()) {
+                if (node.untriedCount < 0) {
+                    int n = MoveGenerator.generate(state, side, buffer);
+                    node.untried = Arrays.copyOf(buffer, n);
+                    node.untriedCount = n;
+                    moveToFront(node, table.getBestMove(state.getHash()));
+                }
+                if (node.untriedCount > 0) {
+                    // 2) 확장: 아직 안 해 본 수 하나를 골라 자식으로 추가
+                    //    (테이블에 최선 수가 있었다면 그 수가 처음 확장됨)
+                    int pick = node.children.isEmpty() && node.untried[0] != Move.END_TURN
+                            ? 0 : rng.nextInt(node.untriedCount);
+                    int move = node.untried[pick];
+                    node.untried[pick] = node.untried[--node.untriedCount];
+
+                    Node child = new Node(move, node);
+                    node.children.add(child);
+                    if (move != Move.END_TURN) MoveGenerator.apply(move, side, executor, engine);
+                    node = child;
+                    break;
+                }
+                node = node.selectChild();
+                if (node.move != Move.END_TURN) MoveGenerator.apply(node.move, side, executor, engine);
+            }
+
+            // 3) 롤아웃: 턴이 끝날 때까지 무작위로 진행
+            if (!node.isTerminal()) rollout();
+
+            // 4) 역전파 (같은 국면은 한 번만 평가)
+            if (VERIFY_ROLLBACK) verifyHash();
+            long hash = state.getHash();
+            double value = table.getValue(hash);
+            if (Double.isNaN(value)) {
+                value = evaluate(state, side);
+                table.putValue(hash, value);
+            }
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                n.value += value;
+            }
+        }
+
+        /** 증분으로 갱신한 해시가 처음부터 다시 계산한 해시와 같은지 확인 */
+        private void verifyHash() {
+            long incremental = state.getHash();
+            long full = state.recomputeHash();
+            if (incremental != full) {
+                throw new AssertionError("증분 해시가 다시 계산한 해시와 다릅니다: "
+                        + Long.toHexString(incremental) + " != " + Long.toHexString(full));
+            }
+        }
+
+        /** rollbackTo 후 상태와 해시가 탐색 시작 국면과 같은지 확인 */
+        private void verifyRollback(PackedGameState expected, PackedGameState actual, long expectedHash) {
+            actual.packFrom(state);
+            if (!actual.contentEquals(expected)) {
+                throw new AssertionError("rollbackTo 후 상태가 탐색 시작 국면과 다릅니다. (int[" +
+                        actual.firstDifference(expected) + "] 부터 다름)");
+            }
+            if (state.getHash() != expectedHash) {
+                throw new AssertionError("rollbackTo 후 해시가 탐색 시작 국면과 다릅니다: "
+                        + Long.toHexString(state.getHash()) + " != " + Long.toHexString(expectedHash));
+            }
+            verifyHash();
+        }
+
+        /** 저장된 최선 수가 untried 안에 있으면 맨 앞으로 옮깁니다. */
+        private static void moveToFront(Node node, int bestMove) {
+            if (bestMove == TranspositionTable.NO_MOVE || bestMove == Move.END_TURN) return;
+            for (int i = 1; i < node.untriedCount; i++) {
+                if (node.untried[i] == bestMove) {
+                    node.untried[i] = node.untried[0];
+                    node.untried[0] = bestMove;
+                    return;
+                }
+            }
+        }
+
+        private void rollout() {
+            while (!state.isGameOver()) {
+                int n = MoveGenerator.generate(state, side, buffer);
+                if (n <= 1 || rng.nextDouble() < ROLLOUT_END_CHANCE) return;
+                // buffer[0] 은 턴 종료이므로 나머지 중에서 고름
+                MoveGenerator.apply(buffer[1 + rng.nextInt(n - 1)], side, executor, engine);
+            }
+        }
+    }
+}
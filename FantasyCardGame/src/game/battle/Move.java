@@ -0,0 +1,94 @@
+package game.battle;
+
+/**
+ * 전투 행동 하나를 int 로 표현하는 인코딩 도우미입니다.
+ *
+ *   종류(8bit) | a(8bit) | b(8bit) | c(8bit)
+ *
+ *   END_TURN : 0
+ *   PLAY     : a=손패 인덱스, b=소환 칸, c=효과 대상 유닛 칸+1 (0 = 대상 없음)
+ *   ATTACK   : a=공격 유닛 칸, b=대상 유닛 칸+1 (0 = 영웅)
+ *
+ * MoveGenerator 가 이 형식으로 int[] 버퍼를 채우고, MoveGenerator.apply 로 실행합니다.
+ * 손패 인덱스는 수를 생성한 시점 기준이고, 유닛은 필드 칸 번호(Board slot)라서 다른 유닛이 죽어도 바뀌지 않습니다.
+ */
+public final class Move {
+
+    public static final int END_TURN = 0;
+
+    public static final int KIND_END_TURN = 0;
+    public static final int KIND_PLAY = 1;
+    public static final int KIND_ATTACK = 2;
+
+    /** 대상이 없음(PLAY) / 영웅 대상(ATTACK) 을 나타내는 인덱스 */
+    public static final int NO_TARGET = -1;
+
+    private Move() {}
+
+    /**
+     * @param handIndex  손패 인덱스 (0~255)
+     * @param slot       소환 위치 (0~255)
+     * @param unitTarget 효과 대상 유닛 인덱스, 없으면 NO_TARGET
+     */
+    public static int play(int handIndex, int slot, int unitTarget) {
+        return (KIND_PLAY << 24) | (handIndex << 16) | (slot << 8) | (unitTarget + 1);
+    }
+
+    /**
+     * @param attackerIndex 공격 유닛 인덱스
+     * @param unitTarget    대상 유닛 인덱스, 영웅이면 NO_TARGET
+     */
+    public static int attack(int attackerIndex, int unitTarget) {
+        return (KIND_ATTACK << 24) | (attackerIndex << 16) | ((unitTarget + 1) << 8);
+    }
+
+    public static int kind(int move) {
+        return move >>> 24;
+    }
+
+    public static boolean isEndTurn(int move) {
+        return kind(move) == KIND_END_TURN;
+    }
+
+    // ---- PLAY ---------------------------------------------------------------
+
+    public static int handIndex(int move) {
+        return (move >>> 16) & 0xFF;
+    }
+
+    public static int slot(int move) {
+        return (move >>> 8) & 0xFF;
+    }
+
+    /** 카드 효과 대상 유닛 인덱스 (없으면 NO_TARGET) */
+    public static int effectTarget(int move) {
+        return (move & 0xFF) - 1;
+    }
+
+    // ---- ATTACK -------------------------------------------------------------
+
+    public static int attacker(int move) {
+        return (move >>> 16) & 0xFF;
+    }
+
+    /** 공격 대상 유닛 인덱스 (영웅이면 NO_TARGET) */
+    public static int attackTarget(int move) {
+        return ((move >>> 8) & 0xFF) - 1;
+    }
+
+    /** 디버깅용 문자열 */
+    public static String toString(int move) {
+        switch (kind(move)) {
+            case KIND_END_TURN:
+                return "END_TURN";
+            case KIND_PLAY:
+                return "PLAY(hand=" + handIndex(move) + ", slot=" + slot(move) +
+                        (effectTarget(move) < 0 ? "" : ", target=" + effectTarget(move)) + ")";
+            case KIND_ATTACK:
+                return "ATTACK(" + attacker(move) + " -> " +
+                        (attackTarget(move) < 0 ? "HERO" : String.valueOf(attackTarget(move))) + ")";
+            default:
+                return "UNKNOWN(" + move + ")";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package game.battle;
+
+import game.card.EffectType;
+import game.card.card;
+import game.card.cardEffect;
+
+import java.util.List;
+
+/**
+ * 현재 턴을 진행 중인 쪽이 할 수 있는 모든 합법적인 행동을 나열합니다.
+ *
+ * - 사용 가능한 손패 카드 × 빈 칸 × 효과 대상
+ *   (빈 칸은 서로 구별되지 않으므로 가장 왼쪽 빈 칸 하나만 후보로 냅니다)
+ * - 공격 가능한 유닛 × 도발 규칙을 만족하는 대상 (유닛 / 영웅)
+ * - 턴 종료 (항상 out[0])
+ *
+ * 결과는 Move 형식의 int 로 호출자가 준 버퍼에 씁니다.
+ * BattleLog 나 List 를 만들지 않으므로 AI 탐색 루프에서 매번 호출해도 할당이 없습니다.
+ *
+ * 합법성 판정은 CardExecutor.canPlayCard / CombatEngine.canAttack 과 같은 규칙입니다.
+ */
+public final class MoveGenerator {
+
+    /** 보통 상황에서 충분한 버퍼 크기 */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private MoveGenerator() {}
+
+    /**
+     * 현재 턴 주체의 합법적인 행동을 out 에 채우고 개수를 반환합니다.
+     */
+    public static int generate(GameState state, int[] out) {
+        return generate(state, state.getCurrentTurnSide(), out);
+    }
+
+    /**
+     * side 의 합법적인 행동을 out 에 채우고 개수를 반환합니다.
+     * out[0] 은 항상 Move.END_TURN 이며, 버퍼가 모자라면 out.length 개까지만 씁니다.
+     */
+    public static int generate(GameState state, BattleSide side, int[] out) {
+        if (out == null || out.length == 0) {
+            throw new IllegalArgumentException("행동 버퍼는 1칸 이상이어야 합니다.");
+        }
+        PlayerBattleState me = state.getPlayerState(side);
+        PlayerBattleState opp = state.getPlayerState(side.getOpponent());
+        Board myBoard = me.getBoard();
+        Board oppBoard = opp.getBoard();
+        int cap = out.length;
+
+        int n = 0;
+        out[n++] = Move.END_TURN;
+        if (state.isGameOver()) return n;
+
+        if (me.canSummonMoreUnits()) {
+            List<card> hand = me.getHand();
+            int mana = me.getCurrentMana();
+            int slot = myBoard.firstFreeSlot();
+            long targets = oppBoard.occupiedMask();
+            for (int h = 0; h < hand.size(); h++) {
+                card c = hand.get(h);
+                if (c.getCost() > mana) continue;
+
+                if (targets == 0 || !needsUnitTarget(c)) {
+                    if (n < cap) out[n++] = Move.play(h, slot, Move.NO_TARGET);
+                    continue;
+                }
+                for (long t = targets; t != 0; t &= t - 1) {
+                    if (n < cap) out[n++] = Move.play(h, slot, Long.numberOfTrailingZeros(t));
+                }
+            }
+        }
+
+        // 도발 유닛이 있으면 도발 칸만, 없으면 모든 유닛 칸 + 영웅
+        boolean oppHasTaunt = CombatEngine.hasTauntUnit(opp);
+        long attackable = oppHasTaunt ? oppBoard.tauntMask() : oppBoard.occupiedMask();
+        for (long am = myBoard.occupiedMask(); am != 0; am &= am - 1) {
+            int a = Long.numberOfTrailingZeros(am);
+            if (!myBoard.get(a).canAttack()) continue;
+            for (long t = attackable; t != 0; t &= t - 1) {
+                if (n < cap) out[n++] = Move.attack(a, Long.numberOfTrailingZeros(t));
+            }
+            if (!oppHasTaunt && n < cap) out[n++] = Move.attack(a, Move.NO_TARGET);
+        }
+        return n;
+    }
+
+    /**
+     * 카드에 유닛 대상을 골라야 하는 효과(DAMAGE_TO_MONSTER)가 있는지 여부
+     */
+    public static boolean needsUnitTarget(card c) {
+        for (cardEffect e : c.getEffects()) {
+            if (e.getType() == EffectType.DAMAGE_TO_MONSTER) return true;
+        }
+        return false;
+    }
+
+    /**
+     * generate 가 만든 행동을 side 로 실행합니다. END_TURN 은 여기서 처리하지 않습니다.
+     * (턴 넘기기는 TurnManager 의 몫)
+     */
+    public static BattleLog apply(int move, BattleSide side, CardExecutor executor, CombatEngine engine) {
+        switch (Move.kind(move)) {
+            case Move.KIND_PLAY: {
+                card c = executor.getGameState().getPlayerState(side).getHand().get(Move.handIndex(move));
+                int target = Move.effectTarget(move);
+                return executor.playCard(side, c, side.getOpponent(),
+                        target < 0 ? TargetType.NONE : TargetType.UNIT, target, Move.slot(move));
+            }
+            case Move.KIND_ATTACK: {
+                int target = Move.attackTarget(move);
+                if (target < 0) return engine.unitAttackHero(side, Move.attacker(move));
+                return engine.unitAttackUnit(side, Move.attacker(move), target);
+            }
+            default:
+                throw new IllegalArgumentException("실행할 수 없는 행동입니다: " + Move.toString(move));
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package game.battle;
+
+import game.card.CardRepository;
+import game.card.StatusType;
+import game.card.card;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * GameState 전체를 int[] 하나에 압축한 스냅샷입니다.
+ *
+ * 탐색형 AI / 배치 시뮬레이션에서 상태를 수백만 번 분기해야 하므로,
+ * ArrayList + UnitState(UUID 문자열) 를 깊은 복사하는 대신
+ * 카드 서수(CardRepository.ordinalOf)와 정수 필드만 배열에 담아 둡니다.
+ * 복사는 배열 복사(System.arraycopy) 한 번으로 끝납니다.
+ *
+ * 배열 구조:
+ *   [0] 현재 턴 주체(BattleSide.ordinal)  [1] 턴 번호  [2] TurnPhase.ordinal
+ *   [3] PLAYER 구역 시작 위치            [4] ENEMY 구역 시작 위치
+ *   각 구역: 영웅 체력, 영웅 최대 체력, 최대 마나, 현재 마나, 피로 피해,
+ *           영웅 능력 사용 여부, 필드 수, 손패 수, 덱 수, 영웅 중독/화상이 풀리는 턴, 필드 칸 수,
+ *           유닛 * UNIT_STRIDE, 손패 서수들, 덱 서수들
+ *   유닛: 카드 서수, 공격력, 최대 체력, 현재 체력, 플래그, 이번 턴 공격 횟수,
+ *         기절/중독/화상이 풀리는 턴 (0 = 없음), 필드 칸 번호
+ *   유닛은 칸 번호 순서로 들어가며, 복원하면 같은 칸에 놓입니다.
+ *
+ * 남은 턴 시간(타이머)과 유닛 instanceId 는 담지 않습니다.
+ * 복원된 유닛은 새 instanceId 를 받습니다.
+ * 상태이상 예약(StatusScheduler)은 담지 않고, 복원할 때 풀리는 턴 값으로 다시 만듭니다.
+ * restoreInto 는 일괄 덮어쓰기이므로 ChangeJournal 에 기록되지 않습니다.
+ *
+ * writeTo / readFrom 으로 int 배열을 그대로 파일 등에 옮길 수 있습니다. (카드 서수를 그대로 담으므로
+ * 같은 카드 카탈로그에서만 읽을 수 있습니다. 확인은 호출하는 쪽에서 CardRepository.catalogFingerprint 로)
+ */
+public final class PackedGameState {
+
+    private static final int H_SIDE = 0;
+    private static final int H_TURN = 1;
+    private static final int H_PHASE = 2;
+    private static final int H_SECTION = 3; // + side.ordinal()
+    private static final int HEADER_SIZE = 5;
+
+    private static final int P_HERO_HP = 0;
+    private static final int P_HERO_MAX_HP = 1;
+    private static final int P_MAX_MANA = 2;
+    private static final int P_MANA = 3;
+    private static final int P_FATIGUE = 4;
+    private static final int P_HERO_POWER = 5;
+    private static final int P_BOARD = 6;
+    private static final int P_HAND = 7;
+    private static final int P_DECK = 8;
+    private static final int P_HERO_POISON = 9;
+    private static final int P_HERO_BURN = 10;
+    private static final int P_BOARD_CAPACITY = 11;
+    private static final int PLAYER_HEADER_SIZE = 12;
+
+    private static final int U_ORDINAL = 0;
+    private static final int U_ATTACK = 1;
+    private static final int U_MAX_HP = 2;
+    private static final int U_HP = 3;
+    private static final int U_FLAGS = 4;
+    private static final int U_ATTACKS = 5;
+    private static final int U_STUN = 6;
+    private static final int U_POISON = 7;
+    private static final int U_BURN = 8;
+    private static final int U_SLOT = 9;
+    public static final int UNIT_STRIDE = 10;
+
+    private static final int FLAG_TAUNT = 1;
+    private static final int FLAG_CHARGE = 1 << 1;
+    private static final int FLAG_SUMMONED = 1 << 2;
+
+    private static final BattleSide[] SIDES = BattleSide.values();
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+
+    private int[] data;
+    private int length;
+
+    private PackedGameState(int[] data, int length) {
+        this.data = data;
+        this.length = length;
+    }
+
+    /** 빈 버퍼를 만듭니다. packFrom / copyFrom 으로 채워서 재사용할 수 있습니다. */
+    public PackedGameState() {
+        this(new int[64], 0);
+    }
+
+    /** GameState 를 새 PackedGameState 로 압축합니다. */
+    public static PackedGameState of(GameState state) {
+        PackedGameState packed = new PackedGameState(new int[packedLength(state)], 0);
+        packed.packFrom(state);
+        return packed;
+    }
+
+    // ---- 압축 ---------------------------------------------------------------
+
+    /**
+     * state 를 이 버퍼에 덮어써서 압축합니다.
+     * 버퍼가 충분히 크면 새로 할당하지 않습니다.
+     */
+    public void packFrom(GameState state) {
+        if (state == null) throw new IllegalArgumentException("GameState 는 null 일 수 없습니다.");
+        ensureCapacity(packedLength(state));
+
+        data[H_SIDE] = state.getCurrentTurnSide().ordinal();
+        data[H_TURN] = state.getTurnNumber();
+        data[H_PHASE] = state.getTurnPhase().ordinal();
+
+        int pos = HEADER_SIZE;
+        for (BattleSide side : SIDES) {
+            data[H_SECTION + side.ordinal()] = pos;
+            pos = packPlayer(state.getPlayerState(side), pos);
+        }
+        length = pos;
+    }
+
+    private int packPlayer(PlayerBattleState p, int base) {
+        Board board = p.getBoard();
+        List<card> hand = p.getHand();
+        List<card> deck = p.getDeck();
+
+        data[base + P_HERO_HP] = p.getHero().getCurrentHealth();
+        data[base + P_HERO_MAX_HP] = p.getHero().getMaxHealth();
+        data[base + P_MAX_MANA] = p.getMaxMana();
+        data[base + P_MANA] = p.getCurrentMana();
+        data[base + P_FATIGUE] = p.getFatigueDamage();
+        data[base + P_HERO_POWER] = p.isHeroPowerUsedThisTurn() ? 1 : 0;
+        data[base + P_BOARD] = board.size();
+        data[base + P_HAND] = hand.size();
+        data[base + P_DECK] = deck.size();
+        data[base + P_HERO_POISON] = p.getHero().getStatusUntil(StatusType.POISONED);
+        data[base + P_HERO_BURN] = p.getHero().getStatusUntil(StatusType.BURNING);
+        data[base + P_BOARD_CAPACITY] = board.capacity();
+
+        int pos = base + PLAYER_HEADER_SIZE;
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            int slot = Long.numberOfTrailingZeros(m);
+            UnitState u = board.get(slot);
+            data[pos + U_SLOT] = slot;
+            data[pos + U_ORDINAL] = requireOrdinal(u.getBaseCard());
+            data[pos + U_ATTACK] = u.getAttack();
+            data[pos + U_MAX_HP] = u.getMaxHealth();
+            data[pos + U_HP] = u.getCurrentHealth();
+            data[pos + U_FLAGS] = (u.isTaunt() ? FLAG_TAUNT : 0)
+                    | (u.isCharge() ? FLAG_CHARGE : 0)
+                    | (u.isSummonedThisTurn() ? FLAG_SUMMONED : 0);
+            data[pos + U_ATTACKS] = u.getAttacksThisTurn();
+            data[pos + U_STUN] = u.getStatusUntil(StatusType.STUNNED);
+            data[pos + U_POISON] = u.getStatusUntil(StatusType.POISONED);
+            data[pos + U_BURN] = u.getStatusUntil(StatusType.BURNING);
+            pos += UNIT_STRIDE;
+        }
+        for (int i = 0; i < hand.size(); i++) data[pos++] = requireOrdinal(hand.get(i));
+        for (int i = 0; i < deck.size(); i++) data[pos++] = requireOrdinal(deck.get(i));
+        return pos;
+    }
+
+    private static int packedLength(GameState state) {
+        int len = HEADER_SIZE;
+        for (BattleSide side : SIDES) {
+            PlayerBattleState p = state.getPlayerState(side);
+            len += PLAYER_HEADER_SIZE
+                    + p.getBoard().size() * UNIT_STRIDE
+                    + p.getHand().size()
+                    + p.getDeck().size();
+        }
+        return len;
+    }
+
+    private static int requireOrdinal(card c) {
+        int ordinal = CardRepository.ordinalOf(c);
+        if (ordinal < 0) {
+            throw new IllegalStateException("CardRepository 에 등록되지 않은 카드는 압축할 수 없습니다: " + c);
+        }
+        return ordinal;
+    }
+
+    // ---- 복사 ---------------------------------------------------------------
+
+    /** 같은 내용을 가진 새 스냅샷을 만듭니다. */
+    public PackedGameState copy() {
+        int[] copy = new int[length];
+        System.arraycopy(data, 0, copy, 0, length);
+        return new PackedGameState(copy, length);
+    }
+
+    /**
+     * other 의 내용을 이 버퍼로 복사합니다.
+     * 버퍼가 충분히 크면 할당 없이 배열 복사 한 번으로 끝납니다.
+     */
+    public void copyFrom(PackedGameState other) {
+        ensureCapacity(other.length);
+        System.arraycopy(other.data, 0, data, 0, other.length);
+        length = other.length;
+    }
+
+    private void ensureCapacity(int required) {
+        if (data.length < required) {
+            data = new int[Math.max(required, data.length * 2)];
+        }
+    }
+
+    // ---- 직렬화 -------------------------------------------------------------
+
+    /** 사용 중인 int 들을 out 의 현재 위치부터 씁니다. (length() 개) */
+    public void writeTo(IntBuffer out) {
+        out.put(data, 0, length);
+    }
+
+    /**
+     * in 의 현재 위치에서 length 개의 int 를 읽어 스냅샷을 만듭니다.
+     * 구역 위치/개수/카드 서수가 맞지 않으면 IllegalArgumentException.
+     */
+    public static PackedGameState readFrom(IntBuffer in, int length) {
+        if (length < HEADER_SIZE || length > in.remaining()) {
+            throw new IllegalArgumentException("압축 상태 길이가 잘못되었습니다: " + length);
+        }
+        int[] data = new int[length];
+        in.get(data);
+        PackedGameState packed = new PackedGameState(data, length);
+        packed.validate();
+        return packed;
+    }
+
+    private void validate() {
+        if (data[H_SIDE] < 0 || data[H_SIDE] >= SIDES.length || data[H_PHASE] < 0 || data[H_PHASE] >= PHASES.length) {
+            throw new IllegalArgumentException("압축 상태의 턴 정보가 잘못되었습니다.");
+        }
+        int expected = HEADER_SIZE;
+        for (BattleSide side : SIDES) {
+            int base = section(side);
+            if (base != expected || base + PLAYER_HEADER_SIZE > length) {
+                throw new IllegalArgumentException(side + " 구역 위치가 잘못되었습니다: " + base);
+            }
+            int capacity = data[base + P_BOARD_CAPACITY];
+            int boardSize = data[base + P_BOARD];
+            if (capacity < 1 || capacity > Board.MAX_CAPACITY || boardSize < 0 || boardSize > capacity
+                    || data[base + P_HAND] < 0 || data[base + P_DECK] < 0) {
+                throw new IllegalArgumentException(side + " 구역의 개수 값이 잘못되었습니다.");
+            }
+            int pos = base + PLAYER_HEADER_SIZE;
+            int cards = data[base + P_HAND] + data[base + P_DECK];
+            if ((long) pos + (long) boardSize * UNIT_STRIDE + cards > length) {
+                throw new IllegalArgumentException(side + " 구역이 잘렸습니다.");
+            }
+            for (int i = 0; i < boardSize; i++, pos += UNIT_STRIDE) {
+                int slot = data[pos + U_SLOT];
+                if (slot < 0 || slot >= capacity) throw new IllegalArgumentException("잘못된 필드 칸입니다: " + slot);
+                checkOrdinal(data[pos + U_ORDINAL]);
+            }
+            for (int i = 0; i < cards; i++) checkOrdinal(data[pos++]);
+            expected = pos;
+        }
+        if (expected != length) throw new IllegalArgumentException("압축 상태 뒤에 남는 값이 있습니다.");
+    }
+
+    private static void checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= CardRepository.size()) {
+            throw new IllegalArgumentException("카드 저장소에 없는 카드 서수입니다: " + ordinal);
+        }
+    }
+
+    // ---- 복원 ---------------------------------------------------------------
+
+    /** 새 GameState 객체 그래프로 복원합니다. */
+    public GameState toGameState() {
+        return toGameState(ThreadLocalRandom.current().nextLong());
+    }
+
+    /** 주어진 시드를 가진 새 GameState 객체 그래프로 복원합니다. */
+    public GameState toGameState(long seed) {
+        int pb = section(BattleSide.PLAYER);
+        int eb = section(BattleSide.ENEMY);
+        PlayerBattleState p = new PlayerBattleState(
+                new HeroState(BattleSide.PLAYER.name(), data[pb + P_HERO_MAX_HP]), data[pb + P_BOARD_CAPACITY]);
+        PlayerBattleState e = new PlayerBattleState(
+                new HeroState(BattleSide.ENEMY.name(), data[eb + P_HERO_MAX_HP]), data[eb + P_BOARD_CAPACITY]);
+        GameState state = new GameState(p, e, seed);
+        restoreInto(state);
+        return state;
+    }
+
+    /**
+     * 이미 있는 GameState 에 내용을 덮어씁니다.
+     * 영웅 최대 체력과 필드 칸 수는 바뀌지 않는다고 가정합니다. (HeroState.maxHealth / Board 는 final)
+     */
+    public void restoreInto(GameState state) {
+        if (state == null) throw new IllegalArgumentException("GameState 는 null 일 수 없습니다.");
+
+        // 일괄 덮어쓰기는 되돌리기 대상이 아니므로 잠시 기록을 끕니다.
+        ChangeJournal journal = state.getJournal();
+        state.setJournal(null);
+        try {
+            state.restoreTurn(SIDES[data[H_SIDE]], data[H_TURN], PHASES[data[H_PHASE]]);
+            for (BattleSide side : SIDES) {
+                restorePlayer(state, state.getPlayerState(side), section(side), journal == null);
+            }
+            state.recomputeHash();
+        } finally {
+            state.setJournal(journal);
+        }
+    }
+
+    private void restorePlayer(GameState state, PlayerBattleState p, int base, boolean recycleOld) {
+        p.getHero().setCurrentHealth(data[base + P_HERO_HP]);
+        p.setMaxMana(data[base + P_MAX_MANA]);
+        p.setCurrentMana(data[base + P_MANA]);
+        p.setFatigueDamage(data[base + P_FATIGUE]);
+        p.setHeroPowerUsedThisTurn(data[base + P_HERO_POWER] != 0);
+        p.getHero().setStatusUntil(StatusType.POISONED, data[base + P_HERO_POISON]);
+        p.getHero().setStatusUntil(StatusType.BURNING, data[base + P_HERO_BURN]);
+
+        int boardSize = data[base + P_BOARD];
+        int handSize = data[base + P_HAND];
+        int deckSize = data[base + P_DECK];
+
+        Board board = p.getBoard();
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            UnitState old = board.get(Long.numberOfTrailingZeros(m));
+            old.bind(null);
+            if (recycleOld) state.recycleUnit(old); // 기록 중인 journal 이 없을 때만
+        }
+        board.clear();
+        int pos = base + PLAYER_HEADER_SIZE;
+        for (int i = 0; i < boardSize; i++) {
+            UnitState u = state.createUnit(CardRepository.findByOrdinal(data[pos + U_ORDINAL]));
+            u.setAttack(data[pos + U_ATTACK]);
+            u.setMaxHealth(data[pos + U_MAX_HP]);
+            u.setCurrentHealth(data[pos + U_HP]);
+            int flags = data[pos + U_FLAGS];
+            u.setTaunt((flags & FLAG_TAUNT) != 0);
+            u.setCharge((flags & FLAG_CHARGE) != 0);
+            u.setSummonedThisTurn((flags & FLAG_SUMMONED) != 0);
+            u.setAttacksThisTurn(data[pos + U_ATTACKS]);
+            u.setStatusUntil(StatusType.STUNNED, data[pos + U_STUN]);
+            u.setStatusUntil(StatusType.POISONED, data[pos + U_POISON]);
+            u.setStatusUntil(StatusType.BURNING, data[pos + U_BURN]);
+            board.put(data[pos + U_SLOT], u);
+            u.bind(p);
+            pos += UNIT_STRIDE;
+        }
+
+        List<card> hand = p.getHand();
+        hand.clear();
+        for (int i = 0; i < handSize; i++) hand.add(CardRepository.findByOrdinal(data[pos++]));
+
+        List<card> deck = p.getDeck();
+        deck.clear();
+        for (int i = 0; i < deckSize; i++) deck.add(CardRepository.findByOrdinal(data[pos++]));
+
+        p.statusScheduler().rebuild(state.getTurnNumber(), state.getTurnPhase() != TurnPhase.START);
+    }
+
+    // ---- 복원 없이 읽기 (탐색 평가용) ---------------------------------------
+
+    private int section(BattleSide side) {
+        return data[H_SECTION + side.ordinal()];
+    }
+
+    public BattleSide getCurrentTurnSide() { return SIDES[data[H_SIDE]]; }
+    public int getTurnNumber() { return data[H_TURN]; }
+    public TurnPhase getTurnPhase() { return PHASES[data[H_PHASE]]; }
+
+    public int getHeroHealth(BattleSide side) { return data[section(side) + P_HERO_HP]; }
+    public int getCurrentMana(BattleSide side) { return data[section(side) + P_MANA]; }
+    public int getMaxMana(BattleSide side) { return data[section(side) + P_MAX_MANA]; }
+    public int getBoardSize(BattleSide side) { return data[section(side) + P_BOARD]; }
+    public int getHandSize(BattleSide side) { return data[section(side) + P_HAND]; }
+    public int getDeckSize(BattleSide side) { return data[section(side) + P_DECK]; }
+
+    public int getUnitAttack(BattleSide side, int slot) {
+        return data[unitBase(side, slot) + U_ATTACK];
+    }
+
+    public int getUnitHealth(BattleSide side, int slot) {
+        return data[unitBase(side, slot) + U_HP];
+    }
+
+    public boolean isUnitTaunt(BattleSide side, int slot) {
+        return (data[unitBase(side, slot) + U_FLAGS] & FLAG_TAUNT) != 0;
+    }
+
+    public boolean isUnitStunned(BattleSide side, int slot) {
+        return data[unitBase(side, slot) + U_STUN] != 0;
+    }
+
+    /** slot 칸 유닛이 배열에서 시작하는 위치 */
+    private int unitBase(BattleSide side, int slot) {
+        int base = section(side);
+        int pos = base + PLAYER_HEADER_SIZE;
+        for (int i = 0, n = data[base + P_BOARD]; i < n; i++, pos += UNIT_STRIDE) {
+            if (data[pos + U_SLOT] == slot) return pos;
+        }
+        throw new IndexOutOfBoundsException(slot + " 번 칸에 유닛이 없습니다.");
+    }
+
+    /** 사용 중인 int 개수 */
+    public int length() {
+        return length;
+    }
+
+    /** other 와 압축된 내용(사용 중인 int 들)이 모두 같으면 true (되돌리기 검증용) */
+    public boolean contentEquals(PackedGameState other) {
+        return other != null && Arrays.equals(data, 0, length, other.data, 0, other.length);
+    }
+
+    /** 처음으로 다른 int 의 위치 (같으면 -1) */
+    int firstDifference(PackedGameState other) {
+        return Arrays.mismatch(data, 0, length, other.data, 0, other.length);
+    }
+}
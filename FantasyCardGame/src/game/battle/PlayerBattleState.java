@@ -1,10 +1,12 @@
 package game.battle;
 
+import game.card.CardRepository;
+import game.card.StatusType;
 import game.card.card;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 public class PlayerBattleState {
 
@@ -12,7 +14,7 @@ public class PlayerBattleState {
 
     private final HeroState hero;
 
-    private final List<UnitState> board = new ArrayList<>();
+    private final Board board;
     private final List<card> deck = new ArrayList<>();
     private final List<card> hand = new ArrayList<>();
 
@@ -22,108 +24,438 @@ public class PlayerBattleState {
     private int fatigueDamage;
     private boolean heroPowerUsedThisTurn;
 
+    /** 이 상태가 속한 GameState (ChangeJournal / 해시 갱신용). GameState 생성 시 연결됩니다. */
+    private GameState game;
+    private BattleSide side;
+
+    /** 이 쪽 유닛/영웅의 상태이상 예약 */
+    private final StatusScheduler statuses = new StatusScheduler(this);
+
+    /** 영웅의 피해 프로필 (null = 다시 계산해야 함) */
+    private DamageProfile heroDamageProfile;
+
     public PlayerBattleState(HeroState hero) {
+        this(hero, MAX_BOARD_SIZE);
+    }
+
+    /**
+     * 필드 칸 수를 직접 정합니다. (규칙을 바꾼 모드용, 1 ~ Board.MAX_CAPACITY)
+     */
+    public PlayerBattleState(HeroState hero, int boardCapacity) {
         if (hero == null) throw new IllegalArgumentException("HeroState 는 null 일 수 없습니다.");
         this.hero = hero;
+        this.board = new Board(boardCapacity);
         this.maxMana = 0;
         this.currentMana = 0;
         this.fatigueDamage = 1;
         this.heroPowerUsedThisTurn = false;
+        hero.bind(this);
+    }
+
+    void bind(GameState game, BattleSide side) {
+        this.game = game;
+        this.side = side;
+        invalidateDamageProfiles();
+    }
+
+    /** 연결된 ChangeJournal (없으면 null) */
+    ChangeJournal journal() {
+        return game == null ? null : game.getJournal();
+    }
+
+    GameState gameState() {
+        return game;
+    }
+
+    BattleSide side() {
+        return side;
+    }
+
+    StatusScheduler statusScheduler() {
+        return statuses;
     }
 
     public HeroState getHero() { return hero; }
-    public List<UnitState> getBoard() { return board; }
+    public Board getBoard() { return board; }
     public List<card> getDeck() { return deck; }
     public List<card> getHand() { return hand; }
 
     public int getMaxMana() { return maxMana; }
 
     public void setMaxMana(int maxMana) {
-        this.maxMana = Math.max(0, Math.min(10, maxMana));
-        if (currentMana > this.maxMana) currentMana = this.maxMana;
+        int v = Math.max(0, Math.min(10, maxMana));
+        if (v != this.maxMana) {
+            ChangeJournal j = journal();
+            if (j != null) j.record(ChangeJournal.PLAYER_MAX_MANA, this, this.maxMana);
+            assignMaxMana(v);
+        }
+        if (currentMana > this.maxMana) setCurrentMana(this.maxMana);
     }
 
     public int getCurrentMana() { return currentMana; }
 
     public void setCurrentMana(int currentMana) {
-        this.currentMana = Math.max(0, Math.min(maxMana, currentMana));
+        int v = Math.max(0, Math.min(maxMana, currentMana));
+        if (v == this.currentMana) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.PLAYER_MANA, this, this.currentMana);
+        assignCurrentMana(v);
     }
 
     public boolean isHeroPowerUsedThisTurn() { return heroPowerUsedThisTurn; }
 
     public void setHeroPowerUsedThisTurn(boolean heroPowerUsedThisTurn) {
+        if (heroPowerUsedThisTurn == this.heroPowerUsedThisTurn) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.PLAYER_HERO_POWER, this, this.heroPowerUsedThisTurn ? 1 : 0);
         this.heroPowerUsedThisTurn = heroPowerUsedThisTurn;
     }
 
     public int getFatigueDamage() { return fatigueDamage; }
 
     public void setFatigueDamage(int fatigueDamage) {
-        this.fatigueDamage = Math.max(1, fatigueDamage);
+        int v = Math.max(1, fatigueDamage);
+        if (v == this.fatigueDamage) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.PLAYER_FATIGUE, this, this.fatigueDamage);
+        assignFatigueDamage(v);
+    }
+
+    public void addCardToDeck(card c) {
+        if (c == null) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.DECK_INSERT, this, deck.size(), c);
+        deckInsert(deck.size(), c);
     }
 
-    public void addCardToDeck(card c) { if (c != null) deck.add(c); }
+    /**
+     * 덱을 섞습니다. 전투 준비용이므로 ChangeJournal 에 기록하지 않습니다.
+     * GameState 에 연결되어 있으면 그 전투의 난수(시드)를 씁니다.
+     */
+    public void shuffleDeck() {
+        shuffleDeck(game != null ? game.getRandom() : new SplittableRandom());
+    }
 
-    public void shuffleDeck() { Collections.shuffle(deck); }
+    /** 주어진 난수 발생기로 덱을 섞습니다. */
+    public void shuffleDeck(SplittableRandom random) {
+        CardRepository.shuffle(deck, random);
+    }
 
-    public void addCardToHand(card c) { if (c != null) hand.add(c); }
+    public void addCardToHand(card c) {
+        if (c == null) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.HAND_INSERT, this, hand.size(), c);
+        handInsert(hand.size(), c);
+    }
 
-    public void removeCardFromHand(card c) { hand.remove(c); }
+    public void removeCardFromHand(card c) {
+        int index = hand.indexOf(c);
+        if (index < 0) return;
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.HAND_REMOVE, this, index, hand.get(index));
+        handRemove(index);
+    }
 
-    public List<String> drawCardWithFatigue() {
-        List<String> logs = new ArrayList<>();
+    /**
+     * 덱 맨 위 카드를 한 장 뽑습니다. 덱이 비었으면 피로 피해를 받습니다.
+     * 결과 메시지는 log 에 추가합니다. (BattleLog.DISABLED 를 넘기면 메시지를 만들지 않음)
+     */
+    public void drawCardWithFatigue(BattleLog log) {
         if (deck.isEmpty()) {
             int beforeHp = hero.getCurrentHealth();
             hero.applyDamage(fatigueDamage);
-            logs.add("[피로] 덱에 카드가 없어 " + fatigueDamage +
-                    "의 피로 피해를 받습니다. (" + beforeHp + " -> " + hero.getCurrentHealth() + ")");
-            fatigueDamage++;
-            return logs;
+            if (log.isEnabled()) {
+                log.add("[피로] 덱에 카드가 없어 " + fatigueDamage +
+                        "의 피로 피해를 받습니다. (" + beforeHp + " -> " + hero.getCurrentHealth() + ")");
+            }
+            BattleEventBus events = game == null ? null : game.activeEvents();
+            if (events != null) {
+                events.publish(new BattleEvent.Fatigue(side, fatigueDamage));
+                events.publish(new BattleEvent.DamageDealt(side, BattleEvent.HERO, fatigueDamage,
+                        beforeHp, hero.getCurrentHealth()));
+                if (hero.isDead()) events.publish(new BattleEvent.HeroDied(side));
+            }
+            setFatigueDamage(fatigueDamage + 1);
+            return;
         }
 
-        card drawn = deck.remove(deck.size() - 1);
-        hand.add(drawn);
-        logs.add("[드로우] \"" + drawn.getName() + "\" 카드를 뽑았습니다.");
-        return logs;
+        int last = deck.size() - 1;
+        card drawn = deck.get(last);
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.DECK_REMOVE, this, last, drawn);
+        deckRemove(last);
+        addCardToHand(drawn);
+        if (log.isEnabled()) log.add("[드로우] \"" + drawn.getName() + "\" 카드를 뽑았습니다.");
+        BattleEventBus events = game == null ? null : game.activeEvents();
+        if (events != null) events.publish(new BattleEvent.CardDrawn(side, drawn));
     }
 
     public boolean canSummonMoreUnits() {
-        return board.size() < MAX_BOARD_SIZE;
+        return !board.isFull();
     }
 
-    /** 기본: 끝에 추가 */
+    /** 기본: 가장 왼쪽 빈 칸에 소환 */
     public boolean summonUnit(UnitState unit) {
-        return summonUnitAt(unit, board.size());
+        return summonUnitAt(unit, board.firstFreeSlot());
     }
 
-    /**UI 슬롯 인덱스(0~4)에 맞춰 소환 */
-    public boolean summonUnitAt(UnitState unit, int position) {
+    /**
+     * UI 슬롯 번호(0~4)와 같은 칸에 소환합니다.
+     * 그 칸이 이미 차 있거나 범위를 벗어나면 가장 왼쪽 빈 칸에 소환합니다.
+     * 소환된 칸은 unit 이 필드에 있는 동안 바뀌지 않습니다. (Board.slotOf)
+     */
+    public boolean summonUnitAt(UnitState unit, int slot) {
         if (unit == null) return false;
         if (!canSummonMoreUnits()) return false;
 
-        int p = position;
-        if (p < 0) p = 0;
-        if (p > board.size()) p = board.size();
+        int s = slot >= 0 && slot < board.capacity() && !board.isOccupied(slot) ? slot : board.firstFreeSlot();
 
-        board.add(p, unit);
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.BOARD_INSERT, this, s);
+        boardInsert(s, unit);
         return true;
     }
 
     public void removeUnit(UnitState unit) {
-        board.remove(unit);
+        int slot = board.slotOf(unit);
+        if (slot >= 0) removeUnitAt(slot);
     }
 
-    public List<String> onTurnStart() {
-        List<String> logs = new ArrayList<>();
-        heroPowerUsedThisTurn = false;
+    /** 필드 slot 칸의 유닛을 제거하고 반환합니다. (파괴 처리용) 다른 유닛의 칸은 바뀌지 않습니다. */
+    public UnitState removeUnitAt(int slot) {
+        UnitState unit = board.get(slot);
+        if (unit == null) throw new IllegalArgumentException(slot + " 번 칸에 유닛이 없습니다.");
+        ChangeJournal j = journal();
+        if (j != null) j.record(ChangeJournal.BOARD_REMOVE, this, slot, unit);
+        return boardRemove(slot);
+    }
+
+    // ---- 도발 (Board 의 tauntMask) ----------------------------------------
+
+    /** 필드에 도발 유닛이 하나라도 있는지 (O(1)) */
+    public boolean hasTauntUnit() {
+        return board.tauntMask() != 0;
+    }
+
+    public int getTauntCount() {
+        return Long.bitCount(board.tauntMask());
+    }
+
+    /** slot 칸 유닛이 도발인지 */
+    public boolean isTauntAt(int slot) {
+        return slot >= 0 && slot < board.capacity() && (board.tauntMask() & (1L << slot)) != 0;
+    }
+
+    /** 가장 왼쪽 도발 유닛의 칸 (없으면 -1) */
+    public int firstTauntIndex() {
+        long taunts = board.tauntMask();
+        return taunts == 0 ? -1 : Long.numberOfTrailingZeros(taunts);
+    }
+
+    /** UnitState 의 도발 여부가 바뀌었을 때 호출됩니다. */
+    void unitTauntChanged(UnitState unit, boolean taunt) {
+        int slot = board.slotOf(unit);
+        if (slot >= 0) board.tauntChanged(slot, taunt);
+    }
 
-        for (UnitState unit : board) {
+    public void onTurnStart(BattleLog log) {
+        setHeroPowerUsedThisTurn(false);
+
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            UnitState unit = board.get(Long.numberOfTrailingZeros(m));
             unit.resetAttacksThisTurn();
             if (unit.isSummonedThisTurn()) {
                 unit.setSummonedThisTurn(false);
-                logs.add("[턴 시작] " + unit.getName() + " 이(가) 이제 공격할 수 있습니다.");
+                if (log.isEnabled()) log.add("[턴 시작] " + unit.getName() + " 이(가) 이제 공격할 수 있습니다.");
             }
         }
-        return logs;
+    }
+
+    /**
+     * 이 쪽 필드의 유닛에게 상태이상(기절/중독/화상)을 duration 턴 동안 겁니다.
+     * 이미 걸려 있으면 더 오래 가는 쪽으로 연장됩니다.
+     * @return 새로 걸렸거나 연장되었으면 true (지원하지 않는 상태, duration <= 0 이면 false)
+     */
+    public boolean applyStatus(UnitState unit, StatusType type, int duration) {
+        if (unit == null || type == null || board.slotOf(unit) < 0) return false;
+        return statuses.apply(unit, type, duration);
+    }
+
+    /**
+     * 이 쪽 영웅에게 지속 피해 상태(중독/화상)를 duration 턴 동안 겁니다.
+     * @return 새로 걸렸거나 연장되었으면 true
+     */
+    public boolean applyHeroStatus(StatusType type, int duration) {
+        if (type == null) return false;
+        return statuses.apply(null, type, duration);
+    }
+
+    /** 이번 턴에 풀리거나 피해를 주는 상태이상을 처리합니다. (TurnManager.startTurn) */
+    void resolveStatuses(int turn, BattleLog log) {
+        statuses.resolve(turn, log);
+    }
+
+    // ---- 필드 대입 (Zobrist 해시 갱신 포함) -----------------------------------
+    // 일반 setter 와 ChangeJournal 되돌리기가 모두 이 메서드들을 거치므로
+    // 되돌리면 해시도 정확히 이전 값으로 돌아갑니다.
+
+    private void assignMaxMana(int v) {
+        if (game != null) game.hashXor(Zobrist.maxMana(side, maxMana) ^ Zobrist.maxMana(side, v));
+        maxMana = v;
+    }
+
+    private void assignCurrentMana(int v) {
+        if (game != null) game.hashXor(Zobrist.mana(side, currentMana) ^ Zobrist.mana(side, v));
+        currentMana = v;
+    }
+
+    private void assignFatigueDamage(int v) {
+        if (game != null) game.hashXor(Zobrist.fatigue(side, fatigueDamage) ^ Zobrist.fatigue(side, v));
+        fatigueDamage = v;
+    }
+
+    private void boardInsert(int index, UnitState unit) {
+        board.put(index, unit);
+        unit.bind(this);
+        if (game != null) game.hashAdd(Zobrist.unit(side, unit));
+    }
+
+    private UnitState boardRemove(int index) {
+        UnitState unit = board.remove(index);
+        if (game != null) game.hashAdd(-Zobrist.unit(side, unit));
+        unit.bind(null);
+        return unit;
+    }
+
+    private void handInsert(int index, card c) {
+        hand.add(index, c);
+        if (game != null) game.hashAdd(Zobrist.handCard(side, c));
+    }
+
+    private void handRemove(int index) {
+        card c = hand.remove(index);
+        if (game != null) game.hashAdd(-Zobrist.handCard(side, c));
+    }
+
+    private void deckInsert(int index, card c) {
+        deck.add(index, c);
+        deckResized(deck.size() - 1);
+    }
+
+    private void deckRemove(int index) {
+        deck.remove(index);
+        deckResized(deck.size() + 1);
+    }
+
+    private void deckResized(int before) {
+        if (game != null) game.hashXor(Zobrist.deckSize(side, before) ^ Zobrist.deckSize(side, deck.size()));
+    }
+
+    /** 영웅 체력 변경 시 HeroState 가 호출합니다. */
+    void heroHealthChanged(int before, int after) {
+        if (game != null) game.hashXor(Zobrist.heroHealth(side, before) ^ Zobrist.heroHealth(side, after));
+    }
+
+    /** 영웅 상태이상 변경 시 HeroState 가 호출합니다. */
+    void heroStatusChanged(int beforeFlags, int afterFlags) {
+        heroDamageProfile = null;
+        if (game != null) game.hashXor(Zobrist.heroStatus(side, beforeFlags) ^ Zobrist.heroStatus(side, afterFlags));
+    }
+
+    /** 영웅의 피해 프로필 (HeroState.getDamageProfile) */
+    DamageProfile heroDamageProfile() {
+        DamageProfile p = heroDamageProfile;
+        if (p == null) {
+            p = game == null ? DamageProfile.NONE : game.getDamageModifiers().resolve(side, null);
+            heroDamageProfile = p;
+        }
+        return p;
+    }
+
+    /** 영웅과 필드 유닛의 피해 프로필을 모두 비웁니다. (수정자 목록 변경 시) */
+    void invalidateDamageProfiles() {
+        heroDamageProfile = null;
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            board.get(Long.numberOfTrailingZeros(m)).invalidateDamageProfile();
+        }
+    }
+
+    /** 필드 위 유닛의 현재 해시 키 (GameState 에 연결되지 않았으면 0) */
+    long unitHash(UnitState unit) {
+        return game == null ? 0L : Zobrist.unit(side, unit);
+    }
+
+    /** 필드 위 유닛의 값이 바뀌었을 때 UnitState 가 호출합니다. */
+    void unitHashChanged(long before, long after) {
+        if (game != null) game.hashAdd(after - before);
+    }
+
+    long computeXorHash() {
+        return Zobrist.heroHealth(side, hero.getCurrentHealth())
+                ^ Zobrist.maxMana(side, maxMana)
+                ^ Zobrist.mana(side, currentMana)
+                ^ Zobrist.fatigue(side, fatigueDamage)
+                ^ Zobrist.deckSize(side, deck.size())
+                ^ Zobrist.heroStatus(side, hero.statusFlags());
+    }
+
+    long computeSumHash() {
+        long sum = 0L;
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            sum += Zobrist.unit(side, board.get(Long.numberOfTrailingZeros(m)));
+        }
+        for (card c : hand) sum += Zobrist.handCard(side, c);
+        return sum;
+    }
+
+    // ---- ChangeJournal 되돌리기용 ------------------------------------------
+
+    void restore(int op, int value) {
+        switch (op) {
+            case ChangeJournal.PLAYER_MAX_MANA:
+                assignMaxMana(value);
+                break;
+            case ChangeJournal.PLAYER_MANA:
+                assignCurrentMana(value);
+                break;
+            case ChangeJournal.PLAYER_FATIGUE:
+                assignFatigueDamage(value);
+                break;
+            case ChangeJournal.PLAYER_HERO_POWER:
+                heroPowerUsedThisTurn = value != 0;
+                break;
+            default:
+                throw new IllegalArgumentException("PlayerBattleState 항목이 아닙니다: " + op);
+        }
+    }
+
+    void undoBoardInsert(int index) {
+        // 취소된 소환의 유닛은 더 이상 아무 기록에도 남아 있지 않으므로 재사용 가능
+        UnitState unit = boardRemove(index);
+        if (game != null) game.recycleUnit(unit);
+    }
+
+    void undoBoardRemove(int index, UnitState unit) {
+        boardInsert(index, unit);
+    }
+
+    void undoCardMove(int op, int index, card c) {
+        switch (op) {
+            case ChangeJournal.HAND_INSERT:
+                handRemove(index);
+                break;
+            case ChangeJournal.HAND_REMOVE:
+                handInsert(index, c);
+                break;
+            case ChangeJournal.DECK_INSERT:
+                deckRemove(index);
+                break;
+            case ChangeJournal.DECK_REMOVE:
+                deckInsert(index, c);
+                break;
+            default:
+                throw new IllegalArgumentException("손패/덱 항목이 아닙니다: " + op);
+        }
     }
 
     @Override
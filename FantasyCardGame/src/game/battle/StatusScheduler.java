@@ -0,0 +1,268 @@
+package game.battle;
+
+import game.card.StatusType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 쪽(PlayerBattleState) 유닛과 영웅에 걸린 상태이상을 턴 번호별로 모아 두었다가
+ * 그 쪽의 턴 시작(TurnManager.startTurn)에 처리하는 스케줄러입니다.
+ *
+ * 턴마다 필드 전체를 훑지 않도록, 할 일(지속 피해 한 번 / 상태 해제)을 처리할 턴 번호의
+ * 버킷에 넣어 두고 해당 턴에는 그 버킷만 꺼내 봅니다.
+ * 턴 번호는 양쪽 턴마다 1씩 늘기 때문에 같은 쪽의 턴은 2씩 차이가 납니다.
+ *
+ * 상태가 풀리는 턴(until)은 유닛/영웅이 직접 들고 있고, 버킷의 항목은 "이 턴에 확인하라"는
+ * 예약일 뿐입니다. 죽은 유닛, 이미 풀렸거나 연장된 상태의 항목은 꺼낼 때 걸러집니다.
+ *
+ * 지속 시간 d 턴짜리 상태는 걸린 쪽의 다음 턴부터 d 번의 턴 동안 유지됩니다.
+ * - 기절: 그 동안 공격할 수 없습니다.
+ * - 중독/화상: 그 동안 매 턴 시작에 고정 피해를 받습니다.
+ *
+ * 예약/꺼내기는 모두 ChangeJournal 에 기록되므로 탐색 중 되돌려도 버킷이 원래대로 돌아옵니다.
+ */
+final class StatusScheduler {
+
+    /** 한 번에 걸 수 있는 최대 지속 턴 수 (버킷 링 크기 안에 들어오도록) */
+    static final int MAX_DURATION = 20;
+
+    /** 버킷 수. 가장 먼 예약(다음 턴 + 2 * MAX_DURATION)보다 커야 합니다. */
+    private static final int RING = 64;
+    private static final int RING_MASK = RING - 1;
+
+    private static final StatusType[] HERO_STATUSES = { StatusType.POISONED, StatusType.BURNING };
+
+    /** 예약 항목. unit 이 null 이면 영웅 */
+    private static final class Entry {
+        final UnitState unit;
+        final int unitId;
+        final StatusType type;
+        final int due;
+
+        Entry(UnitState unit, StatusType type, int due) {
+            this.unit = unit;
+            this.unitId = unit == null ? 0 : unit.getInstanceId();
+            this.type = type;
+            this.due = due;
+        }
+    }
+
+    private final PlayerBattleState owner;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayList<Entry>[] buckets = new ArrayList[RING];
+
+    /** 턴 시작 처리 중 재사용하는 목록 (할당 방지) */
+    private final List<Entry> due = new ArrayList<>();
+
+    StatusScheduler(PlayerBattleState owner) {
+        this.owner = owner;
+        for (int i = 0; i < RING; i++) buckets[i] = new ArrayList<>();
+    }
+
+    /** 유닛에 걸 수 있는 상태인지 */
+    static boolean supportsUnit(StatusType type) {
+        return type == StatusType.STUNNED || type == StatusType.POISONED || type == StatusType.BURNING;
+    }
+
+    /** 영웅에 걸 수 있는 상태인지 (영웅은 공격하지 않으므로 기절은 없음) */
+    static boolean supportsHero(StatusType type) {
+        return type == StatusType.POISONED || type == StatusType.BURNING;
+    }
+
+    /** 턴 시작마다 받는 지속 피해량 (기절은 0) */
+    static int tickDamage(StatusType type) {
+        switch (type) {
+            case POISONED:
+                return 1;
+            case BURNING:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+
+    // ---- 상태 걸기 ----------------------------------------------------------
+
+    /**
+     * 유닛(unit == null 이면 영웅)에 상태를 겁니다. 이미 걸려 있으면 더 늦게 풀리는 쪽으로 연장만 합니다.
+     * @return 새로 걸렸거나 연장되었으면 true
+     */
+    boolean apply(UnitState unit, StatusType type, int duration) {
+        if (duration <= 0) return false;
+        if (unit == null ? !supportsHero(type) : !supportsUnit(type)) return false;
+
+        GameState game = owner.gameState();
+        if (game == null) return false;
+        int turn = game.getTurnNumber();
+        int next = game.getCurrentTurnSide() == owner.side() ? turn + 2 : turn + 1;
+        int until = next + 2 * Math.min(duration, MAX_DURATION);
+
+        int old = statusUntil(unit, type);
+        if (until <= old) return false;
+
+        setStatusUntil(unit, type, until);
+        if (type == StatusType.STUNNED) {
+            schedule(unit, type, until);             // 풀리는 턴에 해제
+        } else if (old == 0) {
+            schedule(unit, type, next);              // 다음 턴부터 2턴 간격으로 피해, until 에 해제
+        }
+        return true;
+    }
+
+    private void schedule(UnitState unit, StatusType type, int turn) {
+        ChangeJournal j = owner.journal();
+        if (j != null) j.record(ChangeJournal.STATUS_SCHEDULE, this, turn);
+        buckets[turn & RING_MASK].add(new Entry(unit, type, turn));
+    }
+
+    // ---- 턴 시작 처리 --------------------------------------------------------
+
+    /**
+     * turn 번 턴(이 쪽의 턴)에 예약된 항목만 처리합니다.
+     * - 풀릴 턴이 된 상태는 해제
+     * - 아직 남은 중독/화상은 피해를 주고 다음 턴(turn + 2)에 다시 예약
+     */
+    void resolve(int turn, BattleLog log) {
+        int slot = turn & RING_MASK;
+        ArrayList<Entry> drained = buckets[slot];
+        if (drained.isEmpty()) return;
+
+        ChangeJournal j = owner.journal();
+        if (j != null) j.record(ChangeJournal.STATUS_DRAIN, this, turn, drained);
+        buckets[slot] = new ArrayList<>();
+
+        due.clear();
+        due.addAll(drained);
+        try {
+            for (int i = 0; i < due.size(); i++) {
+                Entry e = due.get(i);
+                if (e.due != turn || !isAlive(e)) continue;
+                int until = statusUntil(e.unit, e.type);
+                if (until == 0 || until < turn || ((until - turn) & 1) != 0) continue;
+
+                if (until == turn) {
+                    expire(e, log);
+                } else if (e.type != StatusType.STUNNED) {
+                    if (tick(e, log)) schedule(e.unit, e.type, turn + 2);
+                }
+                // 기절 항목인데 아직 풀릴 턴이 아니면 연장된 상태의 옛 예약이므로 무시
+            }
+        } finally {
+            due.clear();
+        }
+    }
+
+    private boolean isAlive(Entry e) {
+        if (e.unit == null) return !owner.getHero().isDead();
+        return e.unit.getInstanceId() == e.unitId && owner.getBoard().slotOf(e.unit) >= 0;
+    }
+
+    private void expire(Entry e, BattleLog log) {
+        setStatusUntil(e.unit, e.type, 0);
+        if (log.isEnabled()) log.add("[상태] " + holderName(e.unit) + " 의 " + e.type + " 상태가 풀렸습니다.");
+        BattleEventBus events = owner.gameState().activeEvents();
+        if (events != null) events.publish(new BattleEvent.StatusChanged(owner.side(), slotOf(e.unit), e.type, false));
+    }
+
+    /** @return 대상이 살아 있어서 다음 턴에 다시 예약해야 하면 true */
+    private boolean tick(Entry e, BattleLog log) {
+        GameState game = owner.gameState();
+        BattleSide side = owner.side();
+        BattleEventBus events = game.activeEvents();
+        int damage = tickDamage(e.type);
+
+        if (e.unit == null) {
+            HeroState hero = owner.getHero();
+            int beforeHp = hero.getCurrentHealth();
+            hero.applyDamage(damage);
+            if (log.isEnabled()) {
+                log.add("[상태] 영웅 \"" + hero.getName() + "\" 이(가) " + e.type + " 으로 " + damage +
+                        " 피해를 받았습니다. (" + beforeHp + " -> " + hero.getCurrentHealth() + ")");
+            }
+            if (events != null) {
+                events.publish(new BattleEvent.DamageDealt(side, BattleEvent.HERO, damage, beforeHp, hero.getCurrentHealth()));
+            }
+            if (!hero.isDead()) return true;
+            if (log.isEnabled()) log.add("[상태 결과] 영웅 \"" + hero.getName() + "\" 이(가) 쓰러졌습니다!");
+            if (events != null) events.publish(new BattleEvent.HeroDied(side));
+            return false;
+        }
+
+        UnitState unit = e.unit;
+        int index = unit.getSlot();
+        int beforeHp = unit.getCurrentHealth();
+        unit.applyDamage(damage);
+        if (log.isEnabled()) {
+            log.add("[상태] \"" + unit.getName() + "\" 이(가) " + e.type + " 으로 " + damage +
+                    " 피해를 받았습니다. (" + beforeHp + " -> " + unit.getCurrentHealth() + ")");
+        }
+        if (events != null) {
+            events.publish(new BattleEvent.DamageDealt(side, index, damage, beforeHp, unit.getCurrentHealth()));
+        }
+        if (!unit.isDead()) return true;
+
+        owner.removeUnitAt(index);
+        if (log.isEnabled()) log.add("[상태 결과] \"" + unit.getName() + "\" 이(가) 파괴되었습니다.");
+        if (events != null) events.publish(new BattleEvent.UnitDied(side, unit.getBaseCard(), index));
+        game.recycleDeadUnit(unit);
+        return false;
+    }
+
+    private String holderName(UnitState unit) {
+        return unit == null ? "영웅 \"" + owner.getHero().getName() + "\"" : "\"" + unit.getName() + "\"";
+    }
+
+    private int slotOf(UnitState unit) {
+        return unit == null ? BattleEvent.HERO : unit.getSlot();
+    }
+
+    private int statusUntil(UnitState unit, StatusType type) {
+        return unit == null ? owner.getHero().getStatusUntil(type) : unit.getStatusUntil(type);
+    }
+
+    private void setStatusUntil(UnitState unit, StatusType type, int until) {
+        if (unit == null) owner.getHero().setStatusUntil(type, until);
+        else unit.setStatusUntil(type, until);
+    }
+
+    // ---- 스냅샷 복원 / 되돌리기 ----------------------------------------------
+
+    /**
+     * 유닛/영웅이 들고 있는 until 값으로 예약을 다시 만듭니다. (PackedGameState 복원용, 기록 없음)
+     * @param resolved turn 번 턴의 시작 처리가 이미 끝났는지 (TurnPhase.START 가 아니면 true)
+     */
+    void rebuild(int turn, boolean resolved) {
+        for (ArrayList<Entry> bucket : buckets) bucket.clear();
+        int first = resolved ? turn + 1 : turn;
+        Board board = owner.getBoard();
+        for (long m = board.occupiedMask(); m != 0; m &= m - 1) {
+            UnitState u = board.get(Long.numberOfTrailingZeros(m));
+            int stun = u.getStatusUntil(StatusType.STUNNED);
+            if (stun >= first) buckets[stun & RING_MASK].add(new Entry(u, StatusType.STUNNED, stun));
+            rebuildTick(u, StatusType.POISONED, first);
+            rebuildTick(u, StatusType.BURNING, first);
+        }
+        for (StatusType type : HERO_STATUSES) rebuildTick(null, type, first);
+    }
+
+    private void rebuildTick(UnitState unit, StatusType type, int first) {
+        int until = statusUntil(unit, type);
+        if (until < first) return;
+        int next = ((until - first) & 1) == 0 ? first : first + 1;
+        buckets[next & RING_MASK].add(new Entry(unit, type, next));
+    }
+
+    /** ChangeJournal 되돌리기용: 마지막으로 예약한 항목을 뺍니다. */
+    void undoSchedule(int turn) {
+        ArrayList<Entry> bucket = buckets[turn & RING_MASK];
+        bucket.remove(bucket.size() - 1);
+    }
+
+    /** ChangeJournal 되돌리기용: 꺼냈던 버킷을 되돌려 놓습니다. */
+    @SuppressWarnings("unchecked")
+    void undoDrain(int turn, Object drained) {
+        buckets[turn & RING_MASK] = (ArrayList<Entry>) drained;
+    }
+}
@@ -0,0 +1,154 @@
+package game.battle;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GameState.getHash() 를 키로 평가값과 최선 수를 저장하는 전치(transposition) 테이블입니다.
+ *
+ * - 크기가 고정된(2의 거듭제곱) 직접 사상 테이블입니다. 같은 칸에 다른 상태가 들어오면 덮어씁니다.
+ * - 여러 탐색 스레드가 같이 쓸 수 있도록 칸들을 LOCK_STRIPES 개 묶음으로 나눠 묶음별로 잠급니다.
+ * - 평가값은 테이블을 만든 AI 한쪽의 관점입니다. 진영마다 따로 만들어 쓰세요.
+ *
+ * 공격 순서만 다른 수순처럼 같은 국면에 다시 도달하면 평가를 다시 하지 않고 저장된 값을 씁니다.
+ */
+public final class TranspositionTable {
+
+    /** 저장된 최선 수가 없을 때 반환하는 값 */
+    public static final int NO_MOVE = -1;
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final long[] keys;
+    private final double[] values;
+    private final int[] bestMoves;
+    private final boolean[] used;
+    private final int mask;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 최대 항목 수. 2의 거듭제곱으로 올림합니다.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("테이블 크기는 1 ~ 2^30 사이여야 합니다: " + capacity);
+        }
+        int size = Math.max(LOCK_STRIPES, Integer.highestOneBit(capacity - 1) << 1);
+
+        this.keys = new long[size];
+        this.values = new double[size];
+        this.bestMoves = new int[size];
+        this.used = new boolean[size];
+        this.mask = size - 1;
+        Arrays.fill(values, Double.NaN);
+        Arrays.fill(bestMoves, NO_MOVE);
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new Object();
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private int indexOf(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private Object lockOf(int index) {
+        return locks[index & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * 저장된 평가값을 반환합니다. 없으면 Double.NaN 을 반환합니다.
+     */
+    public double getValue(long hash) {
+        int i = indexOf(hash);
+        double v;
+        synchronized (lockOf(i)) {
+            v = used[i] && keys[i] == hash ? values[i] : Double.NaN;
+        }
+        if (Double.isNaN(v)) misses.increment();
+        else hits.increment();
+        return v;
+    }
+
+    public void putValue(long hash, double value) {
+        int i = indexOf(hash);
+        synchronized (lockOf(i)) {
+            if (!used[i] || keys[i] != hash) {
+                keys[i] = hash;
+                bestMoves[i] = NO_MOVE;
+                used[i] = true;
+            }
+            values[i] = value;
+        }
+    }
+
+    /**
+     * 저장된 최선 수를 반환합니다. 없으면 NO_MOVE 를 반환합니다.
+     */
+    public int getBestMove(long hash) {
+        int i = indexOf(hash);
+        synchronized (lockOf(i)) {
+            return used[i] && keys[i] == hash ? bestMoves[i] : NO_MOVE;
+        }
+    }
+
+    public void putBestMove(long hash, int move) {
+        int i = indexOf(hash);
+        synchronized (lockOf(i)) {
+            if (!used[i] || keys[i] != hash) {
+                keys[i] = hash;
+                values[i] = Double.NaN;
+                used[i] = true;
+            }
+            bestMoves[i] = move;
+        }
+    }
+
+    /** 모든 항목과 통계를 지웁니다. */
+    public void clear() {
+        for (int s = 0; s < LOCK_STRIPES; s++) {
+            synchronized (locks[s]) {
+                for (int i = s; i < keys.length; i += LOCK_STRIPES) {
+                    used[i] = false;
+                    values[i] = Double.NaN;
+                    bestMoves[i] = NO_MOVE;
+                }
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** 평가값 조회 적중률 (0.0 ~ 1.0) */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "TranspositionTable{capacity=" + keys.length +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() + '}';
+    }
+}
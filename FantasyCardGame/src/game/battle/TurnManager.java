@@ -1,7 +1,5 @@
 package game.battle;
 
-import java.util.List;
-
 /**
  *
  * 책임:
@@ -9,6 +7,7 @@ import java.util.List;
  * - 마나 증가 및 보충
  * - 드로우 요청 (피로 포함)
  * - 유닛 공격 가능 상태 초기화
+ * - 상태이상(기절/중독/화상) 해제 및 지속 피해
  * - 턴 시간 제한(예: 60초) 관리
  */
 public class TurnManager {
@@ -30,12 +29,13 @@ public class TurnManager {
      * 현재 턴의 턴 시작 처리.
      * - 마나 최대치 증가 (최대 10)
      * - 마나 풀 충전
+     * - 이번 턴에 예정된 상태이상 처리 (지속 피해 / 해제)
      * - 카드 1장 드로우 (피로 규칙 포함)
      * - 유닛 상태 초기화
      * - 턴 시간 제한 설정 및 시작 시각 기록
      */
     public BattleLog startTurn() {
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
         gameState.setTurnPhase(TurnPhase.START);
         BattleSide side = gameState.getCurrentTurnSide();
@@ -45,20 +45,27 @@ public class TurnManager {
         int newMaxMana = Math.min(10, current.getMaxMana() + 1);
         current.setMaxMana(newMaxMana);
         current.setCurrentMana(newMaxMana);
-        log.add("[턴 시작] " + side + " 의 마나가 " + newMaxMana + " 로 설정되었습니다.");
+        if (log.isEnabled()) {
+            log.add("[턴 시작] " + side + " 의 마나가 " + newMaxMana + " 로 설정되었습니다.");
+        }
+        BattleEventBus events = gameState.activeEvents();
+        if (events != null) events.publish(new BattleEvent.TurnStarted(side, gameState.getTurnNumber(), newMaxMana));
 
         // 턴 시간 제한 시작 (GameState 에 이미 기본값 60초가 있음)
         gameState.markTurnStartNow();
-        long limitSec = gameState.getTurnTimeLimitMillis() / 1000L;
-        log.add("[턴 제한] 이번 턴 제한 시간은 " + limitSec + "초입니다.");
+        if (log.isEnabled()) {
+            long limitSec = gameState.getTurnTimeLimitMillis() / 1000L;
+            log.add("[턴 제한] 이번 턴 제한 시간은 " + limitSec + "초입니다.");
+        }
+
+        // 상태이상: 이번 턴에 예약된 것만 처리
+        current.resolveStatuses(gameState.getTurnNumber(), log);
 
         // 드로우 (피로 규칙 포함)
-        List<String> drawLogs = current.drawCardWithFatigue();
-        log.addAll(drawLogs);
+        current.drawCardWithFatigue(log);
 
         // 유닛 상태 초기화
-        List<String> stateLogs = current.onTurnStart();
-        log.addAll(stateLogs);
+        current.onTurnStart(log);
 
         // MAIN 페이즈로 전환
         gameState.setTurnPhase(TurnPhase.MAIN);
@@ -71,15 +78,19 @@ public class TurnManager {
      * 현재 턴을 종료합니다.
      */
     public BattleLog endTurn() {
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
 
         gameState.setTurnPhase(TurnPhase.END);
         BattleSide side = gameState.getCurrentTurnSide();
-        log.add("[턴 종료] " + side + " 의 턴이 종료되었습니다.");
+        ActionRecorder recorder = gameState.getActionRecorder();
+        if (recorder != null) recorder.turnEnded(side);
+        if (log.isEnabled()) log.add("[턴 종료] " + side + " 의 턴이 종료되었습니다.");
 
         gameState.advanceTurn();
-        log.add("[턴 전환] 다음 턴은 " + gameState.getCurrentTurnSide() +
-                " 의 턴입니다. (턴 번호=" + gameState.getTurnNumber() + ")");
+        if (log.isEnabled()) {
+            log.add("[턴 전환] 다음 턴은 " + gameState.getCurrentTurnSide() +
+                    " 의 턴입니다. (턴 번호=" + gameState.getTurnNumber() + ")");
+        }
 
         return log;
     }
@@ -103,16 +114,13 @@ public class TurnManager {
      * 시간이 남아 있다면 아무 일도 하지 않고 빈 BattleLog 를 반환합니다.
      */
     public BattleLog forceEndTurnIfTimeOver() {
-        BattleLog log = new BattleLog();
+        BattleLog log = gameState.newLog();
         if (!isTurnTimeOver()) {
             return log;
         }
 
         log.add("[턴 제한] 제한 시간을 초과하여 턴을 강제로 종료합니다.");
-        BattleLog endLog = endTurn();
-        for (BattleLogEntry entry : endLog.getEntries()) {
-            log.add(entry.getMessage());
-        }
+        log.append(endTurn());
         return log;
     }
 }
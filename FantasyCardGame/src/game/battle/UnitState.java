@@ -1,11 +1,13 @@
 package game.battle;
 
 import game.card.EffectType;
+import game.card.StatusType;
 import game.card.card;
 import game.card.cardEffect;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 전장(필드)에 소환된 "몬스터(유닛)" 1기를 표현하는 클래스입니다.
@@ -16,17 +18,21 @@ import java.util.UUID;
  * - 도발(TAUNT) 여부
  * - 이번 턴에 공격한 횟수
  * - 소환된 턴인지 여부
+ * - 상태이상(기절/중독/화상)과 풀리는 턴 (StatusScheduler 가 관리)
  */
 public class UnitState {
 
-    /** 전장에서 유닛을 구분하기 위한 유니크 ID */
-    private final String instanceId;
+    /** GameState 없이 만든 유닛용 ID 발급기 */
+    private static final AtomicInteger DETACHED_IDS = new AtomicInteger();
 
-    /** 원본 카드 데이터 */
-    private final card baseCard;
+    /**
+     * 전장에서 유닛을 구분하기 위한 ID.
+     * GameState.createUnit 으로 만들면 전투마다 1부터 순서대로 부여됩니다.
+     */
+    private int instanceId;
 
-    /** 표시용 이름(편의상 card.getName() 복사) */
-    private final String name;
+    /** 원본 카드 데이터 (UnitStatePool 에서 재사용될 때만 바뀜) */
+    private card baseCard;
 
     /** 현재 공격력 */
     private int attack;
@@ -49,13 +55,53 @@ public class UnitState {
     /** 이 유닛이 이번 턴에 소환되었는지 여부 */
     private boolean summonedThisTurn;
 
+    /** StatusType.ordinal → 상태가 풀리는 턴 번호 (0 = 없음) */
+    private final int[] statusUntil = new int[StatusType.values().length];
+
+    /** 이 유닛이 놓인 필드의 주인 (필드 밖이면 null). ChangeJournal 조회용 */
+    private PlayerBattleState owner;
+
+    /** 필드에서 이 유닛이 놓인 칸 번호 (필드 밖이면 -1). Board 가 관리합니다. */
+    private int slot = -1;
+
+    /**
+     * 피해 수정자를 합쳐 둔 값 (null = 다시 계산해야 함).
+     * 카드/도발/상태이상/필드 주인이 바뀔 때 비웁니다.
+     */
+    private DamageProfile damageProfile;
+
+    /**
+     * 전투(GameState) 밖에서 유닛을 만들 때 사용합니다.
+     * 전투 중 소환은 GameState.createUnit 을 사용하세요.
+     */
     public UnitState(card baseCard) {
+        this(baseCard, DETACHED_IDS.incrementAndGet());
+    }
+
+    public UnitState(card baseCard, int instanceId) {
+        if (baseCard == null) {
+            throw new IllegalArgumentException("baseCard 는 null 일 수 없습니다.");
+        }
+        init(baseCard, instanceId);
+    }
+
+    /**
+     * UnitStatePool 재사용용: 새로 만든 것과 같은 상태로 되돌립니다.
+     * 필드에 놓인 유닛에는 호출할 수 없습니다.
+     */
+    void reset(card baseCard, int instanceId) {
+        if (owner != null) {
+            throw new IllegalStateException("필드에 있는 유닛은 재사용할 수 없습니다: " + this);
+        }
         if (baseCard == null) {
             throw new IllegalArgumentException("baseCard 는 null 일 수 없습니다.");
         }
-        this.instanceId = UUID.randomUUID().toString();
+        init(baseCard, instanceId);
+    }
+
+    private void init(card baseCard, int instanceId) {
+        this.instanceId = instanceId;
         this.baseCard = baseCard;
-        this.name = baseCard.getName();
         this.attack = baseCard.getAttack();
         this.maxHealth = baseCard.getDefense(); // defense 를 체력으로 사용
         this.currentHealth = this.maxHealth;
@@ -66,10 +112,13 @@ public class UnitState {
         this.charge = false;
         this.attacksThisTurn = 0;
         this.summonedThisTurn = true; // 생성 시점 = 소환 시점이라고 가정
+        Arrays.fill(statusUntil, 0);
+        this.slot = -1;
+        this.damageProfile = null;
     }
 
 
-    public String getInstanceId() {
+    public int getInstanceId() {
         return instanceId;
     }
 
@@ -78,7 +127,7 @@ public class UnitState {
     }
 
     public String getName() {
-        return name;
+        return baseCard.getName();
     }
 
     public int getAttack() {
@@ -86,7 +135,12 @@ public class UnitState {
     }
 
     public void setAttack(int attack) {
-        this.attack = Math.max(0, attack);
+        int v = Math.max(0, attack);
+        if (v == this.attack) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_ATTACK, this.attack);
+        this.attack = v;
+        rehash(before);
     }
 
     public int getMaxHealth() {
@@ -94,9 +148,15 @@ public class UnitState {
     }
 
     public void setMaxHealth(int maxHealth) {
-        this.maxHealth = Math.max(1, maxHealth);
+        int v = Math.max(1, maxHealth);
+        if (v != this.maxHealth) {
+            long before = hashKey();
+            record(ChangeJournal.UNIT_MAX_HEALTH, this.maxHealth);
+            this.maxHealth = v;
+            rehash(before);
+        }
         if (currentHealth > this.maxHealth) {
-            currentHealth = this.maxHealth;
+            setCurrentHealth(this.maxHealth);
         }
     }
 
@@ -105,7 +165,12 @@ public class UnitState {
     }
 
     public void setCurrentHealth(int currentHealth) {
-        this.currentHealth = Math.max(0, Math.min(currentHealth, maxHealth));
+        int v = Math.max(0, Math.min(currentHealth, maxHealth));
+        if (v == this.currentHealth) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_HEALTH, this.currentHealth);
+        this.currentHealth = v;
+        rehash(before);
     }
 
     public boolean isTaunt() {
@@ -113,7 +178,13 @@ public class UnitState {
     }
 
     public void setTaunt(boolean taunt) {
+        if (taunt == this.taunt) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_TAUNT, this.taunt ? 1 : 0);
         this.taunt = taunt;
+        this.damageProfile = null;
+        if (owner != null) owner.unitTauntChanged(this, taunt);
+        rehash(before);
     }
 
     public boolean isCharge() {
@@ -121,7 +192,11 @@ public class UnitState {
     }
 
     public void setCharge(boolean charge) {
+        if (charge == this.charge) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_CHARGE, this.charge ? 1 : 0);
         this.charge = charge;
+        rehash(before);
     }
 
     public int getAttacksThisTurn() {
@@ -129,11 +204,61 @@ public class UnitState {
     }
 
     public void resetAttacksThisTurn() {
-        this.attacksThisTurn = 0;
+        setAttacksThisTurn(0);
+    }
+
+    /** 압축 상태(PackedGameState) 복원용 */
+    void setAttacksThisTurn(int attacksThisTurn) {
+        int v = Math.max(0, attacksThisTurn);
+        if (v == this.attacksThisTurn) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_ATTACKS, this.attacksThisTurn);
+        this.attacksThisTurn = v;
+        rehash(before);
     }
 
     public void incrementAttacksThisTurn() {
-        this.attacksThisTurn++;
+        setAttacksThisTurn(attacksThisTurn + 1);
+    }
+
+    // ==== 상태이상 ====
+
+    /** 기절 상태이면 공격할 수 없습니다. */
+    public boolean isStunned() {
+        return statusUntil[StatusType.STUNNED.ordinal()] != 0;
+    }
+
+    public boolean hasStatus(StatusType type) {
+        return statusUntil[type.ordinal()] != 0;
+    }
+
+    /**
+     * 상태가 풀리는 턴 번호 (GameState.getTurnNumber 기준, 없으면 0).
+     * 그 턴의 주인 턴 시작에 풀립니다.
+     */
+    public int getStatusUntil(StatusType type) {
+        return statusUntil[type.ordinal()];
+    }
+
+    /** StatusScheduler / PackedGameState 전용. 직접 바꾸지 말고 PlayerBattleState.applyStatus 를 쓰세요. */
+    void setStatusUntil(StatusType type, int turn) {
+        int i = type.ordinal();
+        int v = Math.max(0, turn);
+        if (v == statusUntil[i]) return;
+        long before = hashKey();
+        ChangeJournal j = owner == null ? null : owner.journal();
+        if (j != null) j.record(ChangeJournal.UNIT_STATUS, this, ((long) i << 32) | (statusUntil[i] & 0xFFFFFFFFL));
+        statusUntil[i] = v;
+        damageProfile = null;
+        rehash(before);
+    }
+
+    /** ChangeJournal 되돌리기용 */
+    void restoreStatus(int ordinal, int value) {
+        long before = hashKey();
+        statusUntil[ordinal] = value;
+        damageProfile = null;
+        rehash(before);
     }
 
     public boolean isSummonedThisTurn() {
@@ -141,7 +266,98 @@ public class UnitState {
     }
 
     public void setSummonedThisTurn(boolean summonedThisTurn) {
+        if (summonedThisTurn == this.summonedThisTurn) return;
+        long before = hashKey();
+        record(ChangeJournal.UNIT_SUMMONED, this.summonedThisTurn ? 1 : 0);
         this.summonedThisTurn = summonedThisTurn;
+        rehash(before);
+    }
+
+    // ==== ChangeJournal 연동 ====
+
+    void bind(PlayerBattleState owner) {
+        this.owner = owner;
+        this.damageProfile = null;
+    }
+
+    /**
+     * 이 유닛의 피해 프로필. 필드 주인의 GameState 에 걸린 DamageModifiers 로 만들고,
+     * 관련 상태가 바뀌기 전까지 다시 만들지 않습니다. (필드 밖이면 NONE)
+     */
+    public DamageProfile getDamageProfile() {
+        DamageProfile p = damageProfile;
+        if (p == null) {
+            GameState game = owner == null ? null : owner.gameState();
+            p = game == null ? DamageProfile.NONE : game.getDamageModifiers().resolve(owner.side(), this);
+            damageProfile = p;
+        }
+        return p;
+    }
+
+    /** 수정자 목록이 바뀌었을 때 GameState 가 호출합니다. */
+    void invalidateDamageProfile() {
+        damageProfile = null;
+    }
+
+    /** 필드에서 놓인 칸 번호 (필드 밖이면 -1) */
+    public int getSlot() {
+        return slot;
+    }
+
+    void placeAt(int slot) {
+        this.slot = slot;
+    }
+
+    /** 필드에 놓여 있는지 여부 */
+    boolean isBound() {
+        return owner != null;
+    }
+
+    private void record(int op, int oldValue) {
+        ChangeJournal j = owner == null ? null : owner.journal();
+        if (j != null) j.record(op, this, oldValue);
+    }
+
+    /** 필드 위에서의 Zobrist 키 (필드 밖이면 0) */
+    private long hashKey() {
+        return owner == null ? 0L : owner.unitHash(this);
+    }
+
+    private void rehash(long before) {
+        if (owner != null) owner.unitHashChanged(before, owner.unitHash(this));
+    }
+
+    /** ChangeJournal 되돌리기용 */
+    void restore(int op, int value) {
+        long before = hashKey();
+        switch (op) {
+            case ChangeJournal.UNIT_ATTACK:
+                attack = value;
+                break;
+            case ChangeJournal.UNIT_MAX_HEALTH:
+                maxHealth = value;
+                break;
+            case ChangeJournal.UNIT_HEALTH:
+                currentHealth = value;
+                break;
+            case ChangeJournal.UNIT_TAUNT:
+                taunt = value != 0;
+                damageProfile = null;
+                if (owner != null) owner.unitTauntChanged(this, taunt);
+                break;
+            case ChangeJournal.UNIT_CHARGE:
+                charge = value != 0;
+                break;
+            case ChangeJournal.UNIT_ATTACKS:
+                attacksThisTurn = value;
+                break;
+            case ChangeJournal.UNIT_SUMMONED:
+                summonedThisTurn = value != 0;
+                break;
+            default:
+                throw new IllegalArgumentException("UnitState 항목이 아닙니다: " + op);
+        }
+        rehash(before);
     }
 
     // ==== 전투 관련 메서드 ====
@@ -163,6 +379,7 @@ public class UnitState {
      *
      * - 이미 죽은 경우 X
      * - 이번 턴에 이미 한 번 공격했다면 X
+     * - 기절(STUNNED) 상태면 X
      * - 소환된 턴이고, 돌진(CHARGE)이 없으면 X
      * - 공격력이 0 이하면 X
      */
@@ -175,6 +392,10 @@ public class UnitState {
             return false;
         }
 
+        if (isStunned()) {
+            return false;
+        }
+
         if (summonedThisTurn && !charge) {
             return false;
         }
@@ -202,8 +423,8 @@ public class UnitState {
     @Override
     public String toString() {
         return "UnitState{" +
-                "id='" + instanceId + '\'' +
-                ", name='" + name + '\'' +
+                "id=" + instanceId +
+                ", name='" + getName() + '\'' +
                 ", attack=" + attack +
                 ", currentHealth=" + currentHealth +
                 "/" + maxHealth +
@@ -211,6 +432,9 @@ public class UnitState {
                 ", charge=" + charge +
                 ", attacksThisTurn=" + attacksThisTurn +
                 ", summonedThisTurn=" + summonedThisTurn +
+                (isStunned() ? ", stunned" : "") +
+                (hasStatus(StatusType.POISONED) ? ", poisoned" : "") +
+                (hasStatus(StatusType.BURNING) ? ", burning" : "") +
                 '}';
     }
 }
@@ -0,0 +1,75 @@
+package game.battle;
+
+import game.card.card;
+
+/**
+ * 시뮬레이션/탐색용 UnitState 재사용 풀입니다.
+ *
+ * GameState.setUnitPool 로 연결하면 GameState.createUnit 이 풀에서 유닛을 꺼내 쓰고,
+ * 다음 경우에 유닛이 풀로 돌아갑니다.
+ * - ChangeJournal 되돌리기로 소환이 취소되었을 때 (탐색 중 가장 흔한 경우)
+ * - 필드가 가득 차서 소환에 실패했을 때
+ * - 전투 중 파괴되었을 때 (단, ChangeJournal 이 기록 중이면 되돌리기에 필요하므로 반환하지 않음)
+ *
+ * 스레드 안전하지 않습니다. 경기(또는 탐색 워커) 하나를 돌리는 스레드마다 하나씩 쓰세요.
+ * 유닛을 밖에서 오래 붙잡아 두는 UI 에서는 쓰지 않습니다.
+ */
+public final class UnitStatePool {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final UnitState[] free;
+    private int size;
+
+    private long created;
+    private long reused;
+
+    public UnitStatePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public UnitStatePool(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("풀 크기는 1 이상이어야 합니다.");
+        this.free = new UnitState[capacity];
+    }
+
+    UnitState acquire(card baseCard, int instanceId) {
+        if (size == 0) {
+            created++;
+            return new UnitState(baseCard, instanceId);
+        }
+        UnitState u = free[--size];
+        free[size] = null;
+        u.reset(baseCard, instanceId);
+        reused++;
+        return u;
+    }
+
+    void release(UnitState unit) {
+        if (unit.isBound()) {
+            throw new IllegalStateException("필드에 있는 유닛은 풀에 반환할 수 없습니다: " + unit);
+        }
+        if (size < free.length) free[size++] = unit;
+    }
+
+    /** 지금 풀에 남아 있는 유닛 수 */
+    public int size() {
+        return size;
+    }
+
+    /** 풀이 비어 있어서 새로 만든 유닛 수 */
+    public long getCreatedCount() {
+        return created;
+    }
+
+    /** 풀에서 꺼내 재사용한 유닛 수 */
+    public long getReusedCount() {
+        return reused;
+    }
+
+    @Override
+    public String toString() {
+        return "UnitStatePool{free=" + size + "/" + free.length +
+                ", created=" + created + ", reused=" + reused + '}';
+    }
+}
@@ -0,0 +1,117 @@
+package game.battle;
+
+import game.card.CardRepository;
+import game.card.StatusType;
+import game.card.card;
+
+import java.util.SplittableRandom;
+
+/**
+ * GameState 의 Zobrist 해시 키 테이블입니다.
+ *
+ * 값의 범위가 작은 항목(체력, 마나, 공격력, 덱 수 등)은 난수 테이블을 쓰고,
+ * 카드 서수처럼 카드 풀에 따라 늘어나는 항목은 SplitMix64 로 키를 계산합니다.
+ *
+ * 해시는 두 부분으로 나눠서 GameState 가 누적합니다.
+ * - XOR 부분 : 턴 주체, 영웅 체력, 마나, 덱 수, 피로, 영웅 상태이상 (값 하나를 빼고 넣는 항목)
+ * - 합(SUM) 부분 : 필드 유닛, 손패 카드 (같은 카드가 여러 장 있어도 상쇄되지 않도록 더하기)
+ *
+ * 유닛 키는 (카드, 공격력, 체력, 최대 체력, 도발/공격 가능 플래그, 상태이상)를 섞어서 만들기 때문에
+ * 같은 유닛들이 다른 순서로 놓인 필드는 같은 해시가 됩니다.
+ */
+final class Zobrist {
+
+    /** 테이블 크기. 이 값 이상은 마지막 칸을 같이 씁니다. */
+    private static final int CAP = 64;
+
+    private static final long SEED = 0x5EED_F00D_CAFE_BABEL;
+
+    static final long ENEMY_TO_MOVE;
+
+    private static final long[][] HERO_HP = new long[2][CAP];
+    private static final long[][] MANA = new long[2][CAP];
+    private static final long[][] MAX_MANA = new long[2][CAP];
+    private static final long[][] DECK = new long[2][CAP];
+    private static final long[][] FATIGUE = new long[2][CAP];
+
+    private static final long[] UNIT_ATTACK = new long[CAP];
+    private static final long[] UNIT_HP = new long[CAP];
+    private static final long[] UNIT_MAX_HP = new long[CAP];
+    private static final long[] UNIT_FLAGS = new long[16];
+    /** bit0 기절, bit1 중독, bit2 화상 */
+    private static final long[] UNIT_STATUS = new long[8];
+    /** HeroState.statusFlags */
+    private static final long[][] HERO_STATUS = new long[2][4];
+
+    private static final long[] UNIT_SALT = new long[2];
+    private static final long[] HAND_SALT = new long[2];
+
+    private static final int FLAG_TAUNT = 1;
+    private static final int FLAG_CHARGE = 1 << 1;
+    private static final int FLAG_SUMMONED = 1 << 2;
+    private static final int FLAG_ATTACKED = 1 << 3;
+
+    static {
+        SplittableRandom rng = new SplittableRandom(SEED);
+        ENEMY_TO_MOVE = rng.nextLong();
+        for (long[][] table : new long[][][] { HERO_HP, MANA, MAX_MANA, DECK, FATIGUE }) {
+            for (long[] row : table) fill(row, rng);
+        }
+        fill(UNIT_ATTACK, rng);
+        fill(UNIT_HP, rng);
+        fill(UNIT_FLAGS, rng);
+        fill(UNIT_SALT, rng);
+        fill(HAND_SALT, rng);
+        fill(UNIT_MAX_HP, rng);
+        fill(UNIT_STATUS, rng);
+        for (long[] row : HERO_STATUS) fill(row, rng);
+        UNIT_STATUS[0] = 0L;      // 상태이상이 없으면 키가 바뀌지 않도록
+        HERO_STATUS[0][0] = 0L;
+        HERO_STATUS[1][0] = 0L;
+    }
+
+    private Zobrist() {}
+
+    private static void fill(long[] row, SplittableRandom rng) {
+        for (int i = 0; i < row.length; i++) row[i] = rng.nextLong();
+    }
+
+    private static int clamp(int v) {
+        return v < 0 ? 0 : (v >= CAP ? CAP - 1 : v);
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // ---- XOR 부분 -----------------------------------------------------------
+
+    static long heroHealth(BattleSide side, int hp) { return HERO_HP[side.ordinal()][clamp(hp)]; }
+    static long mana(BattleSide side, int mana) { return MANA[side.ordinal()][clamp(mana)]; }
+    static long maxMana(BattleSide side, int maxMana) { return MAX_MANA[side.ordinal()][clamp(maxMana)]; }
+    static long deckSize(BattleSide side, int size) { return DECK[side.ordinal()][clamp(size)]; }
+    static long fatigue(BattleSide side, int fatigue) { return FATIGUE[side.ordinal()][clamp(fatigue)]; }
+    static long heroStatus(BattleSide side, int flags) { return HERO_STATUS[side.ordinal()][flags & 3]; }
+
+    // ---- 합(SUM) 부분 -------------------------------------------------------
+
+    static long handCard(BattleSide side, card c) {
+        return mix(HAND_SALT[side.ordinal()] + CardRepository.ordinalOf(c) * 0x9E3779B97F4A7C15L);
+    }
+
+    static long unit(BattleSide side, UnitState u) {
+        int flags = (u.isTaunt() ? FLAG_TAUNT : 0)
+                | (u.isCharge() ? FLAG_CHARGE : 0)
+                | (u.isSummonedThisTurn() ? FLAG_SUMMONED : 0)
+                | (u.getAttacksThisTurn() > 0 ? FLAG_ATTACKED : 0);
+        int status = (u.isStunned() ? 1 : 0)
+                | (u.hasStatus(StatusType.POISONED) ? 2 : 0)
+                | (u.hasStatus(StatusType.BURNING) ? 4 : 0);
+        long k = UNIT_SALT[side.ordinal()] + CardRepository.ordinalOf(u.getBaseCard()) * 0x9E3779B97F4A7C15L;
+        return mix(k ^ UNIT_ATTACK[clamp(u.getAttack())] ^ UNIT_HP[clamp(u.getCurrentHealth())]
+                ^ UNIT_MAX_HP[clamp(u.getMaxHealth())] ^ UNIT_FLAGS[flags] ^ UNIT_STATUS[status]);
+    }
+}
@@ -0,0 +1,332 @@
+package game.card;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 컴파일된 카드 카탈로그 파일(res/cards.bin) 형식입니다.
+ *
+ * 읽을 때는 파일을 FileChannel.map 으로 매핑하고 헤더만 확인합니다.
+ * 색인(id/이름 해시 테이블, 코스트 버킷)은 파일 안의 int 배열을 그대로 IntBuffer 로 쓰고,
+ * 카드 객체는 처음 조회될 때 고정 크기 레코드에서 만들어집니다.
+ * 그래서 시작 시간은 카드 수와 상관없이 일정합니다.
+ *
+ * <pre>
+ * 헤더 (48 바이트, big-endian)
+ *   0  MAGIC 'FCGC'        4  VERSION           8  스키마 해시 (enum 이름들)
+ *  12  카드 수            16  해시 테이블 크기   20  레코드 시작
+ *  24  id 테이블 시작     28  이름 테이블 시작   32  코스트 색인 시작
+ *  36  가변 영역 시작     40  파일 길이          44  (예약)
+ * 레코드 (카드당 24 바이트)
+ *   0 타입(byte) 1 코스트(byte) 2 공격(short) 4 방어(short) 6 효과 수(ubyte) 7 태그 수(ubyte)
+ *   8 id  12 이름  16 설명  20 효과/태그 목록   (모두 파일 안 오프셋)
+ * id/이름 테이블: 해시 테이블 크기 × int (CardCatalog 와 같은 개방 주소법, 값 = 서수+1)
+ * 코스트 색인:    (MAX_COST+2) × int 누적합, 이어서 카드 수 × int 코스트순 서수
+ * 가변 영역:      문자열 [ushort 길이][UTF-8], 효과 12 바이트씩 [종류 상태 지속(short) 값(int) 설명],
+ *                태그 오프셋 int 들
+ * </pre>
+ *
+ * enum 상수 순서가 바뀌면 스키마 해시가 달라져서 이전 파일은 거부됩니다. (다시 컴파일 필요)
+ */
+public final class CardBinaryFormat {
+
+    public static final int MAGIC = 0x46434743; // "FCGC"
+    public static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 48;
+    static final int RECORD_SIZE = 24;
+    static final int EFFECT_SIZE = 12;
+
+    private CardBinaryFormat() {}
+
+    /** 이 빌드의 enum 구성. 파일에 기록된 값과 다르면 레코드의 서수를 믿을 수 없습니다. */
+    static int schemaHash() {
+        StringBuilder sb = new StringBuilder().append(card.MAX_COST);
+        for (cardType t : cardType.values()) sb.append(',').append(t.name());
+        sb.append('|');
+        for (EffectType t : EffectType.values()) sb.append(',').append(t.name());
+        sb.append('|');
+        for (StatusType t : StatusType.values()) sb.append(',').append(t.name());
+        return sb.toString().hashCode();
+    }
+
+    // ---- 쓰기 ---------------------------------------------------------------
+
+    /**
+     * 카탈로그를 바이너리 형식으로 file 에 씁니다. (기존 파일은 덮어씀)
+     */
+    public static void write(CardCatalog catalog, Path file) throws IOException {
+        ByteBuffer buf = encode(catalog);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+    }
+
+    /**
+     * 카탈로그를 바이너리 형식으로 인코딩합니다. 값이 형식의 범위를 넘으면 IllegalArgumentException.
+     */
+    public static ByteBuffer encode(CardCatalog catalog) {
+        int count = catalog.size();
+        int capacity = catalog.idTable().capacity();
+
+        int recordsOffset = HEADER_SIZE;
+        int idTableOffset = recordsOffset + count * RECORD_SIZE;
+        int nameTableOffset = idTableOffset + capacity * 4;
+        int costIndexOffset = nameTableOffset + capacity * 4;
+        int heapOffset = costIndexOffset + (card.MAX_COST + 2 + count) * 4;
+
+        Heap heap = new Heap(heapOffset);
+        int[] idRefs = new int[count];
+        int[] nameRefs = new int[count];
+        int[] descRefs = new int[count];
+        int[] extraRefs = new int[count];
+        for (int i = 0; i < count; i++) {
+            card c = catalog.get(i);
+            idRefs[i] = heap.string(c.getId());
+            nameRefs[i] = heap.string(c.getName());
+            descRefs[i] = heap.string(c.getDescription());
+            extraRefs[i] = heap.extras(c);
+        }
+
+        int length = heapOffset + heap.size();
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(schemaHash())
+           .putInt(count).putInt(capacity)
+           .putInt(recordsOffset).putInt(idTableOffset).putInt(nameTableOffset)
+           .putInt(costIndexOffset).putInt(heapOffset).putInt(length).putInt(0);
+
+        for (int i = 0; i < count; i++) {
+            card c = catalog.get(i);
+            buf.put((byte) c.getType().ordinal())
+               .put((byte) c.getCost())
+               .putShort(toShort(c.getAttack(), c, "attack"))
+               .putShort(toShort(c.getDefense(), c, "defense"))
+               .put(toUnsignedByte(c.getEffects().size(), c, "효과 수"))
+               .put(toUnsignedByte(c.getTags().size(), c, "태그 수"))
+               .putInt(idRefs[i]).putInt(nameRefs[i]).putInt(descRefs[i]).putInt(extraRefs[i]);
+        }
+
+        IntBuffer ids = catalog.idTable();
+        IntBuffer names = catalog.nameTable();
+        for (int i = 0; i < capacity; i++) buf.putInt(ids.get(i));
+        for (int i = 0; i < capacity; i++) buf.putInt(names.get(i));
+        for (int start : catalog.costStart()) buf.putInt(start);
+        IntBuffer byCost = catalog.byCost();
+        for (int i = 0; i < count; i++) buf.putInt(byCost.get(i));
+
+        buf.put(heap.bytes, 0, heap.size());
+        buf.flip();
+        return buf;
+    }
+
+    private static short toShort(int value, card c, String field) {
+        if (value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException(c.getId() + " 의 " + field + " 값이 너무 큽니다: " + value);
+        }
+        return (short) value;
+    }
+
+    private static byte toUnsignedByte(int value, card c, String field) {
+        if (value > 0xFF) {
+            throw new IllegalArgumentException(c.getId() + " 의 " + field + " 가 너무 많습니다: " + value);
+        }
+        return (byte) value;
+    }
+
+    /** 가변 영역. 같은 문자열은 한 번만 씁니다. */
+    private static final class Heap {
+        private final int base;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        Heap(int base) {
+            this.base = base;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int string(String s) {
+            Integer existing = strings.get(s);
+            if (existing != null) return existing;
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length > 0xFFFF) {
+                throw new IllegalArgumentException("문자열이 너무 깁니다 (" + utf8.length + " 바이트): " + s.substring(0, 20));
+            }
+            int ref = base + size;
+            ensure(2 + utf8.length);
+            bytes[size++] = (byte) (utf8.length >>> 8);
+            bytes[size++] = (byte) utf8.length;
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+            strings.put(s, ref);
+            return ref;
+        }
+
+        int extras(card c) {
+            int[] effectDescs = new int[c.getEffects().size()];
+            for (int i = 0; i < effectDescs.length; i++) {
+                effectDescs[i] = string(c.getEffects().get(i).getDescription());
+            }
+            int[] tags = new int[c.getTags().size()];
+            for (int i = 0; i < tags.length; i++) tags[i] = string(c.getTags().get(i));
+
+            int ref = base + size;
+            ensure(effectDescs.length * EFFECT_SIZE + tags.length * 4);
+            for (int i = 0; i < effectDescs.length; i++) {
+                cardEffect e = c.getEffects().get(i);
+                if (e.getDuration() > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException(c.getId() + " 의 효과 지속 턴이 너무 깁니다: " + e.getDuration());
+                }
+                bytes[size++] = (byte) e.getType().ordinal();
+                bytes[size++] = (byte) e.getStatusType().ordinal();
+                putShort(e.getDuration());
+                putInt(e.getValue());
+                putInt(effectDescs[i]);
+            }
+            for (int tag : tags) putInt(tag);
+            return ref;
+        }
+
+        private void putShort(int v) {
+            bytes[size++] = (byte) (v >>> 8);
+            bytes[size++] = (byte) v;
+        }
+
+        private void putInt(int v) {
+            putShort(v >>> 16);
+            putShort(v);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    // ---- 읽기 ---------------------------------------------------------------
+
+    /**
+     * file 을 읽기 전용으로 매핑해서 카탈로그를 만듭니다.
+     * 매핑은 채널을 닫은 뒤에도 유효하며, 카탈로그가 살아 있는 동안 유지됩니다.
+     */
+    public static CardCatalog map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    /**
+     * 바이너리 카탈로그가 담긴 버퍼로 카탈로그를 만듭니다. (jar 안의 리소스처럼 매핑할 수 없을 때)
+     * 헤더와 색인 범위만 확인하고 카드 레코드는 조회할 때 읽습니다.
+     * 형식이 맞지 않으면 IllegalArgumentException 이 발생합니다.
+     */
+    public static CardCatalog read(ByteBuffer source) {
+        ByteBuffer buf = source.duplicate().order(ByteOrder.BIG_ENDIAN);
+        buf.position(0);
+        if (buf.limit() < HEADER_SIZE || buf.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("카드 바이너리 파일이 아닙니다.");
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 카드 바이너리 버전입니다: " + buf.getInt(4));
+        }
+        if (buf.getInt(8) != schemaHash()) {
+            throw new IllegalArgumentException("카드 바이너리가 현재 카드 enum 구성과 맞지 않습니다. 다시 컴파일하세요.");
+        }
+        int count = buf.getInt(12);
+        int capacity = buf.getInt(16);
+        int recordsOffset = buf.getInt(20);
+        int idTableOffset = buf.getInt(24);
+        int nameTableOffset = buf.getInt(28);
+        int costIndexOffset = buf.getInt(32);
+        int heapOffset = buf.getInt(36);
+        int length = buf.getInt(40);
+        if (length != buf.limit() || count < 0
+                || recordsOffset != HEADER_SIZE
+                || idTableOffset != recordsOffset + count * RECORD_SIZE
+                || nameTableOffset != idTableOffset + capacity * 4
+                || costIndexOffset != nameTableOffset + capacity * 4
+                || heapOffset != costIndexOffset + (card.MAX_COST + 2 + count) * 4
+                || heapOffset > length) {
+            throw new IllegalArgumentException("카드 바이너리 헤더가 손상되었습니다.");
+        }
+
+        int[] costStart = new int[card.MAX_COST + 2];
+        for (int i = 0; i < costStart.length; i++) costStart[i] = buf.getInt(costIndexOffset + i * 4);
+
+        Decoder decoder = new Decoder(buf, recordsOffset);
+        return new CardCatalog(count, null, decoder::decode,
+                ints(buf, idTableOffset, capacity),
+                ints(buf, nameTableOffset, capacity),
+                costStart,
+                ints(buf, costIndexOffset + costStart.length * 4, count));
+    }
+
+    private static IntBuffer ints(ByteBuffer buf, int offset, int count) {
+        ByteBuffer view = buf.duplicate();
+        view.position(offset).limit(offset + count * 4);
+        return view.slice().asIntBuffer();
+    }
+
+    /** 레코드 하나를 card 로 만듭니다. 절대 위치로만 읽으므로 여러 스레드에서 불러도 됩니다. */
+    private static final class Decoder {
+        private static final cardType[] TYPES = cardType.values();
+        private static final EffectType[] EFFECTS = EffectType.values();
+        private static final StatusType[] STATUSES = StatusType.values();
+
+        private final ByteBuffer buf;
+        private final int recordsOffset;
+
+        Decoder(ByteBuffer buf, int recordsOffset) {
+            this.buf = buf;
+            this.recordsOffset = recordsOffset;
+        }
+
+        card decode(int ordinal) {
+            int r = recordsOffset + ordinal * RECORD_SIZE;
+            try {
+                card.Builder b = card.builder()
+                        .type(TYPES[buf.get(r)])
+                        .cost(buf.get(r + 1))
+                        .attack(buf.getShort(r + 2))
+                        .defense(buf.getShort(r + 4))
+                        .id(string(buf.getInt(r + 8)))
+                        .name(string(buf.getInt(r + 12)))
+                        .description(string(buf.getInt(r + 16)));
+                int effectCount = buf.get(r + 6) & 0xFF;
+                int tagCount = buf.get(r + 7) & 0xFF;
+                int p = buf.getInt(r + 20);
+                for (int i = 0; i < effectCount; i++, p += EFFECT_SIZE) {
+                    b.addEffect(new cardEffect(EFFECTS[buf.get(p)], buf.getInt(p + 4),
+                            STATUSES[buf.get(p + 1)], buf.getShort(p + 2), string(buf.getInt(p + 8))));
+                }
+                for (int i = 0; i < tagCount; i++, p += 4) {
+                    b.addTag(string(buf.getInt(p)));
+                }
+                return b.build();
+            } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IllegalStateException("카드 바이너리의 " + ordinal + "번 레코드가 손상되었습니다.", e);
+            }
+        }
+
+        private String string(int ref) {
+            int len = buf.getShort(ref) & 0xFFFF;
+            byte[] utf8 = new byte[len];
+            buf.get(ref + 2, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package game.card;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * 카드 목록을 색인해 둔 불변 카탈로그입니다.
+ *
+ * - 서수(ordinal): 등록 순서대로 0 ~ size()-1. 카드 이미지 인덱스, 압축 상태 등에서 사용합니다.
+ * - id / 이름 → 카드: 개방 주소법 해시 테이블 (int 배열), O(1)
+ * - 코스트별 목록: 코스트 순으로 정렬한 서수 배열을 코스트 시작 위치(누적합)로 잘라서 씁니다.
+ *   "코스트 N 이하" 같은 범위도 누적합으로 바로 구합니다.
+ *
+ * 색인 테이블은 IntBuffer 로 들고 있으므로 힙 배열(of) 이든 매핑된 cards.bin(CardBinaryFormat) 이든
+ * 같은 코드로 조회합니다. 바이너리에서 만든 카탈로그는 카드를 처음 조회할 때 하나씩 만들어 둡니다.
+ *
+ * 모든 반환 리스트는 생성 시점에 만들어 둔 수정 불가 뷰이므로 조회할 때 할당이 없습니다.
+ */
+public final class CardCatalog {
+
+    private final int size;
+
+    /** 서수 → 카드. 바이너리 카탈로그는 처음 조회할 때 채웁니다. */
+    private final AtomicReferenceArray<card> cards;
+    private final IntFunction<card> decoder;
+
+    /** 해시 테이블: 값은 서수+1 (0 = 빈 칸) */
+    private final IntBuffer idTable;
+    private final IntBuffer nameTable;
+    private final int mask;
+
+    /** byCost 에서 코스트 c 가 시작하는 위치. costStart[c+1] - costStart[c] = 코스트 c 카드 수 */
+    private final int[] costStart;
+    /** 코스트 오름차순(같은 코스트는 서수 순)으로 정렬한 서수들 */
+    private final IntBuffer byCost;
+
+    private final List<card> all;
+
+    /** fingerprint() 캐시 (0 = 아직 계산 안 함) */
+    private volatile int fingerprint;
+    private final List<card>[] costBuckets;
+    private final List<card>[] costAtMost;
+
+    /**
+     * cards 순서를 서수로 하는 카탈로그를 만듭니다.
+     * id 가 겹치면 IllegalArgumentException 이 발생합니다.
+     */
+    public static CardCatalog of(List<card> cards) {
+        if (cards == null) throw new IllegalArgumentException("카드 목록은 null 일 수 없습니다.");
+        card[] array = cards.toArray(new card[0]);
+        for (card c : array) {
+            if (c == null) throw new IllegalArgumentException("카드 목록에 null 이 있습니다.");
+        }
+
+        int capacity = tableCapacity(array.length);
+        int mask = capacity - 1;
+        int[] idTable = new int[capacity];
+        int[] nameTable = new int[capacity];
+        for (int i = 0; i < array.length; i++) {
+            if (!insert(idTable, mask, array, array[i].getId(), i, true)) {
+                throw new IllegalArgumentException("카드 id 가 중복되었습니다: " + array[i].getId());
+            }
+            insert(nameTable, mask, array, array[i].getName(), i, false); // 같은 이름은 첫 번째만
+        }
+
+        // 코스트 버킷 (안정 계수 정렬)
+        int[] costStart = new int[card.MAX_COST + 2];
+        for (card c : array) costStart[c.getCost() + 1]++;
+        for (int cost = 0; cost <= card.MAX_COST; cost++) costStart[cost + 1] += costStart[cost];
+
+        int[] byCost = new int[array.length];
+        int[] fill = Arrays.copyOf(costStart, costStart.length);
+        for (int i = 0; i < array.length; i++) byCost[fill[array[i].getCost()]++] = i;
+
+        return new CardCatalog(array.length, array, null,
+                IntBuffer.wrap(idTable), IntBuffer.wrap(nameTable), costStart, IntBuffer.wrap(byCost));
+    }
+
+    /**
+     * 미리 만들어 둔 색인으로 카탈로그를 만듭니다. (CardBinaryFormat 전용)
+     * preloaded 가 null 이면 decoder 로 카드를 필요할 때 만듭니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CardCatalog(int size, card[] preloaded, IntFunction<card> decoder,
+                IntBuffer idTable, IntBuffer nameTable, int[] costStart, IntBuffer byCost) {
+        int capacity = idTable.capacity();
+        if (Integer.bitCount(capacity) != 1 || nameTable.capacity() != capacity || capacity <= size) {
+            throw new IllegalArgumentException("해시 테이블 크기가 올바르지 않습니다: " + capacity);
+        }
+        if (costStart.length != card.MAX_COST + 2 || costStart[card.MAX_COST + 1] != size
+                || byCost.capacity() != size) {
+            throw new IllegalArgumentException("코스트 색인이 카드 수와 맞지 않습니다.");
+        }
+        this.size = size;
+        this.cards = preloaded == null ? new AtomicReferenceArray<>(size) : new AtomicReferenceArray<>(preloaded);
+        this.decoder = decoder;
+        this.idTable = idTable;
+        this.nameTable = nameTable;
+        this.mask = capacity - 1;
+        this.costStart = costStart;
+        this.byCost = byCost;
+
+        this.all = new View(0, size, false);
+        this.costBuckets = new List[card.MAX_COST + 1];
+        this.costAtMost = new List[card.MAX_COST + 1];
+        for (int cost = 0; cost <= card.MAX_COST; cost++) {
+            costBuckets[cost] = new View(costStart[cost], costStart[cost + 1], true);
+            costAtMost[cost] = new View(0, costStart[cost + 1], true);
+        }
+    }
+
+    /** 카드 수의 2배 이상인 2의 거듭제곱 (부하율 0.5 이하) */
+    static int tableCapacity(int cardCount) {
+        return Integer.highestOneBit(Math.max(2, cardCount * 2) - 1) << 1;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /** @return 새로 넣었으면 true, 같은 키가 이미 있으면 false */
+    private static boolean insert(int[] table, int mask, card[] cards, String key, int ordinal, boolean byId) {
+        int i = spread(key.hashCode()) & mask;
+        while (table[i] != 0) {
+            card existing = cards[table[i] - 1];
+            if (key.equals(byId ? existing.getId() : existing.getName())) return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = ordinal + 1;
+        return true;
+    }
+
+    private int lookup(IntBuffer table, String key, boolean byId) {
+        if (key == null) return -1;
+        int i = spread(key.hashCode()) & mask;
+        int slot;
+        while ((slot = table.get(i)) != 0) {
+            card c = get(slot - 1);
+            if (key.equals(byId ? c.getId() : c.getName())) return slot - 1;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** 서수 [from, to) 또는 byCost [from, to) 구간을 카드 리스트로 보여 주는 뷰 */
+    private final class View extends AbstractList<card> implements RandomAccess {
+        private final int from;
+        private final int to;
+        private final boolean sortedByCost;
+
+        View(int from, int to, boolean sortedByCost) {
+            this.from = from;
+            this.to = to;
+            this.sortedByCost = sortedByCost;
+        }
+
+        @Override
+        public card get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("index=" + index + ", size=" + (to - from));
+            }
+            int i = from + index;
+            return CardCatalog.this.get(sortedByCost ? byCost.get(i) : i);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    // ---- 조회 ---------------------------------------------------------------
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 서수 순서대로 나열한 id 들의 해시입니다.
+     * 카드 서수를 저장한 파일(스냅샷 등)이 같은 카탈로그에서 만들어졌는지 확인할 때 씁니다.
+     */
+    public int fingerprint() {
+        int h = fingerprint;
+        if (h == 0) {
+            h = size;
+            for (int i = 0; i < size; i++) h = 31 * h + get(i).getId().hashCode();
+            if (h == 0) h = 1;
+            fingerprint = h;
+        }
+        return h;
+    }
+
+    /** 서수 순서의 모든 카드 (수정 불가) */
+    public List<card> all() {
+        return all;
+    }
+
+    /** 서수로 카드를 찾습니다. 범위를 벗어나면 null */
+    public card get(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) return null;
+        card c = cards.get(ordinal);
+        if (c == null) {
+            // 여러 스레드가 동시에 만들어도 먼저 넣은 인스턴스 하나만 쓰이도록 합니다.
+            card decoded = decoder.apply(ordinal);
+            c = cards.compareAndSet(ordinal, null, decoded) ? decoded : cards.get(ordinal);
+        }
+        return c;
+    }
+
+    /** 카드의 서수 (id 로 찾음). 이 카탈로그에 없는 카드면 -1 */
+    public int ordinalOf(card c) {
+        return c == null ? -1 : lookup(idTable, c.getId(), true);
+    }
+
+    public int ordinalOfId(String id) {
+        return lookup(idTable, id, true);
+    }
+
+    public card findById(String id) {
+        int ordinal = lookup(idTable, id, true);
+        return ordinal < 0 ? null : get(ordinal);
+    }
+
+    /** 이름으로 찾습니다. 같은 이름이 여러 장이면 서수가 가장 작은 카드 */
+    public card findByName(String name) {
+        int ordinal = lookup(nameTable, name, false);
+        return ordinal < 0 ? null : get(ordinal);
+    }
+
+    /** 코스트가 정확히 cost 인 카드들 (코스트 범위 밖이면 빈 리스트) */
+    public List<card> findByCost(int cost) {
+        if (cost < 0 || cost > card.MAX_COST) return Collections.emptyList();
+        return costBuckets[cost];
+    }
+
+    /** 코스트가 maxCost 이하인 카드들 (코스트 오름차순) */
+    public List<card> findByCostLessOrEqual(int maxCost) {
+        if (maxCost < 0) return Collections.emptyList();
+        return costAtMost[Math.min(maxCost, card.MAX_COST)];
+    }
+
+    /** 코스트가 minCost 이상 maxCost 이하인 카드 수 */
+    public int countByCostRange(int minCost, int maxCost) {
+        int lo = Math.max(0, minCost);
+        int hi = Math.min(card.MAX_COST, maxCost);
+        if (lo > hi) return 0;
+        return costStart[hi + 1] - costStart[lo];
+    }
+
+    /** 서수 순서의 카드 목록을 새 리스트로 복사합니다. (덱 만들기 등 수정이 필요할 때) */
+    public List<card> copyAll() {
+        return new ArrayList<>(all);
+    }
+
+    // ---- CardBinaryFormat 이 색인을 그대로 기록할 때 사용 ----------------------
+
+    IntBuffer idTable() {
+        return idTable.duplicate();
+    }
+
+    IntBuffer nameTable() {
+        return nameTable.duplicate();
+    }
+
+    int[] costStart() {
+        return costStart.clone();
+    }
+
+    IntBuffer byCost() {
+        return byCost.duplicate();
+    }
+}
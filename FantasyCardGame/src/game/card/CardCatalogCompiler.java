@@ -0,0 +1,50 @@
+package game.card;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 카드 원본(cards.txt)을 게임이 읽는 바이너리(cards.bin)로 변환하는 도구입니다.
+ * 카드 데이터를 고친 뒤에 한 번 실행하면 되고, 게임 코드를 다시 컴파일할 필요는 없습니다.
+ *
+ * 사용법 (FantasyCardGame 폴더에서):
+ *   java -cp out game.card.CardCatalogCompiler [원본=src/res/cards.txt] [출력=src/res/cards.bin]
+ */
+public final class CardCatalogCompiler {
+
+    private CardCatalogCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : "src/res/cards.txt");
+        Path target = Paths.get(args.length > 1 ? args[1] : "src/res/cards.bin");
+
+        CardCatalog catalog;
+        try {
+            catalog = compile(source, target);
+        } catch (IllegalArgumentException e) {
+            System.err.println(source + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.println(source + " -> " + target + " (" + catalog.size() + "장, "
+                + Files.size(target) + " 바이트)");
+    }
+
+    /**
+     * source 를 읽어 검증(id 중복, 값 범위)한 뒤 target 에 바이너리로 씁니다.
+     */
+    public static CardCatalog compile(Path source, Path target) throws IOException {
+        List<card> cards;
+        try (Reader in = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            cards = CardTextFormat.parse(in);
+        }
+        CardCatalog catalog = CardCatalog.of(cards);
+        CardBinaryFormat.write(catalog, target);
+        return catalog;
+    }
+}
@@ -1,253 +1,143 @@
 package game.card;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * 카드 데이터를 관리하는 저장소 클래스입니다.
  *
- * - ALL_CARDS 리스트에 모든 카드 정보를 보관합니다.
- * - findById, findByName 등 조회용 유틸 메서드를 제공합니다.
+ * - 카드 데이터는 코드가 아니라 res/cards.txt 에 있습니다. (형식: CardTextFormat)
+ *   고친 뒤 CardCatalogCompiler 로 res/cards.bin 을 만들면 게임은 그 파일을 매핑해서 읽습니다.
+ * - findById, findByName 등 조회용 유틸 메서드를 제공합니다. (CATALOG 를 통해 O(1) 조회)
  * - createShuffledDeck 을 통해 섞인 덱을 만들 수 있습니다.
  *
- * 이 클래스의 코드는 "데이터 + 도우미 메서드" 위주이기 때문에
- * 라인 수를 채우기에 좋고, 팀원들도 쉽게 읽고 수정할 수 있습니다.
+ * 카드를 추가/수정할 때 자바 코드를 다시 컴파일할 필요가 없습니다.
  */
 public class CardRepository {
 
     /**
-     * 게임에 존재하는 모든 카드 목록입니다.
+     * 다른 카드 파일(.bin 또는 .txt)을 쓰고 싶을 때 지정하는 시스템 속성입니다.
+     * 예: java -Dgame.cards=mods/cards.bin ...
      */
-    private static final List<card> ALL_CARDS = new ArrayList<>();
+    public static final String CARDS_PROPERTY = "game.cards";
 
-    // 정적 초기화 블록에서 카드 데이터를 등록합니다.
-    static {
-        // ---- 기본 카드들 -----------------------------------------------------
+    private static final String BINARY_RESOURCE = "/res/cards.bin";
+    private static final String SOURCE_RESOURCE = "/res/cards.txt";
 
-        ALL_CARDS.add(card.createNormal(
-                "MON_001",
-                "돌거북",
-                3,
-                2,
-                3,
-                "공격 2, 방어 3의 단단한 돌거북 몬스터입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_002",
-                "불꽃늑대",
-                4,
-                4,
-                2,
-                "화염의 기운을 두른 공격적인 늑대 몬스터입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_003",
-                "숲의 수호자",
-                5,
-                3,
-                5,
-                "숲을 지키는 수호자 몬스터로, 방어에 강합니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_004",
-                "고블린 전사",
-                2,
-                2,
-                1,
-                "값싼 공격 요원으로 활용할 수 있는 고블린입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_005",
-                "고블린 방패병",
-                2,
-                1,
-                3,
-                "저코스트 수비용 고블린 몬스터입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_006",
-                "얼음 골렘",
-                6,
-                4,
-                7,
-                "얼음으로 만들어진 골렘으로, 높은 체력과 방어력을 자랑합니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_007",
-                "화염 정령",
-                5,
-                6,
-                1,
-                "매우 높은 공격력을 가진 불의 정령입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_008",
-                "바람의 기사",
-                4,
-                3,
-                3,
-                "공격과 방어가 균형 잡힌 바람 속성 기사입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_009",
-                "대지의 수호병",
-                5,
-                2,
-                6,
-                "대지의 힘으로 방어에 특화된 몬스터입니다."
-        ));
-
-        ALL_CARDS.add(card.createNormal(
-                "MON_010",
-                "빛의 성직자",
-                3,
-                1,
-                4,
-                "방어 위주의 빛 속성 몬스터입니다."
-        ));
-
-        // ---- 특수 효과를 가진 카드들 ----------------------------------------
-
-        // 도발 탱커
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_011",
-                "도발의 방패병",
-                4,
-                2,
-                6,
-                List.of(
-                        new cardEffect(EffectType.TAUNT, 0)
-                ),
-                "도발을 가진 탱커 몬스터로, 상대의 공격을 자신에게 끌어옵니다."
-        ));
-
-        // 플레이어를 직접 공격하는 카드
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_012",
-                "심장파괴자",
-                6,
-                5,
-                2,
-                List.of(
-                        new cardEffect(EffectType.DIRECT_ATTACK_PLAYER, 5)
-                ),
-                "적 플레이어에게 직접 5의 피해를 줄 수 있는 몬스터입니다."
-        ));
+    /**
+     * 모든 카드를 색인한 불변 카탈로그입니다. 서수 = cards.txt 안의 순서 = 카드 이미지 인덱스.
+     */
+    private static final CardCatalog CATALOG = loadCatalog();
 
-        // 도발 + 플레이어 직통 공격을 모두 가진 미니 보스 카드
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_013",
-                "분노한 용병대장",
-                7,
-                6,
-                4,
-                List.of(
-                        new cardEffect(EffectType.TAUNT, 0),
-                        new cardEffect(EffectType.DIRECT_ATTACK_PLAYER, 3)
-                ),
-                "도발과 플레이어 직통 공격을 모두 가진 강력한 몬스터입니다."
-        ));
+    // ---- 카드 데이터 읽기 ---------------------------------------------------
 
-        // 공격 관련 추가 예시 카드
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_014",
-                "암살단 첨병",
-                4,
-                4,
-                1,
-                List.of(
-                        new cardEffect(EffectType.DAMAGE_TO_MONSTER, 2)
-                ),
-                "등장 시 적 몬스터에게 추가 피해를 줄 수 있는 암살형 몬스터입니다."
-        ));
+    /**
+     * 카드 데이터를 읽습니다.
+     *
+     * 1) game.cards 속성이 있으면 그 파일
+     * 2) res/cards.bin (매핑해서 읽으므로 카드 수와 상관없이 바로 끝남)
+     * 3) cards.bin 이 없거나, cards.txt 보다 오래되었거나, 형식이 맞지 않으면 res/cards.txt
+     */
+    private static CardCatalog loadCatalog() {
+        try {
+            String override = System.getProperty(CARDS_PROPERTY);
+            if (override != null) {
+                return loadFile(Paths.get(override));
+            }
 
-        // 방어/지원 관련 예시 카드
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_015",
-                "수호의 기사",
-                5,
-                3,
-                5,
-                List.of(
-                        new cardEffect(EffectType.BUFF_DEFENSE, 2)
-                ),
-                "아군 방어를 강화하는 수호 기사입니다."
-        ));
+            URL binary = CardRepository.class.getResource(BINARY_RESOURCE);
+            URL source = CardRepository.class.getResource(SOURCE_RESOURCE);
+            if (binary != null && !isOlderThan(binary, source)) {
+                try {
+                    return loadBinary(binary);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("cards.bin 을 읽을 수 없어 cards.txt 를 사용합니다: " + e.getMessage());
+                }
+            } else if (binary != null) {
+                System.err.println("cards.bin 이 cards.txt 보다 오래되어 cards.txt 를 사용합니다. CardCatalogCompiler 를 실행하세요.");
+            }
 
-        // 조금 더 강한 몬스터들
-        ALL_CARDS.add(card.createNormal(
-                "MON_016",
-                "용의 분노",
-                8,
-                8,
-                4,
-                "높은 코스트를 요구하지만 막강한 공격력을 가진 드래곤 몬스터입니다."
-        ));
+            if (source == null) {
+                throw new IllegalStateException("카드 데이터를 찾을 수 없습니다: " + SOURCE_RESOURCE);
+            }
+            try (Reader in = new InputStreamReader(source.openStream(), StandardCharsets.UTF_8)) {
+                return CardCatalog.of(CardTextFormat.parse(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카드 데이터를 읽지 못했습니다.", e);
+        }
+    }
 
-        ALL_CARDS.add(card.createNormal(
-                "MON_017",
-                "어둠의 군주",
-                9,
-                9,
-                5,
-                "공격과 방어 모두 뛰어난 어둠 속성 군주입니다."
-        ));
+    private static CardCatalog loadFile(Path file) throws IOException {
+        if (file.toString().endsWith(".txt")) {
+            try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return CardCatalog.of(CardTextFormat.parse(in));
+            }
+        }
+        return CardBinaryFormat.map(file);
+    }
 
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_018",
-                "불멸의 수호자",
-                7,
-                3,
-                9,
-                List.of(
-                        new cardEffect(EffectType.BUFF_DEFENSE, 3)
-                ),
-                "방어력이 매우 높고, 방어 버프를 부여하는 수호자입니다."
-        ));
+    /** 일반 파일이면 매핑하고, jar 안이라 매핑할 수 없으면 바이트로 읽어서 씁니다. */
+    private static CardCatalog loadBinary(URL binary) throws IOException {
+        Path file = toPath(binary);
+        if (file != null) {
+            return CardBinaryFormat.map(file);
+        }
+        try (InputStream in = binary.openStream()) {
+            return CardBinaryFormat.read(ByteBuffer.wrap(in.readAllBytes()));
+        }
+    }
 
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_019",
-                "광기의 마도사",
-                6,
-                6,
-                2,
-                List.of(
-                        new cardEffect(EffectType.DIRECT_ATTACK_PLAYER, 4)
-                ),
-                "적 플레이어를 집요하게 노리는 광기의 마법사 몬스터입니다."
-        ));
+    /**
+     * 둘 다 일반 파일일 때만 수정 시각을 비교합니다. (jar 안이면 항상 false)
+     * 빌드가 res 폴더를 통째로 복사하면 두 파일의 시각이 거의 같아지므로 2초까지는 같은 것으로 봅니다.
+     */
+    private static boolean isOlderThan(URL binary, URL source) throws IOException {
+        Path bin = toPath(binary);
+        Path txt = source == null ? null : toPath(source);
+        if (bin == null || txt == null) return false;
+        long binTime = Files.getLastModifiedTime(bin).toMillis();
+        long txtTime = Files.getLastModifiedTime(txt).toMillis();
+        return txtTime - binTime > 2000;
+    }
 
-        ALL_CARDS.add(card.createWithEffects(
-                "MON_020",
-                "지배자 크라운",
-                10,
-                10,
-                8,
-                List.of(
-                        new cardEffect(EffectType.TAUNT, 0),
-                        new cardEffect(EffectType.DIRECT_ATTACK_PLAYER, 6)
-                ),
-                "최고 코스트의 보스 몬스터로, 도발과 강력한 직통 공격을 모두 보유합니다."
-        ));
+    private static Path toPath(URL url) {
+        if (!"file".equals(url.getProtocol())) return null;
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     // ---- 조회용 메서드들 ----------------------------------------------------
 
     /**
-     * 등록된 모든 카드를 새로운 리스트로 반환합니다.
-     * 반환되는 리스트를 수정해도 내부 데이터에는 영향이 없습니다.
+     * 색인된 카드 카탈로그를 반환합니다.
+     */
+    public static CardCatalog getCatalog() {
+        return CATALOG;
+    }
+
+    /**
+     * 등록된 모든 카드를 서수 순서로 반환합니다.
+     * 반환되는 리스트는 수정할 수 없습니다. (수정이 필요하면 복사해서 사용)
      */
     public static List<card> getAllCards() {
-        return new ArrayList<>(ALL_CARDS);
+        return CATALOG.all();
     }
 
     /**
@@ -255,15 +145,38 @@ public class CardRepository {
      * 없으면 null 을 반환합니다.
      */
     public static card findById(String id) {
-        if (id == null) {
-            return null;
-        }
-        for (card c : ALL_CARDS) {
-            if (id.equals(c.getId())) {
-                return c;
-            }
-        }
-        return null;
+        return CATALOG.findById(id);
+    }
+
+    /**
+     * 카드의 서수(0 ~ size()-1)를 반환합니다.
+     * 등록되지 않은 카드라면 -1 을 반환합니다.
+     */
+    public static int ordinalOf(card c) {
+        return CATALOG.ordinalOf(c);
+    }
+
+    /**
+     * 서수로 카드를 찾습니다.
+     * 범위를 벗어나면 null 을 반환합니다.
+     */
+    public static card findByOrdinal(int ordinal) {
+        return CATALOG.get(ordinal);
+    }
+
+    /**
+     * 등록된 카드 수를 반환합니다.
+     */
+    public static int size() {
+        return CATALOG.size();
+    }
+
+    /**
+     * 카탈로그 지문(CardCatalog.fingerprint)을 반환합니다.
+     * 카드가 추가/삭제되거나 순서가 바뀌면 달라집니다.
+     */
+    public static int catalogFingerprint() {
+        return CATALOG.fingerprint();
     }
 
     /**
@@ -271,49 +184,37 @@ public class CardRepository {
      * 이름이 같은 카드가 여러 개라면 첫 번째 결과만 반환합니다.
      */
     public static card findByName(String name) {
-        if (name == null) {
-            return null;
-        }
-        for (card c : ALL_CARDS) {
-            if (name.equals(c.getName())) {
-                return c;
-            }
-        }
-        return null;
+        return CATALOG.findByName(name);
     }
 
     /**
-     * 특정 코스트 값을 가진 카드 목록을 반환합니다.
+     * 특정 코스트 값을 가진 카드 목록을 반환합니다. (수정 불가)
      */
     public static List<card> findByCost(int cost) {
-        List<card> result = new ArrayList<>();
-        for (card c : ALL_CARDS) {
-            if (c.getCost() == cost) {
-                result.add(c);
-            }
-        }
-        return result;
+        return CATALOG.findByCost(cost);
     }
 
     /**
-     * 코스트가 주어진 값 이하인 카드들을 모두 반환합니다.
+     * 코스트가 주어진 값 이하인 카드들을 코스트 오름차순으로 반환합니다. (수정 불가)
      */
     public static List<card> findByCostLessOrEqual(int maxCost) {
-        List<card> result = new ArrayList<>();
-        for (card c : ALL_CARDS) {
-            if (c.getCost() <= maxCost) {
-                result.add(c);
-            }
-        }
-        return result;
+        return CATALOG.findByCostLessOrEqual(maxCost);
     }
 
     /**
      * 단순하게 모든 카드를 섞어서 반환합니다.
      */
     public static List<card> createShuffledDeck() {
-        List<card> copy = new ArrayList<>(ALL_CARDS);
-        Collections.shuffle(copy);
+        return createShuffledDeck(new SplittableRandom());
+    }
+
+    /**
+     * 모든 카드를 주어진 난수 발생기로 섞어서 반환합니다.
+     * 같은 상태의 난수 발생기를 넘기면 항상 같은 순서가 나옵니다.
+     */
+    public static List<card> createShuffledDeck(SplittableRandom random) {
+        List<card> copy = CATALOG.copyAll();
+        shuffle(copy, random);
         return copy;
     }
 
@@ -322,21 +223,38 @@ public class CardRepository {
      * 전체 카드 수보다 큰 값이 들어오면 전체 카드 수로 조정합니다.
      */
     public static List<card> createShuffledDeck(int deckSize) {
-        List<card> copy = new ArrayList<>(ALL_CARDS);
-        Collections.shuffle(copy);
+        return createShuffledDeck(deckSize, new SplittableRandom());
+    }
+
+    /**
+     * 원하는 크기의 덱을 주어진 난수 발생기로 섞어서 생성합니다. (시드로 재현 가능한 전투용)
+     */
+    public static List<card> createShuffledDeck(int deckSize, SplittableRandom random) {
+        List<card> copy = createShuffledDeck(random);
         if (deckSize > copy.size()) {
             deckSize = copy.size();
         }
         return new ArrayList<>(copy.subList(0, deckSize));
     }
 
+    /**
+     * Fisher-Yates 셔플. Collections.shuffle 과 달리 전역 난수를 쓰지 않고 넘겨받은 난수만 씁니다.
+     */
+    public static void shuffle(List<card> cards, SplittableRandom random) {
+        if (random == null) throw new IllegalArgumentException("난수 발생기는 null 일 수 없습니다.");
+        for (int i = cards.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            if (j != i) cards.set(i, cards.set(j, cards.get(i)));
+        }
+    }
+
     /**
      * 디버깅 또는 테스트용으로,
      * 모든 카드의 간단한 정보를 콘솔에 출력합니다.
      */
     public static void printAllCards() {
         System.out.println("===== 등록된 카드 목록 =====");
-        for (card c : ALL_CARDS) {
+        for (card c : CATALOG.all()) {
             System.out.println(c.toSimpleString());
         }
         System.out.println("===========================");
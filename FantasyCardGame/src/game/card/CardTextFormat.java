@@ -0,0 +1,174 @@
+package game.card;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사람이 고치는 카드 원본 파일(res/cards.txt) 형식입니다.
+ *
+ * 카드 한 장은 [id] 줄로 시작하고, 그 아래에 "키 = 값" 줄이 이어집니다.
+ * # 으로 시작하는 줄과 빈 줄은 무시합니다. 파일 안의 카드 순서가 곧 서수(이미지 인덱스)입니다.
+ *
+ * <pre>
+ * [MON_011]
+ * name = 도발의 방패병
+ * type = MONSTER            (생략하면 MONSTER)
+ * cost = 4
+ * attack = 2
+ * defense = 6
+ * effect = TAUNT:0          (여러 줄 가능. 형식: 종류:값[:상태:지속턴[:설명]])
+ * tags = BASIC, TANK        (쉼표로 구분. FIRE, RESIST:WATER, ARMOR:1 같은 태그는 피해 계산에 쓰임)
+ * description = 도발을 가진 탱커 몬스터로, 상대의 공격을 자신에게 끌어옵니다.
+ * </pre>
+ *
+ * 게임은 이 파일을 CardCatalogCompiler 로 변환한 cards.bin 을 읽습니다.
+ */
+public final class CardTextFormat {
+
+    private CardTextFormat() {}
+
+    /**
+     * 원본 파일을 읽어 카드 목록을 만듭니다.
+     * 형식이 틀리면 몇 번째 줄인지 담아 IllegalArgumentException 을 던집니다.
+     */
+    public static List<card> parse(Reader source) throws IOException {
+        BufferedReader in = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        List<card> result = new ArrayList<>();
+        card.Builder current = null;
+        int currentLine = 0;
+        int lineNo = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1 && line.startsWith("\uFEFF")) line = line.substring(1); // UTF-8 BOM
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[")) {
+                if (!line.endsWith("]") || line.length() < 3) {
+                    throw error(lineNo, "카드 머리글은 [id] 형식이어야 합니다: " + line);
+                }
+                if (current != null) result.add(build(current, currentLine));
+                current = card.builder().id(line.substring(1, line.length() - 1).trim());
+                currentLine = lineNo;
+                continue;
+            }
+
+            int eq = line.indexOf('=');
+            if (eq < 0) throw error(lineNo, "\"키 = 값\" 형식이 아닙니다: " + line);
+            if (current == null) throw error(lineNo, "[id] 머리글보다 먼저 속성이 나왔습니다.");
+            String key = line.substring(0, eq).trim();
+            String value = line.substring(eq + 1).trim();
+
+            switch (key) {
+                case "name":
+                    current.name(value);
+                    break;
+                case "type": {
+                    cardType type = cardType.fromString(value);
+                    if (type == null) throw error(lineNo, "알 수 없는 카드 타입입니다: " + value);
+                    current.type(type);
+                    break;
+                }
+                case "cost":
+                    current.cost(parseInt(value, lineNo));
+                    break;
+                case "attack":
+                    current.attack(parseInt(value, lineNo));
+                    break;
+                case "defense":
+                    current.defense(parseInt(value, lineNo));
+                    break;
+                case "effect":
+                    current.addEffect(parseEffect(value, lineNo));
+                    break;
+                case "tags":
+                    for (String tag : value.split(",")) current.addTag(tag.trim());
+                    break;
+                case "description":
+                    current.description(value);
+                    break;
+                default:
+                    throw error(lineNo, "알 수 없는 키입니다: " + key);
+            }
+        }
+        if (current != null) result.add(build(current, currentLine));
+        return result;
+    }
+
+    /**
+     * 카드 목록을 원본 파일 형식으로 씁니다. parse 로 다시 읽으면 같은 카드가 나옵니다.
+     */
+    public static void write(List<card> cards, Writer out) throws IOException {
+        for (card c : cards) {
+            out.write("[" + c.getId() + "]\n");
+            out.write("name = " + c.getName() + "\n");
+            if (c.getType() != cardType.MONSTER) out.write("type = " + c.getType() + "\n");
+            out.write("cost = " + c.getCost() + "\n");
+            out.write("attack = " + c.getAttack() + "\n");
+            out.write("defense = " + c.getDefense() + "\n");
+            for (cardEffect e : c.getEffects()) {
+                out.write("effect = " + e.getType() + ":" + e.getValue());
+                if (e.getStatusType() != StatusType.NONE || e.getDuration() != 0 || !e.getDescription().isEmpty()) {
+                    out.write(":" + e.getStatusType() + ":" + e.getDuration());
+                    if (!e.getDescription().isEmpty()) out.write(":" + e.getDescription());
+                }
+                out.write("\n");
+            }
+            if (!c.getTags().isEmpty()) out.write("tags = " + String.join(", ", c.getTags()) + "\n");
+            if (!c.getDescription().isEmpty()) out.write("description = " + c.getDescription() + "\n");
+            out.write("\n");
+        }
+        out.flush();
+    }
+
+    private static card build(card.Builder builder, int lineNo) {
+        try {
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw error(lineNo, e.getMessage());
+        }
+    }
+
+    private static cardEffect parseEffect(String value, int lineNo) {
+        String[] parts = value.split(":", 5);
+        if (parts.length != 2 && parts.length < 4) {
+            throw error(lineNo, "효과는 종류:값[:상태:지속턴[:설명]] 형식이어야 합니다: " + value);
+        }
+        EffectType type = parseEnum(EffectType.class, parts[0], lineNo);
+        int amount = parseInt(parts[1], lineNo);
+        if (parts.length == 2) return new cardEffect(type, amount);
+        StatusType status = parseEnum(StatusType.class, parts[2], lineNo);
+        int duration = parseInt(parts[3], lineNo);
+        String description = parts.length == 5 ? parts[4].trim() : "";
+        try {
+            return new cardEffect(type, amount, status, duration, description);
+        } catch (IllegalArgumentException e) {
+            throw error(lineNo, e.getMessage());
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, int lineNo) {
+        try {
+            return Enum.valueOf(type, value.trim());
+        } catch (IllegalArgumentException e) {
+            throw error(lineNo, "알 수 없는 " + type.getSimpleName() + " 입니다: " + value.trim());
+        }
+    }
+
+    private static int parseInt(String value, int lineNo) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw error(lineNo, "숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static IllegalArgumentException error(int lineNo, String message) {
+        return new IllegalArgumentException(lineNo + "번째 줄: " + message);
+    }
+}
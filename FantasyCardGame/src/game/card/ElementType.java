@@ -0,0 +1,31 @@
+package game.card;
+
+/**
+ * 카드 태그로 붙이는 속성입니다. (tags = FIRE 처럼)
+ *
+ * 전투에서는 공격 속성과 내성(RESIST:속성) / 약점(WEAK:속성) 태그를 비교해서
+ * 피해를 절반 / 두 배로 만듭니다. (game.battle.DamageModifiers.CARD_TAGS 참고)
+ */
+public enum ElementType {
+    FIRE,
+    WATER,
+    NATURE,
+    LIGHT,
+    DARK;
+
+    private static final ElementType[] VALUES = values();
+
+    /** 비트마스크에서 이 속성의 비트 */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /** 태그 문자열(대소문자 무시)에 해당하는 속성. 속성 태그가 아니면 null */
+    public static ElementType fromTag(String tag) {
+        if (tag == null) return null;
+        for (ElementType e : VALUES) {
+            if (e.name().equalsIgnoreCase(tag)) return e;
+        }
+        return null;
+    }
+}
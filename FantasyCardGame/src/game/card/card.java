@@ -17,6 +17,8 @@ import java.util.Objects;
  * - defense: 카드가 가진 기본 방어력 값
  * - effects: 특수 효과 목록 (도발, 플레이어 직통 공격 등)
  * - tags:    카드 분류용 태그들 (예: "BASIC", "FIRE", "BOSS")
+ *            속성/방어 태그("FIRE", "RESIST:WATER", "ARMOR:1", "SHIELD:2" 등)는 전투 피해 계산에 쓰입니다.
+ *            (game.battle.DamageModifiers.CARD_TAGS)
  * - description: 카드 설명 텍스트
  *
  * 이 클래스는 불변(immutable)을 지향합니다.
@@ -0,0 +1,156 @@
+package game.sim;
+
+import game.battle.BattleLogSink;
+import game.battle.BattleSide;
+import game.battle.EnemyAI;
+import game.battle.GameState;
+import game.battle.TurnManager;
+import game.battle.UnitStatePool;
+import game.stage.Stage;
+import game.stage.StageBattleFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Swing 없이 AI 대 AI 전투를 대량으로 돌리는 헤드리스 시뮬레이터입니다.
+ *
+ * - 전투 구성은 BaseStage 와 같은 StageBattleFactory 를 사용합니다.
+ * - 양쪽 모두 EnemyAI(그리디) 가 조종합니다.
+ * - 아무도 읽지 않는 전투 로그는 BattleLogSink.NO_OP 으로 꺼 둡니다.
+ * - 파괴된 유닛은 워커별 UnitStatePool 로 돌려보내 다음 소환에 재사용합니다.
+ * - 경기들을 스레드 수만큼 나눠 ExecutorService 에서 병렬로 실행하고,
+ *   워커별 SimulationReport 를 마지막에 합칩니다.
+ * - 시뮬레이션 시드에서 워커마다 SplittableRandom 줄기를 split() 으로 나눠 주고,
+ *   워커는 그 줄기에서 경기마다 시드를 뽑습니다. 워커끼리 난수 상태를 공유하지 않으며,
+ *   같은 (시드, 스레드 수)로 다시 돌리면 모든 경기가 같은 결과로 재현됩니다.
+ *
+ * 실행 예: java game.sim.MatchSimulator [난이도별 경기 수] [스레드 수] [시드]
+ */
+public class MatchSimulator {
+
+    /** 이 턴 수를 넘기면 무승부로 처리합니다. (피로 규칙 때문에 보통 도달하지 않음) */
+    public static final int DEFAULT_MAX_TURNS = 200;
+
+    private final int matchesPerDifficulty;
+    private final int threads;
+    private final int maxTurns;
+    private final long seed;
+
+    public MatchSimulator(int matchesPerDifficulty) {
+        this(matchesPerDifficulty, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_TURNS);
+    }
+
+    /** 시드를 새로 뽑습니다. (뽑힌 시드는 getSeed() 로 확인) */
+    public MatchSimulator(int matchesPerDifficulty, int threads, int maxTurns) {
+        this(matchesPerDifficulty, threads, maxTurns, System.nanoTime());
+    }
+
+    public MatchSimulator(int matchesPerDifficulty, int threads, int maxTurns, long seed) {
+        if (matchesPerDifficulty < 0) throw new IllegalArgumentException("경기 수는 음수일 수 없습니다.");
+        if (threads < 1) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다.");
+        if (maxTurns < 1) throw new IllegalArgumentException("최대 턴 수는 1 이상이어야 합니다.");
+        this.matchesPerDifficulty = matchesPerDifficulty;
+        this.threads = threads;
+        this.maxTurns = maxTurns;
+        this.seed = seed;
+    }
+
+    /** 이 시뮬레이션의 시드 */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 모든 난이도에 대해 matchesPerDifficulty 경기씩 실행하고 결과를 반환합니다.
+     */
+    public SimulationReport run() {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "match-simulator");
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start = System.nanoTime();
+        SimulationReport total = new SimulationReport(maxTurns);
+        SplittableRandom master = new SplittableRandom(seed);
+        try {
+            List<Future<SimulationReport>> futures = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                // 경기를 워커 수만큼 균등 분배 (앞쪽 워커가 나머지를 1경기씩 더 가짐)
+                int count = matchesPerDifficulty / threads + (w < matchesPerDifficulty % threads ? 1 : 0);
+                if (count == 0) continue;
+                SplittableRandom seeds = master.split(); // 제출하는 스레드에서 나눠서 넘김
+                futures.add(pool.submit(() -> runWorker(count, seeds)));
+            }
+
+            for (Future<SimulationReport> f : futures) {
+                total.merge(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시뮬레이션이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("시뮬레이션 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        total.setElapsedNanos(System.nanoTime() - start);
+        return total;
+    }
+
+    private SimulationReport runWorker(int matches, SplittableRandom seeds) {
+        SimulationReport report = new SimulationReport(maxTurns);
+        UnitStatePool pool = new UnitStatePool(); // 이 워커 스레드의 경기들이 같이 씀
+        for (Stage.Difficulty d : Stage.Difficulty.values()) {
+            for (int i = 0; i < matches; i++) {
+                GameState state = StageBattleFactory.createGameState(d, seeds.nextLong());
+                state.setLogSink(BattleLogSink.NO_OP);
+                state.setUnitPool(pool);
+                BattleSide winner = playMatch(state);
+                report.record(d, winner, state.getTurnNumber());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * 경기 하나를 끝까지 진행하고 승자를 반환합니다.
+     * 턴 제한을 넘기면 null (무승부) 을 반환합니다.
+     *
+     * 턴 흐름은 BaseStage 의 턴 종료 버튼과 같습니다.
+     * (startTurn → 메인 페이즈 → endTurn → 상대 startTurn ...)
+     */
+    public BattleSide playMatch(GameState state) {
+        TurnManager turnManager = new TurnManager(state);
+        EnemyAI playerAI = new EnemyAI(state, BattleSide.PLAYER);
+        EnemyAI enemyAI = new EnemyAI(state, BattleSide.ENEMY);
+
+        turnManager.startTurn();
+        while (!state.isGameOver() && state.getTurnNumber() <= maxTurns) {
+            EnemyAI ai = state.getCurrentTurnSide() == BattleSide.PLAYER ? playerAI : enemyAI;
+            ai.playMainPhase();
+            if (state.isGameOver()) break;
+
+            turnManager.endTurn();
+            turnManager.startTurn();
+        }
+        return state.getWinnerSide();
+    }
+
+    public static void main(String[] args) {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        System.out.println("난이도별 " + matches + " 경기, 스레드 " + threads + " 개, 시드 " + seed + " 로 시뮬레이션을 시작합니다.");
+        SimulationReport report = new MatchSimulator(matches, threads, DEFAULT_MAX_TURNS, seed).run();
+        System.out.println(report);
+    }
+}
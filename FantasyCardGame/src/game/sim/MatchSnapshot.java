@@ -0,0 +1,168 @@
+package game.sim;
+
+import game.battle.GameState;
+import game.battle.PackedGameState;
+import game.card.CardRepository;
+import game.stage.Stage;
+import game.stage.StageBattleFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 진행 중인 전투를 통째로 저장해 두었다가 그대로 이어서 할 수 있게 하는 스냅샷입니다.
+ *
+ * 전투 내용(양쪽 영웅/마나/피로/필드/손패/덱/상태이상, 턴 주체/번호/Phase)은
+ * PackedGameState 의 int 배열을 그대로 담고, 난이도/시드/남은 턴 시간을 헤더에 붙입니다.
+ * 쓸 때는 FileChannel 로 ByteBuffer 를 한 번에 쓰고, 이어 할 때는 load 로 파일을 힙에 읽어서
+ * int 배열을 IntBuffer 로 바로 복사합니다.
+ *
+ * <pre>
+ * 헤더 (48 바이트, big-endian)
+ *   0  MAGIC 'FCSS'     4  VERSION            8  카드 카탈로그 지문   12  난이도 서수
+ *  16  시드 (8)        24  남은 턴 시간 ms (8) 32  턴 제한 시간 ms (8)  40  int 개수
+ *  44  (예약)
+ * 본문
+ *  48  PackedGameState int 들
+ * </pre>
+ *
+ * 카드는 서수로 저장되므로 카탈로그 지문이 다르면(카드가 추가/삭제됨) 읽지 않습니다.
+ * 난수 발생기의 진행 상태는 저장하지 않으며, 복원된 전투는 같은 시드의 새 난수로 시작합니다.
+ */
+public final class MatchSnapshot {
+
+    public static final int MAGIC = 0x46435353; // "FCSS"
+    public static final int VERSION = 1;
+
+    /** 스냅샷 파일 확장자 */
+    public static final String FILE_EXTENSION = ".fcs";
+
+    static final int HEADER_SIZE = 48;
+
+    private final Stage.Difficulty difficulty;
+    private final long seed;
+    private final long remainingTurnMillis;
+    private final long turnTimeLimitMillis;
+    private final PackedGameState packed;
+
+    private MatchSnapshot(Stage.Difficulty difficulty, long seed, long remainingTurnMillis,
+                          long turnTimeLimitMillis, PackedGameState packed) {
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.remainingTurnMillis = remainingTurnMillis;
+        this.turnTimeLimitMillis = turnTimeLimitMillis;
+        this.packed = packed;
+    }
+
+    /** 지금 상태를 스냅샷으로 찍습니다. (남은 턴 시간은 지금 시각 기준) */
+    public static MatchSnapshot capture(GameState state, Stage.Difficulty difficulty) {
+        if (state == null) throw new IllegalArgumentException("GameState 는 null 일 수 없습니다.");
+        if (difficulty == null) throw new IllegalArgumentException("Difficulty 는 null 일 수 없습니다.");
+        return new MatchSnapshot(difficulty, state.getSeed(), state.getRemainingTurnTimeMillis(),
+                state.getTurnTimeLimitMillis(), PackedGameState.of(state));
+    }
+
+    /**
+     * 저장된 상태로 새 GameState 를 만듭니다. 턴 타이머도 남은 시간부터 다시 흐릅니다.
+     * 피해 수정자는 저장하지 않고 난이도에서 다시 만듭니다.
+     */
+    public GameState restore() {
+        GameState state = packed.toGameState(seed);
+        state.setDamageModifiers(StageBattleFactory.damageModifiers(difficulty));
+        state.setTurnTimeLimitMillis(turnTimeLimitMillis);
+        state.resumeTurnTimer(remainingTurnMillis);
+        return state;
+    }
+
+    public Stage.Difficulty getDifficulty() { return difficulty; }
+    public long getSeed() { return seed; }
+    public long getRemainingTurnMillis() { return remainingTurnMillis; }
+    public long getTurnTimeLimitMillis() { return turnTimeLimitMillis; }
+
+    /** 저장된 전투 내용 (복원 없이 읽기용) */
+    public PackedGameState getPackedState() { return packed; }
+
+    // ---- 쓰기 ---------------------------------------------------------------
+
+    public ByteBuffer encode() {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + packed.length() * 4);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(CardRepository.catalogFingerprint()).putInt(difficulty.ordinal())
+           .putLong(seed).putLong(remainingTurnMillis).putLong(turnTimeLimitMillis)
+           .putInt(packed.length()).putInt(0);
+        packed.writeTo(buf.asIntBuffer());
+        buf.position(0);
+        return buf;
+    }
+
+    /** file 에 씁니다. (기존 파일은 덮어씀) */
+    public void write(Path file) throws IOException {
+        ByteBuffer buf = encode();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+    }
+
+    // ---- 읽기 ---------------------------------------------------------------
+
+    /**
+     * file 을 힙으로 읽습니다. 읽고 나면 파일을 잡고 있지 않으므로 바로 지우거나 덮어써도 됩니다.
+     */
+    public static MatchSnapshot load(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * file 을 메모리 매핑해서 읽습니다. (들여다보기 전용)
+     * 매핑은 GC 될 때까지 남고 Windows 에서는 그동안 파일을 지우거나 덮어쓸 수 없으므로,
+     * 읽은 뒤 지우거나 다시 쓸 파일은 load 로 읽습니다.
+     */
+    public static MatchSnapshot map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    /**
+     * 스냅샷 바이트를 읽습니다. 형식/버전/카탈로그가 맞지 않으면 IllegalArgumentException.
+     */
+    public static MatchSnapshot read(ByteBuffer source) {
+        ByteBuffer buf = source.duplicate().order(ByteOrder.BIG_ENDIAN);
+        buf.position(0);
+        if (buf.limit() < HEADER_SIZE || buf.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("스냅샷 파일이 아닙니다.");
+        }
+        int version = buf.getInt(4);
+        if (version != VERSION) throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + version);
+        if (buf.getInt(8) != CardRepository.catalogFingerprint()) {
+            throw new IllegalArgumentException("카드 카탈로그가 바뀌어 이 스냅샷을 읽을 수 없습니다.");
+        }
+
+        int d = buf.getInt(12);
+        Stage.Difficulty[] all = Stage.Difficulty.values();
+        if (d < 0 || d >= all.length) throw new IllegalArgumentException("알 수 없는 난이도입니다: " + d);
+
+        long seed = buf.getLong(16);
+        long remaining = buf.getLong(24);
+        long limit = buf.getLong(32);
+        int length = buf.getInt(40);
+        if (length < 0 || length > (buf.limit() - HEADER_SIZE) / 4) {
+            throw new IllegalArgumentException("스냅샷이 잘렸습니다.");
+        }
+
+        buf.position(HEADER_SIZE);
+        PackedGameState packed = PackedGameState.readFrom(buf.slice().asIntBuffer(), length);
+        return new MatchSnapshot(all[d], seed, remaining, limit, packed);
+    }
+
+    @Override
+    public String toString() {
+        return "MatchSnapshot{difficulty=" + difficulty + ", seed=" + seed + ", turn=" + packed.getTurnNumber() +
+                ", side=" + packed.getCurrentTurnSide() + ", remainingMs=" + remainingTurnMillis + "}";
+    }
+}
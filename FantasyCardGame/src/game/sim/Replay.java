@@ -0,0 +1,240 @@
+package game.sim;
+
+import game.stage.Stage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 전투 하나의 리플레이입니다. (시드 + 난이도 + 행동 목록)
+ *
+ * 전투의 무작위 요소는 모두 GameState 의 시드 난수에서 나오므로, 로그 대신 시작 조건과
+ * 실제로 실행된 행동만 저장하고 ReplayPlayer 가 같은 엔진으로 다시 실행합니다.
+ * 숫자는 대부분 varint(7 비트씩, 최상위 비트가 "다음 바이트 있음")로 적기 때문에
+ * 행동 하나가 보통 1 ~ 5 바이트입니다.
+ *
+ * <pre>
+ * 헤더
+ *   MAGIC 'FCRP' (4)  VERSION (varint)  난이도 서수 (varint)  시드 (8, big-endian)
+ *   행동 수 (varint)  마지막 턴 번호 (varint)  마지막 해시 (8)  행동 바이트 수 (varint)
+ * 행동 (첫 varint = 종류 | 행동한 쪽 서수 &lt;&lt; 2, 종류는 Move.KIND_* 와 같은 값)
+ *   턴 종료 : 태그
+ *   카드    : 태그, 카드 참조, 소환 칸, (대상 종류 서수 &lt;&lt; 1 | 대상이 같은 쪽이면 1), 대상 칸 + 1
+ *   공격    : 태그, 공격자 칸, 대상 (영웅이면 0, 유닛이면 칸 + 1)
+ * 카드 참조: 처음 나온 카드면 "지금까지 나온 카드 수" 뒤에 [varint 길이][UTF-8 id],
+ *           이미 나온 카드면 그 카드가 처음 나온 순서 번호만 적습니다.
+ * </pre>
+ *
+ * 마지막 턴 번호/해시는 기록을 끝낸 시점의 GameState 값입니다.
+ * 다시 실행한 결과와 다르면 규칙이나 카드 데이터가 바뀌어 재현이 어긋난 것입니다.
+ */
+public final class Replay {
+
+    public static final int MAGIC = 0x46435250; // "FCRP"
+    public static final int VERSION = 1;
+
+    /** 리플레이 파일 확장자 */
+    public static final String FILE_EXTENSION = ".fcr";
+
+    private final Stage.Difficulty difficulty;
+    private final long seed;
+    private final int actionCount;
+    private final int finalTurn;
+    private final long finalHash;
+    private final byte[] actions;
+
+    Replay(Stage.Difficulty difficulty, long seed, int actionCount, int finalTurn, long finalHash, byte[] actions) {
+        if (difficulty == null) throw new IllegalArgumentException("Difficulty 는 null 일 수 없습니다.");
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.actionCount = actionCount;
+        this.finalTurn = finalTurn;
+        this.finalHash = finalHash;
+        this.actions = actions;
+    }
+
+    public Stage.Difficulty getDifficulty() { return difficulty; }
+    public long getSeed() { return seed; }
+    public int getActionCount() { return actionCount; }
+    public int getFinalTurn() { return finalTurn; }
+    public long getFinalHash() { return finalHash; }
+
+    /** 행동 바이트 (ReplayPlayer 가 읽음, 수정 금지) */
+    byte[] actions() {
+        return actions;
+    }
+
+    // ---- 파일 ---------------------------------------------------------------
+
+    public byte[] toByteArray() {
+        ByteWriter out = new ByteWriter(actions.length + 32);
+        out.writeInt(MAGIC);
+        out.writeVarint(VERSION);
+        out.writeVarint(difficulty.ordinal());
+        out.writeLong(seed);
+        out.writeVarint(actionCount);
+        out.writeVarint(finalTurn);
+        out.writeLong(finalHash);
+        out.writeVarint(actions.length);
+        out.writeBytes(actions, 0, actions.length);
+        return out.toByteArray();
+    }
+
+    public static Replay fromByteArray(byte[] data) {
+        ByteReader in = new ByteReader(data);
+        if (in.readInt() != MAGIC) throw new IllegalArgumentException("리플레이 파일이 아닙니다.");
+        int version = in.readVarint();
+        if (version != VERSION) throw new IllegalArgumentException("지원하지 않는 리플레이 버전입니다: " + version);
+
+        int d = in.readVarint();
+        Stage.Difficulty[] all = Stage.Difficulty.values();
+        if (d >= all.length) throw new IllegalArgumentException("알 수 없는 난이도입니다: " + d);
+
+        long seed = in.readLong();
+        int actionCount = in.readVarint();
+        int finalTurn = in.readVarint();
+        long finalHash = in.readLong();
+        byte[] actions = in.readBytes(in.readVarint());
+        return new Replay(all[d], seed, actionCount, finalTurn, finalHash, actions);
+    }
+
+    public void write(Path file) throws IOException {
+        Files.write(file, toByteArray());
+    }
+
+    public static Replay read(Path file) throws IOException {
+        return fromByteArray(Files.readAllBytes(file));
+    }
+
+    /** 파일 크기 (바이트) */
+    public int byteSize() {
+        return toByteArray().length;
+    }
+
+    @Override
+    public String toString() {
+        return "Replay{difficulty=" + difficulty + ", seed=" + seed + ", actions=" + actionCount +
+                ", bytes=" + actions.length + ", finalTurn=" + finalTurn + "}";
+    }
+
+    // ---- varint 입출력 --------------------------------------------------------
+
+    /** 늘어나는 바이트 배열에 varint/고정 길이 값을 씁니다. */
+    static final class ByteWriter {
+        private byte[] buf;
+        private int size;
+
+        ByteWriter(int initialCapacity) {
+            this.buf = new byte[Math.max(16, initialCapacity)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /** 0 이상의 값만 씁니다. */
+        void writeVarint(int v) {
+            if (v < 0) throw new IllegalArgumentException("varint 에는 음수를 쓸 수 없습니다: " + v);
+            ensure(5);
+            while ((v & ~0x7F) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void writeInt(int v) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) buf[size++] = (byte) (v >>> shift);
+        }
+
+        void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) buf[size++] = (byte) (v >>> shift);
+        }
+
+        void writeString(String s) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        void writeBytes(byte[] src, int offset, int length) {
+            ensure(length);
+            System.arraycopy(src, offset, buf, size, length);
+            size += length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+        }
+    }
+
+    /** ByteWriter 로 쓴 값을 앞에서부터 읽습니다. */
+    static final class ByteReader {
+        private final byte[] buf;
+        private int pos;
+
+        ByteReader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        boolean hasRemaining() {
+            return pos < buf.length;
+        }
+
+        int readVarint() {
+            int v = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다. (위치=" + pos + ")");
+        }
+
+        int readInt() {
+            int v = 0;
+            for (int i = 0; i < 4; i++) v = (v << 8) | readByte();
+            return v;
+        }
+
+        long readLong() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) v = (v << 8) | readByte();
+            return v;
+        }
+
+        String readString() {
+            int length = readVarint();
+            String s = new String(buf, checkRemaining(length), length, StandardCharsets.UTF_8);
+            pos += length;
+            return s;
+        }
+
+        byte[] readBytes(int length) {
+            int from = checkRemaining(length);
+            pos += length;
+            return Arrays.copyOfRange(buf, from, from + length);
+        }
+
+        private int readByte() {
+            if (pos >= buf.length) throw new IllegalArgumentException("리플레이 데이터가 잘렸습니다.");
+            return buf[pos++] & 0xFF;
+        }
+
+        private int checkRemaining(int length) {
+            if (length < 0 || length > buf.length - pos) {
+                throw new IllegalArgumentException("리플레이 데이터가 잘렸습니다.");
+            }
+            return pos;
+        }
+    }
+}
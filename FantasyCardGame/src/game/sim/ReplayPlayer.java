@@ -0,0 +1,170 @@
+package game.sim;
+
+import game.battle.BattleLog;
+import game.battle.BattleLogSink;
+import game.battle.BattleSide;
+import game.battle.CardExecutor;
+import game.battle.CombatEngine;
+import game.battle.GameState;
+import game.battle.Move;
+import game.battle.TargetType;
+import game.battle.TurnManager;
+import game.card.CardRepository;
+import game.card.card;
+import game.stage.StageBattleFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replay 를 실제 엔진(CardExecutor / CombatEngine / TurnManager)으로 다시 실행합니다.
+ *
+ * - 헤드리스: runHeadless(replay) 로 로그 없이 끝까지 최대 속도로 실행
+ * - UI: step() 을 원하는 간격으로 불러서 한 단계씩 진행 (BaseStage.playReplay)
+ *
+ * 한 단계는 첫 턴 시작, 또는 기록된 행동 하나입니다.
+ * 턴 종료 행동은 다음 쪽의 턴 시작까지 함께 진행합니다. (BaseStage / MatchSimulator 의 턴 흐름과 같음)
+ */
+public final class ReplayPlayer {
+
+    private static final BattleSide[] SIDES = BattleSide.values();
+    private static final TargetType[] TARGET_TYPES = TargetType.values();
+
+    private final Replay replay;
+    private final GameState state;
+    private final TurnManager turnManager;
+    private final CardExecutor cardExecutor;
+    private final CombatEngine combatEngine;
+    private final Replay.ByteReader in;
+
+    /** 순서 번호 → 카드 id (Replay 의 카드 참조) */
+    private final List<String> cardIds = new ArrayList<>();
+
+    private boolean started;
+    private int actionsPlayed;
+
+    public ReplayPlayer(Replay replay) {
+        this(replay, BattleLogSink.RECORDING);
+    }
+
+    public ReplayPlayer(Replay replay, BattleLogSink logSink) {
+        if (replay == null) throw new IllegalArgumentException("Replay 는 null 일 수 없습니다.");
+        this.replay = replay;
+        this.state = StageBattleFactory.createGameState(replay.getDifficulty(), replay.getSeed());
+        state.setLogSink(logSink);
+        this.turnManager = new TurnManager(state);
+        this.cardExecutor = new CardExecutor(state);
+        this.combatEngine = new CombatEngine(state);
+        this.in = new Replay.ByteReader(replay.actions());
+    }
+
+    public Replay getReplay() { return replay; }
+    public GameState getGameState() { return state; }
+    public int getActionsPlayed() { return actionsPlayed; }
+
+    public boolean hasNext() {
+        return !started || actionsPlayed < replay.getActionCount();
+    }
+
+    /** 다음 한 단계를 실행하고 그 로그를 반환합니다. */
+    public BattleLog step() {
+        if (!started) {
+            started = true;
+            return turnManager.startTurn();
+        }
+        if (actionsPlayed >= replay.getActionCount()) {
+            throw new IllegalStateException("리플레이의 모든 행동을 이미 실행했습니다.");
+        }
+
+        int tag = in.readVarint();
+        int kind = tag & 3;
+        BattleSide side = SIDES[tag >>> 2];
+        actionsPlayed++;
+
+        switch (kind) {
+            case Move.KIND_END_TURN: {
+                BattleLog log = turnManager.endTurn();
+                log.append(turnManager.startTurn());
+                return log;
+            }
+            case Move.KIND_PLAY: {
+                card c = findCard(side, readCardId());
+                int slot = in.readVarint();
+                int target = in.readVarint();
+                BattleSide targetSide = (target & 1) != 0 ? side : side.getOpponent();
+                int targetIndex = in.readVarint() - 1;
+                return cardExecutor.playCard(side, c, targetSide, TARGET_TYPES[target >>> 1], targetIndex, slot);
+            }
+            case Move.KIND_ATTACK: {
+                int attacker = in.readVarint();
+                int target = in.readVarint();
+                return target == 0
+                        ? combatEngine.attack(side, attacker, TargetType.HERO, -1)
+                        : combatEngine.attack(side, attacker, TargetType.UNIT, target - 1);
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 리플레이 행동입니다: " + kind);
+        }
+    }
+
+    /** 남은 단계를 모두 실행합니다. */
+    public GameState playToEnd() {
+        while (hasNext()) step();
+        return state;
+    }
+
+    /** 다시 실행한 결과가 기록 시점과 같은지 (마지막 턴 번호와 해시 비교) */
+    public boolean matchesRecording() {
+        return state.getTurnNumber() == replay.getFinalTurn() && state.getHash() == replay.getFinalHash();
+    }
+
+    /** 로그 없이 끝까지 최대 속도로 실행하고 마지막 상태를 반환합니다. */
+    public static ReplayPlayer runHeadless(Replay replay) {
+        ReplayPlayer player = new ReplayPlayer(replay, BattleLogSink.NO_OP);
+        player.playToEnd();
+        return player;
+    }
+
+    private String readCardId() {
+        int ref = in.readVarint();
+        if (ref == cardIds.size()) {
+            cardIds.add(in.readString());
+        } else if (ref > cardIds.size()) {
+            throw new IllegalArgumentException("잘못된 카드 참조입니다: " + ref);
+        }
+        return cardIds.get(ref);
+    }
+
+    /** 손패에 있는 같은 id 의 카드 (없으면 카드 저장소에서) */
+    private card findCard(BattleSide side, String id) {
+        for (card c : state.getPlayerState(side).getHand()) {
+            if (c.getId().equals(id)) return c;
+        }
+        card c = CardRepository.findById(id);
+        if (c == null) throw new IllegalArgumentException("카드 저장소에 없는 카드입니다: " + id);
+        return c;
+    }
+
+    /**
+     * 실행 예: java game.sim.ReplayPlayer [리플레이 파일]
+     * 끝까지 실행해서 승자와 재현 일치 여부를 출력합니다.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: java game.sim.ReplayPlayer [리플레이 파일]");
+            return;
+        }
+        Replay replay = Replay.read(Paths.get(args[0]));
+        long start = System.nanoTime();
+        ReplayPlayer player = runHeadless(replay);
+        long elapsed = System.nanoTime() - start;
+
+        GameState state = player.getGameState();
+        System.out.println(replay);
+        System.out.println("승자=" + state.getWinnerSide() + ", 턴=" + state.getTurnNumber() +
+                ", 재현 일치=" + player.matchesRecording() +
+                String.format(", 소요 시간=%.2fms", elapsed / 1_000_000.0));
+    }
+}
@@ -0,0 +1,111 @@
+package game.sim;
+
+import game.battle.ActionRecorder;
+import game.battle.BattleSide;
+import game.battle.GameState;
+import game.battle.Move;
+import game.battle.TargetType;
+import game.card.card;
+import game.stage.Stage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GameState 에 연결되어 실행된 행동을 Replay 형식(varint)으로 바로 적는 기록기입니다.
+ *
+ * 사용 예:
+ * <pre>
+ * GameState state = StageBattleFactory.createGameState(d);
+ * ReplayRecorder recorder = ReplayRecorder.attach(state, d);
+ * ... 전투 진행 ...
+ * recorder.toReplay().write(path);
+ * </pre>
+ *
+ * 전투를 진행하는 스레드에서만 호출됩니다. (엔진과 같은 스레드)
+ */
+public final class ReplayRecorder implements ActionRecorder {
+
+    private final GameState state;
+    private final Stage.Difficulty difficulty;
+    private final Replay.ByteWriter out = new Replay.ByteWriter(256);
+
+    /** 카드 id → 처음 나온 순서 번호 */
+    private final Map<String, Integer> cardRefs = new HashMap<>();
+
+    private int actionCount;
+
+    private ReplayRecorder(GameState state, Stage.Difficulty difficulty) {
+        this.state = state;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * state 를 기록하기 시작합니다. state 는 createGameState(difficulty, 시드)로 만든 직후여야 합니다.
+     * (첫 턴 시작 전이나 직후 모두 가능)
+     */
+    public static ReplayRecorder attach(GameState state, Stage.Difficulty difficulty) {
+        if (state == null) throw new IllegalArgumentException("GameState 는 null 일 수 없습니다.");
+        if (difficulty == null) throw new IllegalArgumentException("Difficulty 는 null 일 수 없습니다.");
+        ReplayRecorder recorder = new ReplayRecorder(state, difficulty);
+        state.setActionRecorder(recorder);
+        return recorder;
+    }
+
+    /** 기록을 멈춥니다. 이후의 행동은 적지 않습니다. */
+    public void detach() {
+        if (state.getActionRecorder() == this) state.setActionRecorder(null);
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    /** 지금까지 기록한 내용으로 리플레이를 만듭니다. (기록은 계속됩니다) */
+    public Replay toReplay() {
+        return new Replay(difficulty, state.getSeed(), actionCount,
+                state.getTurnNumber(), state.getHash(), out.toByteArray());
+    }
+
+    // ---- ActionRecorder -----------------------------------------------------
+
+    @Override
+    public void cardPlayed(BattleSide side, card card, int slot,
+                           BattleSide targetSide, TargetType targetType, int targetIndex) {
+        writeTag(Move.KIND_PLAY, side);
+        writeCard(card);
+        out.writeVarint(slot);
+        int type = (targetType == null ? TargetType.NONE : targetType).ordinal();
+        out.writeVarint(type << 1 | (targetSide == side ? 1 : 0));
+        out.writeVarint(Math.max(-1, targetIndex) + 1);
+    }
+
+    @Override
+    public void unitAttacked(BattleSide side, int attackerSlot, TargetType targetType, int targetSlot) {
+        writeTag(Move.KIND_ATTACK, side);
+        out.writeVarint(attackerSlot);
+        out.writeVarint(targetType == TargetType.HERO ? 0 : targetSlot + 1);
+    }
+
+    @Override
+    public void turnEnded(BattleSide side) {
+        writeTag(Move.KIND_END_TURN, side);
+    }
+
+    private void writeTag(int kind, BattleSide side) {
+        out.writeVarint(kind | side.ordinal() << 2);
+        actionCount++;
+    }
+
+    private void writeCard(card c) {
+        Integer ref = cardRefs.get(c.getId());
+        if (ref != null) {
+            out.writeVarint(ref);
+            return;
+        }
+        int next = cardRefs.size();
+        cardRefs.put(c.getId(), next);
+        out.writeVarint(next);
+        out.writeString(c.getId());
+    }
+}
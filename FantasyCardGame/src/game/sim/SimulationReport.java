@@ -0,0 +1,173 @@
+package game.sim;
+
+import game.battle.BattleSide;
+import game.stage.Stage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 헤드리스 시뮬레이션 결과를 모아 두는 집계 클래스입니다.
+ *
+ * - 난이도별 경기 수 / PLAYER 승 / ENEMY 승 / 무승부(턴 제한 초과)
+ * - 난이도별 턴 수 분포 (turnHistogram[턴 수] = 경기 수)
+ * - 전체 소요 시간 → 초당 경기 수
+ *
+ * 워커 스레드마다 하나씩 만들어 잠금 없이 기록한 뒤 merge 로 합칩니다.
+ */
+public class SimulationReport {
+
+    private final int maxTurns;
+
+    private final Map<Stage.Difficulty, long[]> outcomes = new EnumMap<>(Stage.Difficulty.class);
+    private final Map<Stage.Difficulty, long[]> turnHistograms = new EnumMap<>(Stage.Difficulty.class);
+
+    private long elapsedNanos;
+
+    // outcomes 배열 인덱스
+    private static final int MATCHES = 0;
+    private static final int PLAYER_WINS = 1;
+    private static final int ENEMY_WINS = 2;
+    private static final int DRAWS = 3;
+
+    public SimulationReport(int maxTurns) {
+        this.maxTurns = maxTurns;
+        for (Stage.Difficulty d : Stage.Difficulty.values()) {
+            outcomes.put(d, new long[4]);
+            turnHistograms.put(d, new long[maxTurns + 1]);
+        }
+    }
+
+    /**
+     * 경기 하나의 결과를 기록합니다.
+     * winner 가 null 이면 무승부(턴 제한 초과)로 처리합니다.
+     */
+    public void record(Stage.Difficulty d, BattleSide winner, int turns) {
+        long[] o = outcomes.get(d);
+        o[MATCHES]++;
+        if (winner == BattleSide.PLAYER) o[PLAYER_WINS]++;
+        else if (winner == BattleSide.ENEMY) o[ENEMY_WINS]++;
+        else o[DRAWS]++;
+
+        turnHistograms.get(d)[Math.max(0, Math.min(turns, maxTurns))]++;
+    }
+
+    /** 다른 워커의 결과를 이 리포트에 더합니다. */
+    public void merge(SimulationReport other) {
+        for (Stage.Difficulty d : Stage.Difficulty.values()) {
+            long[] mine = outcomes.get(d);
+            long[] theirs = other.outcomes.get(d);
+            for (int i = 0; i < mine.length; i++) mine[i] += theirs[i];
+
+            long[] myHist = turnHistograms.get(d);
+            long[] theirHist = other.turnHistograms.get(d);
+            for (int i = 0; i < myHist.length && i < theirHist.length; i++) myHist[i] += theirHist[i];
+        }
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalMatches() {
+        long total = 0;
+        for (long[] o : outcomes.values()) total += o[MATCHES];
+        return total;
+    }
+
+    public long getMatches(Stage.Difficulty d) { return outcomes.get(d)[MATCHES]; }
+    public long getPlayerWins(Stage.Difficulty d) { return outcomes.get(d)[PLAYER_WINS]; }
+    public long getEnemyWins(Stage.Difficulty d) { return outcomes.get(d)[ENEMY_WINS]; }
+    public long getDraws(Stage.Difficulty d) { return outcomes.get(d)[DRAWS]; }
+
+    /** PLAYER 쪽 승률 (0.0 ~ 1.0) */
+    public double getPlayerWinRate(Stage.Difficulty d) {
+        long matches = getMatches(d);
+        return matches == 0 ? 0.0 : (double) getPlayerWins(d) / matches;
+    }
+
+    /** 초당 처리한 경기 수 */
+    public double getMatchesPerSecond() {
+        if (elapsedNanos <= 0) return 0.0;
+        return getTotalMatches() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 턴 수 분포를 반환합니다. (index = 턴 수, 값 = 경기 수)
+     * 반환되는 배열은 복사본입니다.
+     */
+    public long[] getTurnHistogram(Stage.Difficulty d) {
+        return turnHistograms.get(d).clone();
+    }
+
+    public double getAverageTurns(Stage.Difficulty d) {
+        long[] hist = turnHistograms.get(d);
+        long count = 0;
+        long sum = 0;
+        for (int t = 0; t < hist.length; t++) {
+            count += hist[t];
+            sum += (long) t * hist[t];
+        }
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * 턴 수 분포에서 백분위 값을 구합니다. (예: 0.5 → 중앙값)
+     */
+    public int getTurnPercentile(Stage.Difficulty d, double percentile) {
+        long[] hist = turnHistograms.get(d);
+        long count = 0;
+        for (long h : hist) count += h;
+        if (count == 0) return 0;
+
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int t = 0; t < hist.length; t++) {
+            seen += hist[t];
+            if (seen >= Math.max(1, rank)) return t;
+        }
+        return hist.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("===== 시뮬레이션 결과 =====").append(System.lineSeparator());
+        sb.append(String.format("총 경기 수=%d, 소요 시간=%.2fs, 초당 경기 수=%.1f",
+                getTotalMatches(), elapsedNanos / 1_000_000_000.0, getMatchesPerSecond()))
+          .append(System.lineSeparator());
+
+        for (Stage.Difficulty d : Stage.Difficulty.values()) {
+            if (getMatches(d) == 0) continue;
+            sb.append(String.format("[%s] 경기=%d, PLAYER 승=%d (%.1f%%), ENEMY 승=%d, 무승부=%d",
+                    d, getMatches(d), getPlayerWins(d), getPlayerWinRate(d) * 100.0,
+                    getEnemyWins(d), getDraws(d)))
+              .append(System.lineSeparator());
+            sb.append(String.format("    턴 수: 평균=%.1f, p10=%d, p50=%d, p90=%d, 최대=%d",
+                    getAverageTurns(d),
+                    getTurnPercentile(d, 0.1),
+                    getTurnPercentile(d, 0.5),
+                    getTurnPercentile(d, 0.9),
+                    getTurnPercentile(d, 1.0)))
+              .append(System.lineSeparator());
+            sb.append("    분포: ").append(histogramLine(turnHistograms.get(d)))
+              .append(System.lineSeparator());
+        }
+        sb.append("===========================");
+        return sb.toString();
+    }
+
+    private String histogramLine(long[] hist) {
+        StringBuilder sb = new StringBuilder();
+        for (int t = 0; t < hist.length; t++) {
+            if (hist[t] == 0) continue;
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(t).append('=').append(hist[t]);
+        }
+        return sb.toString();
+    }
+}
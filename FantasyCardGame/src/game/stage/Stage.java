@@ -4,21 +4,26 @@ public final class Stage {
     private Stage() {}
 
     public enum Difficulty {
-    	//적 체력, 적 시작 마나, 적 시작 드로우, 플레이어 시작 드로우
-        EASY  (20, 1, 3, 4),
-        NORMAL(30, 1, 4, 3),
-        HARD  (40, 2, 7, 2);
+    	//적 체력, 적 시작 마나, 적 시작 드로우, 플레이어 시작 드로우, AI 턴당 생각 시간(ms), 적이 주는 피해(%)
+        EASY  (20, 1, 3, 4, 100, 100),
+        NORMAL(30, 1, 4, 3, 300, 100),
+        HARD  (40, 2, 7, 2, 800, 100);
 
         public final int enemyHp;
         public final int enemyStartMana;
         public final int enemyStartHand;
         public final int playerStartHand;
+        public final long aiThinkMillis;
+        public final int enemyDamagePercent;
 
-        Difficulty(int enemyHp, int enemyStartMana, int enemyStartHand,int playerStartHand) {
+        Difficulty(int enemyHp, int enemyStartMana, int enemyStartHand,int playerStartHand, long aiThinkMillis,
+                   int enemyDamagePercent) {
             this.enemyHp = enemyHp;
             this.enemyStartMana = enemyStartMana;
             this.enemyStartHand = enemyStartHand;
             this.playerStartHand = playerStartHand;
+            this.aiThinkMillis = aiThinkMillis;
+            this.enemyDamagePercent = enemyDamagePercent;
         }
     }
 }
\ No newline at end of file
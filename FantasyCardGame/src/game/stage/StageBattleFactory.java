@@ -0,0 +1,86 @@
+package game.stage;
+
+import game.battle.BattleLog;
+import game.battle.BattleSide;
+import game.battle.DamageModifiers;
+import game.battle.GameState;
+import game.battle.HeroState;
+import game.battle.PlayerBattleState;
+import game.card.CardRepository;
+import game.card.card;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 난이도(Stage.Difficulty)에 맞춰 전투 시작 상태(GameState)를 만들어 주는 클래스입니다.
+ *
+ * Swing 화면(BaseStage)과 헤드리스 시뮬레이터(MatchSimulator)가
+ * 같은 규칙으로 전투를 시작할 수 있도록 초기화 코드를 한 곳에 모아 둡니다.
+ *
+ * - 양쪽 덱: 전체 카드 셔플 20장
+ * - 시작 손패 / 적 체력 / 적 시작 마나 / 적이 주는 피해 배율: 난이도 값 사용
+ * - 첫 턴 시작(startTurn)은 호출하는 쪽에서 처리합니다.
+ *
+ * 덱 셔플은 GameState 의 시드 난수를 쓰므로, 같은 (난이도, 시드)면 같은 덱/손패로 시작합니다.
+ */
+public final class StageBattleFactory {
+
+    public static final int DECK_SIZE = 20;
+
+    private StageBattleFactory() {}
+
+    /** 시드를 새로 뽑아서 전투를 만듭니다. (뽑힌 시드는 GameState.getSeed() 로 확인) */
+    public static GameState createGameState(Stage.Difficulty d) {
+        return createGameState(d, ThreadLocalRandom.current().nextLong());
+    }
+
+    /** 주어진 시드로 전투를 만듭니다. 같은 시드면 항상 같은 시작 상태가 나옵니다. */
+    public static GameState createGameState(Stage.Difficulty d, long seed) {
+        if (d == null) throw new IllegalArgumentException("Difficulty 는 null 일 수 없습니다.");
+
+        HeroState pHero = new HeroState("PLAYER");
+        HeroState eHero = new HeroState("ENEMY", d.enemyHp);
+
+        PlayerBattleState p = new PlayerBattleState(pHero);
+        PlayerBattleState e = new PlayerBattleState(eHero);
+
+        // 덱을 채우기 전에 GameState 를 만들어서 그 시드 난수로 셔플 (이후 해시는 증분 갱신)
+        GameState state = new GameState(p, e, seed);
+        state.setDamageModifiers(damageModifiers(d));
+
+        List<card> pDeck = CardRepository.createShuffledDeck(DECK_SIZE, state.getRandom());
+        for (card c : pDeck) p.addCardToDeck(c);
+
+        List<card> eDeck = CardRepository.createShuffledDeck(DECK_SIZE, state.getRandom());
+        for (card c : eDeck) e.addCardToDeck(c);
+
+        //적 멀리건(난이도 영향 O)
+        for (int i = 0; i < d.enemyStartHand; i++) {
+            e.drawCardWithFatigue(BattleLog.DISABLED);
+        }
+        //player 멀리건(난이도 영향 O)
+        for (int i = 0; i < d.playerStartHand; i++) {
+            p.drawCardWithFatigue(BattleLog.DISABLED);
+        }
+
+        e.setMaxMana(Math.max(0, d.enemyStartMana - 1));
+        e.setCurrentMana(0);
+
+        return state;
+    }
+
+    /**
+     * 난이도의 피해 수정자 목록: 카드 태그(방어도/보호막/속성) + 적이 주는 피해 배율.
+     * 스냅샷 복원이나 AI 탐색 사본처럼 GameState 를 따로 만드는 곳도 이 목록을 씁니다.
+     */
+    public static DamageModifiers damageModifiers(Stage.Difficulty d) {
+        if (d == null) throw new IllegalArgumentException("Difficulty 는 null 일 수 없습니다.");
+        DamageModifiers mods = DamageModifiers.defaults();
+        if (d.enemyDamagePercent == 100) return mods;
+        int percent = d.enemyDamagePercent;
+        return mods.with((profile, side, unit) -> {
+            if (side == BattleSide.ENEMY) profile.scaleOutgoing(percent);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package game.ui.swing;
+
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * BufferStrategy 로 직접 그리는(active rendering) 화면입니다.
+ *
+ * Swing 의 repaint 요청은 모였다가 나중에 처리되므로 언제 그려질지 알 수 없습니다.
+ * 이 캔버스는 게임 루프가 부를 때 그 자리에서 뒤 버퍼에 그리고 show() 로 바로 내보냅니다.
+ * 전체 화면(전용 모드)에서는 BufferStrategy 가 page flipping 을, 창 모드에서는 복사(blit)를 씁니다.
+ *
+ * Screen(JPanel) 의 맨 아래에 깔리고, 버튼 같은 Swing 컴포넌트는 그 위에 그대로 그려집니다.
+ * 그리기는 render(...) 로만 일어나고, 창이 가려졌다 드러나는 등의 paint 요청은
+ * "다음 프레임에 다시 내보내야 함" 표시만 합니다. (바뀐 것이 없는 프레임은 render 를 건너뛰므로)
+ */
+final class ActiveCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int bufferCount;
+    private BufferStrategy strategy;
+    // 화면에 보이는 내용이 지워졌을 수 있음 (처음, 창이 드러남, 버퍼 내용 잃음)
+    private volatile boolean exposed = true;
+
+    ActiveCanvas(int bufferCount) {
+        if (bufferCount < 2 || bufferCount > 3) {
+            throw new IllegalArgumentException("버퍼 수는 2 ~ 3 이어야 합니다: " + bufferCount);
+        }
+        this.bufferCount = bufferCount;
+        setFocusable(true);
+    }
+
+    /**
+     * painter 로 한 프레임을 그려서 화면에 내보냅니다. (EDT 에서 호출)
+     * 아직 화면에 붙지 않았으면 아무것도 하지 않고 false 를 반환합니다.
+     * 버퍼 내용이 사라지면(창 최소화, 모드 변경 등) 같은 프레임을 다시 그립니다.
+     */
+    boolean render(Consumer<Graphics> painter) {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return false;
+        if (strategy == null) {
+            createBufferStrategy(bufferCount);
+            strategy = getBufferStrategy();
+            requestFocusInWindow(); // 키 입력(ESC 등)을 캔버스가 받도록
+        }
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    painter.accept(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        exposed = false;
+        return true;
+    }
+
+    /** 바뀐 것이 없어도 다시 내보내야 하면 true */
+    boolean needsPresent() {
+        return exposed || strategy == null || strategy.contentsLost();
+    }
+
+    // AWT 가 부르는 paint/update 는 배경을 지우지 않고 다음 프레임에 다시 내보내도록 표시만 함
+    @Override
+    public void paint(Graphics g) {
+        exposed = true;
+    }
+
+    @Override
+    public void update(Graphics g) {
+        exposed = true;
+    }
+
+    @Override
+    public void removeNotify() {
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+        super.removeNotify();
+    }
+}
@@ -17,23 +17,35 @@ import java.awt.image.ImageProducer;
 import java.awt.image.RGBImageFilter;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 import javax.swing.JButton;
 
+import game.battle.BattleEvent;
 import game.battle.BattleLog;
 import game.battle.BattleLogEntry;
 import game.battle.BattleSide;
+import game.battle.Board;
 import game.battle.CardExecutor;
 import game.battle.CombatEngine;
-import game.battle.EnemyAI;
 import game.battle.GameState;
+import game.battle.MctsEnemyAI;
 import game.battle.PlayerBattleState;
 import game.battle.TurnManager;
 import game.battle.TargetType;
 import game.battle.UnitState;
+import game.sim.MatchSnapshot;
+import game.sim.Replay;
+import game.sim.ReplayPlayer;
+import game.sim.ReplayRecorder;
 import game.stage.Stage;
+import game.stage.StageBattleFactory;
 
 public abstract class BaseStage {
 
@@ -41,7 +53,57 @@ public abstract class BaseStage {
     private TurnManager turnManager;
     private CardExecutor cardExecutor;
     private CombatEngine combatEngine;
-    private EnemyAI enemyAI;
+    private MctsEnemyAI enemyAI;
+    // 적 턴 진행 중이면 null 이 아님. AI 는 다른 스레드에서 생각하고, 고른 수는 tick 마다 하나씩 적용
+    // (그동안 마우스 입력과 턴 종료 버튼을 막음)
+    private MctsEnemyAI.MainPhase enemyPhase;
+    private Stage.Difficulty difficulty;
+
+    // 중단한 전투: 스테이지 선택으로 나갈 때 저장하고, 같은 난이도로 다시 들어오면 이어서 진행
+    private static final Path SAVE_DIR = Paths.get("saves");
+
+    // 리플레이: 실제 전투는 항상 기록하고, 끝나면 REPLAY_DIR 에 저장
+    private static final Path REPLAY_DIR = Paths.get("replays");
+    private ReplayRecorder replayRecorder;
+
+    // 리플레이 재생 중이면 null 이 아님 (입력/턴 타이머 대신 replayPlayer 가 진행)
+    private static final double REPLAY_STEP_MILLIS = 600;
+    private ReplayPlayer replayPlayer;
+    private double replaySpeed = 1.0;
+    private double replayElapsedMillis;
+
+    // 전투 이벤트로 표시되는 "다시 맞춰야 할 UI" 비트 (이벤트는 엔진을 호출한 스레드에서 옴)
+    private static final int DIRTY_HAND = 1;
+    private static final int DIRTY_PLAYER_BOARD = 1 << 1;
+    private static final int DIRTY_ENEMY_BOARD = 1 << 2;
+    private static final int DIRTY_ALL = DIRTY_HAND | DIRTY_PLAYER_BOARD | DIRTY_ENEMY_BOARD;
+    private final AtomicInteger dirty = new AtomicInteger(DIRTY_ALL);
+
+    // 다음 프레임에 다시 그릴 화면 영역 (Screen 이 이 영역만 다시 합성)
+    protected final DirtyRegions dirtyRegions = new DirtyRegions(1280, 800);
+
+    // HUD 위치
+    private static final int DECK_X = -50;
+    private static final int PLAYER_DECK_Y = 600;
+    private static final int BOSS_DECK_Y = 50;
+    private static final int DECK_TEXT_SIZE = 300;
+    private static final int MANA_X = 930;
+    private static final int BOSS_MANA_Y = 50;
+    private static final int PLAYER_MANA_Y = 700;
+
+    // 값이나 위치가 바뀔 때만 다시 그리는 HUD
+    private final HudValue playerHandHud = new HudValue(60, 32);
+    private final HudValue bossHandHud = new HudValue(60, 32);
+    private final HudValue bossManaHud = new HudValue(338, 28);
+    private final HudValue playerManaHud = new HudValue(338, 28);
+    private final HudValue bossHpHud = new HudValue(40, 32);
+    private final HudValue playerHpHud = new HudValue(40, 32);
+    private final HudValue turnTimeHud = new HudValue(175, 32);
+    // 리플레이 중에는 남은 시간 자리에 배속을 그림
+    private final HudValue replaySpeedHud = new HudValue(175, 32);
+
+    // 한 판 동안 바뀌지 않는 배경/보드/빈 슬롯/덱 뒷면 (움직이는 것들은 그 위에 그림)
+    private final StaticLayer staticLayer = new StaticLayer(this::paintStaticLayer);
 
     protected Screen screen;
     protected int x = 1280 / 2;
@@ -66,6 +128,8 @@ public abstract class BaseStage {
     private boolean gameLose = false;
     private boolean gameWin = false;
     private int endTimer = 0;
+    // 결과 화면을 보여 주는 시간 (tick 횟수, 3초)
+    private static final int END_TICKS = 3 * GameLoop.UPDATES_PER_SECOND;
 
     public BaseStage(Screen screen) {
         this.screen = screen;
@@ -74,7 +138,7 @@ public abstract class BaseStage {
         loadResultImage();
         FieldSlots();
 
-        this.hand = new Hand();
+        this.hand = new Hand(dirtyRegions);
         turnBtn();
 
         initBattle();
@@ -83,50 +147,138 @@ public abstract class BaseStage {
 
     public BaseStage() {}
 
-    /**Screen에서 매 프레임(혹은 타이머) 호출하도록 만들 tick() */
+    /**Screen 의 게임 루프가 고정 간격(GameLoop.STEP_MILLIS)마다 EDT 에서 호출하는 tick() */
     public void tick() {
-        if (turnManager == null) return;
+        if (turnManager == null && replayPlayer == null) return;
         
         if (gameWin || gameLose) {
         	endTimer++;
-        	if (endTimer > 180) {
+        	if (endTimer > END_TICKS) {
         		reset();
         		screen.returnSelect();
         	}
         	return;
         }
+
+        if (replayPlayer != null) {
+            tickReplay();
+            checkResult();
+            return;
+        }
         
         // 남은 시간 표시 업데이트
         long remainMs = turnManager.getRemainingTurnTimeMillis();
         turnTimeSec = (int) Math.ceil(remainMs / 1000.0);
 
+        if (enemyPhase != null) {
+            tickEnemyTurn();
+            checkResult();
+            return;
+        }
+
         // 시간 초과 자동 턴 종료
         BattleLog forced = turnManager.forceEndTurnIfTimeOver();
         if (forced != null && !forced.isEmpty()) {
             printLog(forced);
 
-            // 시간 초과로 턴이 넘어갔다면:
-            // PLAYER → ENEMY 자동 진행 / ENEMY → PLAYER 자동 진행을 "버튼 누른 것처럼" 처리
+            // 시간 초과로 ENEMY 턴이 되었다면 "버튼 누른 것처럼" 적 턴을 시작
             autoProgressIfNeeded();
-            syncAllToUI();
+            syncDirtyToUI();
             screen.repaint();
         }
         checkResult();
     }
 
+    /** 리플레이 재생: 배속에 맞춰 쌓인 시간만큼 단계를 진행 */
+    private void tickReplay() {
+        replayElapsedMillis += GameLoop.STEP_MILLIS * replaySpeed;
+        boolean stepped = false;
+        while (replayElapsedMillis >= REPLAY_STEP_MILLIS && replayPlayer.hasNext()) {
+            replayElapsedMillis -= REPLAY_STEP_MILLIS;
+            printLog(replayPlayer.step());
+            stepped = true;
+        }
+        if (!replayPlayer.hasNext()) replayElapsedMillis = 0;
+        if (stepped) {
+            syncDirtyToUI();
+            screen.repaint();
+        }
+    }
+
+    /**
+     * 저장된 리플레이를 이 화면에서 재생합니다. 재생 중에는 마우스 입력과 턴 종료 버튼을 막습니다.
+     * 배속은 setReplaySpeed 로 바꿉니다. (Screen 의 [ / ] 키)
+     */
+    public void playReplay(Replay replay) {
+        gameWin = false;
+        gameLose = false;
+        endTimer = 0;
+        replayElapsedMillis = 0;
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        this.difficulty = replay.getDifficulty();
+        bindBattle(player.getGameState());
+        this.replayPlayer = player;
+        this.replayRecorder = null;
+        this.turnManager = null;
+        this.enemyAI = null;
+        hideTurnBtn();
+        syncAllToUI();
+        dirtyRegions.markAll();
+    }
+
+    public boolean isReplaying() {
+        return replayPlayer != null;
+    }
+
+    public double getReplaySpeed() {
+        return replaySpeed;
+    }
+
+    /** 리플레이 배속 (1.0 = 한 단계에 0.6초). 0.25 ~ 64 배 */
+    public void setReplaySpeed(double speed) {
+        this.replaySpeed = Math.max(0.25, Math.min(64.0, speed));
+    }
+
     /**시간이 강제 종료되었을 때도 버튼 클릭과 동일한 턴 진행을 수행 */
     private void autoProgressIfNeeded() {
-        // 지금 턴 주체가 ENEMY라면, AI를 돌리고 PLAYER 턴까지 가져온다.
+        // 지금 턴 주체가 ENEMY라면, 적 턴을 시작한다. (PLAYER 턴까지는 tickEnemyTurn 이 가져옴)
         if (gameState.getCurrentTurnSide() == BattleSide.ENEMY) {
             // ENEMY 턴 시작
             printLog(turnManager.startTurn());
-            // AI 행동
-            printLog(enemyAI.playEnemyMainPhase());
+            beginEnemyTurn();
+        }
+    }
+
+    /** 적 메인 페이즈를 시작합니다. 첫 수의 탐색이 다른 스레드에서 시작되고 바로 돌아옵니다. */
+    private void beginEnemyTurn() {
+        enemyPhase = enemyAI.beginMainPhase();
+        endTurnBtn.setEnabled(false);
+    }
+
+    /** tick 마다: AI 가 고른 수가 있으면 하나 적용하고, 턴을 끝냈으면 PLAYER 턴을 시작 */
+    private void tickEnemyTurn() {
+        if (!enemyPhase.isMoveReady()) return;
+        printLog(enemyPhase.step());
+        if (enemyPhase.isFinished()) {
+            enemyPhase = null;
             // ENEMY 턴 종료
             printLog(turnManager.endTurn());
             // PLAYER 턴 시작
             printLog(turnManager.startTurn());
+            endTurnBtn.setEnabled(true);
+        }
+        syncDirtyToUI();
+        screen.repaint();
+    }
+
+    /** 생각 중인 적 턴을 버립니다. (다른 전투로 바꿀 때) */
+    private void cancelEnemyTurn() {
+        if (enemyPhase != null) {
+            enemyPhase.cancel();
+            enemyPhase = null;
         }
+        if (endTurnBtn != null) endTurnBtn.setEnabled(true);
     }
 
     protected BufferedImage resizeImage(BufferedImage image, int newWidth) {
@@ -208,23 +360,50 @@ public abstract class BaseStage {
 
         for (int i = 0; i < 5; i++) {
             int x = startX + i * (slotWidth + gap);
-            bossSlots[i] = new FieldSlot(x, enemyY, slotWidth, slotHeight, null);
-            playerSlots[i] = new FieldSlot(x, playerY, slotWidth, slotHeight, null);
+            bossSlots[i] = new FieldSlot(x, enemyY, slotWidth, slotHeight, null, dirtyRegions);
+            playerSlots[i] = new FieldSlot(x, playerY, slotWidth, slotHeight, null, dirtyRegions);
         }
     }
 
-    protected void drawField(Graphics g) {
+    /** 스테이지 배경 (한 번만 그려서 StaticLayer 에 넣음) */
+    protected abstract BufferedImage getBackgroundImage();
+
+    /** 바뀌지 않는 층을 그립니다. 각 스테이지의 draw 가 가장 먼저 부름 */
+    protected void drawStaticLayer(Graphics g) {
+        staticLayer.draw(g, screen);
+    }
+
+    /** 화면 크기나 스테이지가 바뀌면 다음 프레임에 바뀌지 않는 층을 다시 그림 (Screen 이 부름) */
+    void invalidateStaticLayer() {
+        staticLayer.invalidate();
+    }
+
+    private void paintStaticLayer(Graphics g) {
+        g.setColor(screen.getBackground());
+        g.fillRect(0, 0, screen.getWidth(), screen.getHeight());
+        BufferedImage background = getBackgroundImage();
+        if (background != null) g.drawImage(background, 0, 0, screen);
+
         g.drawImage(fieldImage, boardX, boardY, boardWidth, boardHeight, screen);
-        for (FieldSlot slot : bossSlots) { if (slot != null) slot.draw(g); }
-        for (FieldSlot slot : playerSlots) { if (slot != null) slot.draw(g); }
+        for (FieldSlot slot : bossSlots) { if (slot != null) slot.drawOutline(g); }
+        for (FieldSlot slot : playerSlots) { if (slot != null) slot.drawOutline(g); }
+
+        if (cardBack != null) {
+            g.drawImage(cardBack, DECK_X, PLAYER_DECK_Y, DECK_TEXT_SIZE, 140, null);
+            g.drawImage(cardBack, DECK_X, BOSS_DECK_Y, DECK_TEXT_SIZE, 140, null);
+        }
+    }
+
+    /** 필드 위의 움직이는 것들: 슬롯의 카드, 손패 수, 마나, 남은 시간 */
+    protected void drawField(Graphics g) {
+        for (FieldSlot slot : bossSlots) { if (slot != null) slot.drawCard(g); }
+        for (FieldSlot slot : playerSlots) { if (slot != null) slot.drawCard(g); }
 
         if (cardBack != null) {
-            int deckWidth = 300;
-            int deckHeight = 140;
+            int deckWidth = DECK_TEXT_SIZE;
 
-            int myDeckX = -50;
-            int myDeckY = 600;
-            g.drawImage(cardBack, myDeckX, myDeckY, deckWidth, deckHeight, null);
+            int myDeckX = DECK_X;
+            int myDeckY = PLAYER_DECK_Y;
 
             // battle 손패 개수 표시
             int myCount = 0;
@@ -233,9 +412,8 @@ public abstract class BaseStage {
             }
             drawCenteredText(g, String.valueOf(myCount), myDeckX, myDeckY, deckWidth);
 
-            int bossDeckX = -50;
-            int bossDeckY = 50;
-            g.drawImage(cardBack, bossDeckX, bossDeckY, deckWidth, deckHeight, null);
+            int bossDeckX = DECK_X;
+            int bossDeckY = BOSS_DECK_Y;
 
             int bossHandCount = 0;
             if (gameState != null) {
@@ -248,8 +426,8 @@ public abstract class BaseStage {
         int bossMana = (gameState == null) ? 0 : gameState.getPlayerState(BattleSide.ENEMY).getCurrentMana();
         int playerMana = (gameState == null) ? 0 : gameState.getPlayerState(BattleSide.PLAYER).getCurrentMana();
 
-        drawManaBar(g, 930, 50, bossMana);
-        drawManaBar(g, 930, 700, playerMana);
+        drawManaBar(g, MANA_X, BOSS_MANA_Y, bossMana);
+        drawManaBar(g, MANA_X, PLAYER_MANA_Y, playerMana);
 
         drawTurnTime(g);
         
@@ -257,6 +435,7 @@ public abstract class BaseStage {
 
 
     public void mousePressed(MouseEvent e) {
+        if (replayPlayer != null || enemyPhase != null) return;
         int mx = e.getX();
         int my = e.getY();
 
@@ -279,6 +458,7 @@ public abstract class BaseStage {
     }
 
     public void mouseDragged(MouseEvent e) {
+        if (replayPlayer != null || enemyPhase != null) return;
         int mx = e.getX();
         int my = e.getY();
 
@@ -293,6 +473,7 @@ public abstract class BaseStage {
     }
 
     public void mouseReleased(MouseEvent e) {
+        if (replayPlayer != null || enemyPhase != null) return;
         // 1) 손패 카드 드롭 → 실제 battle 소환 연결
         CardUI draggingHandCard = (hand != null) ? hand.getDraggingCard() : null;
         if (draggingHandCard != null) {
@@ -323,8 +504,9 @@ public abstract class BaseStage {
 
             if (hand != null) hand.mouseReleased(e);
 
-            //반드시 UI 동기화
-            syncAllToUI();
+            //손패 UI 는 드래그로 위치가 바뀌었으므로 항상 다시 배치
+            dirty.getAndUpdate(v -> v | DIRTY_HAND);
+            syncDirtyToUI();
             screen.repaint();
             return;
         }
@@ -371,7 +553,7 @@ public abstract class BaseStage {
             activeFieldCard = null;
 
             //전투 결과 동기화(죽은 유닛 제거, 체력 반영)
-            syncAllToUI();
+            syncDirtyToUI();
             screen.repaint();
         }
 
@@ -414,6 +596,59 @@ public abstract class BaseStage {
         drawHp(g, player.getX() - 35, player.getY() + 60, playerHp);
     }
 
+    /**
+     * 그리는 값(손패 수, 마나, 영웅 체력, 남은 시간 또는 리플레이 배속) 중 지난 프레임과 달라진 HUD 의 영역을
+     * dirtyRegions 에 표시합니다. Screen 이 프레임을 합성하기 직전에 EDT 에서 부릅니다.
+     * 카드/슬롯/캐릭터는 움직이거나 바뀔 때 스스로 표시합니다.
+     */
+    void collectDirty() {
+        if (gameState == null) return;
+        PlayerBattleState me = gameState.getPlayerState(BattleSide.PLAYER);
+        PlayerBattleState enemy = gameState.getPlayerState(BattleSide.ENEMY);
+
+        // 손패 수는 DECK_TEXT_SIZE 정사각형 가운데에 그림
+        int deckTextX = DECK_X + DECK_TEXT_SIZE / 2 - 30;
+        int deckTextOffsetY = DECK_TEXT_SIZE / 2 - 16;
+        playerHandHud.update(me.getHand().size(), deckTextX, PLAYER_DECK_Y + deckTextOffsetY);
+        bossHandHud.update(enemy.getHand().size(), deckTextX, BOSS_DECK_Y + deckTextOffsetY);
+
+        // 마나 막대 + 오른쪽 원 (원은 막대보다 2px 위로 나옴)
+        bossManaHud.update(enemy.getCurrentMana(), MANA_X - 1, BOSS_MANA_Y - 3);
+        playerManaHud.update(me.getCurrentMana(), MANA_X - 1, PLAYER_MANA_Y - 3);
+
+        // 체력 원은 캐릭터를 따라 움직임 (세 자리 숫자는 원 밖으로 조금 나옴)
+        if (boss != null) bossHpHud.update(enemy.getHero().getCurrentHealth(), boss.getX() - 16, boss.getY() + 149);
+        if (player != null) playerHpHud.update(me.getHero().getCurrentHealth(), player.getX() - 36, player.getY() + 59);
+
+        if (replayPlayer != null) {
+            replaySpeedHud.update((int) Math.round(replaySpeed * 100), 1105, 345);
+        } else {
+            turnTimeHud.update(turnTimeSec, 1105, 345);
+        }
+    }
+
+    /** 값이나 위치가 바뀌었을 때만 이전/새 영역을 다시 그리도록 표시하는 HUD 숫자 */
+    private final class HudValue {
+        private final int width, height;
+        private boolean shown;
+        private int value, x, y;
+
+        HudValue(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        void update(int newValue, int newX, int newY) {
+            if (shown && newValue == value && newX == x && newY == y) return;
+            if (shown) dirtyRegions.mark(x, y, width, height);
+            this.shown = true;
+            this.value = newValue;
+            this.x = newX;
+            this.y = newY;
+            dirtyRegions.mark(x, y, width, height);
+        }
+    }
+
     private void loadCardBack() {
         this.cardBack = CardImageManager.getInstance().getCardBackImage();
     }
@@ -480,6 +715,7 @@ public abstract class BaseStage {
         endTurnBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                if (enemyPhase != null) return;
 
                 // PLAYER 턴 종료
                 printLog(turnManager.endTurn());
@@ -487,17 +723,11 @@ public abstract class BaseStage {
                 // ENEMY 턴 시작
                 printLog(turnManager.startTurn());
 
-                // AI 행동
-                printLog(enemyAI.playEnemyMainPhase());
-
-                // ENEMY 턴 종료
-                printLog(turnManager.endTurn());
+                // AI 행동 → ENEMY 턴 종료 → PLAYER 턴 시작 은 tick 에서 (tickEnemyTurn)
+                beginEnemyTurn();
 
-                // PLAYER 턴 시작
-                printLog(turnManager.startTurn());
-
-                // UI 동기화
-                syncAllToUI();
+                // UI 동기화 (이번 턴에서 바뀐 부분만)
+                syncDirtyToUI();
                 screen.repaint();
             }
         });
@@ -505,7 +735,7 @@ public abstract class BaseStage {
     }
 
     public void showTurnBtn() { 
-    	endTurnBtn.setVisible(true); 
+    	endTurnBtn.setVisible(replayPlayer == null); 
     }
     
     public void hideTurnBtn() {
@@ -515,9 +745,17 @@ public abstract class BaseStage {
     protected void drawTurnTime(Graphics g) {
         int btnX = 1280 - 100 - 20;
         int btnY = (800 / 2) - (40 / 2);
+        // 글자 영역은 collectDirty 의 turnTimeHud / replaySpeedHud 와 맞춰야 함
 
         g.setFont(new Font("SansSerif", Font.BOLD, 20));
 
+        // 리플레이는 턴 시간이 흐르지 않으므로 대신 배속 ([ / ] 키로 바꿈)
+        if (replayPlayer != null) {
+            g.setColor(Color.cyan);
+            g.drawString("Replay x" + replaySpeed, btnX - 50, btnY - 10);
+            return;
+        }
+
         if (turnTimeSec <= 10) {
             g.setColor(Color.red);
             // 10초 효과음 연타 방지(원하면 플래그로 한번만 재생 가능)
@@ -539,51 +777,113 @@ public abstract class BaseStage {
     private void initBattle() {
     	game.stage.Stage.Difficulty d = screen.getDifficulty();
         System.out.println(d);
-        game.battle.HeroState pHero = new game.battle.HeroState("PLAYER");
-        game.battle.HeroState eHero = new game.battle.HeroState("ENEMY", d.enemyHp);
-
-        PlayerBattleState p = new PlayerBattleState(pHero);
-        PlayerBattleState e = new PlayerBattleState(eHero);
 
-        // 플레이어/적 덱: 전체 카드 셔플 20장
-        List<game.card.card> pDeck = game.card.CardRepository.createShuffledDeck(20);
-        for (game.card.card c : pDeck) p.addCardToDeck(c);
+        this.difficulty = d;
+        bindBattle(StageBattleFactory.createGameState(d));
+        this.replayPlayer = null;
+        this.replayRecorder = ReplayRecorder.attach(gameState, d);
+        this.enemyAI = new MctsEnemyAI(gameState, d.aiThinkMillis);
 
-        List<game.card.card> eDeck = game.card.CardRepository.createShuffledDeck(20);
-        for (game.card.card c : eDeck) e.addCardToDeck(c);
-
-        
-        List<game.card.card> enemyHand = game.card.CardRepository.createShuffledDeck(0);
-        for (game.card.card c : enemyHand) e.addCardToHand(c);
-        
-        //적 멀리건(난이도 영향 O)
-        for (int i = 0; i < d.enemyStartHand; i++) {
-            e.drawCardWithFatigue();
-        }
-        //player 멀리건(난이도 영향 O)
-        for (int i = 0; i < d.playerStartHand; i++) {
-            p.drawCardWithFatigue();
-        }
-        
-        e.setMaxMana(Math.max(0, d.enemyStartMana - 1));
-        e.setCurrentMana(0);
+        // PLAYER 첫 턴 시작
+        printLog(turnManager.startTurn());
+    }
 
-        this.gameState = new GameState(p, e);
+    /** 화면이 보여 줄 전투를 바꿉니다. (이전 전투의 이벤트 구독은 닫음) */
+    private void bindBattle(GameState state) {
+        cancelEnemyTurn();
+        if (gameState != null) gameState.getEventBus().close();
+        this.gameState = state;
+        gameState.getEventBus().subscribe(new UiEventSubscriber());
         this.turnManager = new TurnManager(gameState);
         this.cardExecutor = new CardExecutor(gameState);
         this.combatEngine = new CombatEngine(gameState);
-        this.enemyAI = new EnemyAI(gameState);
+    }
 
-        // PLAYER 첫 턴 시작
-        printLog(turnManager.startTurn());
+    /** 끝난 전투의 리플레이를 저장합니다. (버그 제보 재현용) */
+    private void saveReplay() {
+        if (replayRecorder == null) return;
+        Replay replay = replayRecorder.toReplay();
+        replayRecorder.detach();
+        replayRecorder = null;
+        try {
+            Files.createDirectories(REPLAY_DIR);
+            Path file = REPLAY_DIR.resolve("replay-" + replay.getDifficulty() + "-" +
+                    Long.toHexString(replay.getSeed()) + Replay.FILE_EXTENSION);
+            replay.write(file);
+            System.out.println("[리플레이] 저장: " + file + " (" + replay.byteSize() + " bytes)");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**battle 상태를 UI(슬롯/손패)로 전부 동기화 */
     private void syncAllToUI() {
+        dirty.set(0);
         syncBoardsToSlots();
         syncHandFromBattle();
     }
 
+    /**전투 이벤트로 바뀌었다고 표시된 부분만 동기화 */
+    private void syncDirtyToUI() {
+        int bits = dirty.getAndSet(0);
+        if ((bits & DIRTY_PLAYER_BOARD) != 0) syncBoard(BattleSide.PLAYER, playerSlots);
+        if ((bits & DIRTY_ENEMY_BOARD) != 0) syncBoard(BattleSide.ENEMY, bossSlots);
+        if ((bits & DIRTY_HAND) != 0) syncHandFromBattle();
+    }
+
+    /**
+     * 전투 이벤트를 받아서 어떤 UI 를 다시 맞춰야 하는지 표시합니다.
+     * 영웅 체력/마나는 collectDirty 가 값을 비교해서 화면 영역을 표시하므로 여기서는 다루지 않습니다.
+     */
+    private final class UiEventSubscriber implements Flow.Subscriber<BattleEvent> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(BattleEvent event) {
+            int bits = 0;
+            switch (event.getType()) {
+                case CARD_PLAYED:
+                case CARD_DRAWN:
+                    if (event.getSide() == BattleSide.PLAYER) bits = DIRTY_HAND;
+                    break;
+                case UNIT_SUMMONED:
+                case UNIT_DIED:
+                case UNIT_STATS_CHANGED:
+                    bits = boardBit(event.getSide());
+                    break;
+                case DAMAGE_DEALT:
+                    if (!((BattleEvent.DamageDealt) event).isHeroTarget()) bits = boardBit(event.getSide());
+                    break;
+                case STATUS_CHANGED:
+                    if (((BattleEvent.StatusChanged) event).getSlot() != BattleEvent.HERO) bits = boardBit(event.getSide());
+                    break;
+                default:
+                    break;
+            }
+            if (bits != 0) {
+                int b = bits;
+                dirty.getAndUpdate(v -> v | b);
+            }
+        }
+
+        private int boardBit(BattleSide side) {
+            return side == BattleSide.PLAYER ? DIRTY_PLAYER_BOARD : DIRTY_ENEMY_BOARD;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
     private void syncHandFromBattle() {
         if (hand == null || gameState == null) return;
         List<game.card.card> battleHand = gameState.getPlayerState(BattleSide.PLAYER).getHand();
@@ -591,45 +891,38 @@ public abstract class BaseStage {
     }
 
     private void syncBoardsToSlots() {
+        syncBoard(BattleSide.PLAYER, playerSlots);
+        syncBoard(BattleSide.ENEMY, bossSlots);
+    }
+
+    /** side 의 보드 -> slots */
+    private void syncBoard(BattleSide side, FieldSlot[] slots) {
         if (gameState == null) return;
 
         // 슬롯 비우기
-        for (int i = 0; i < 5; i++) {
-            if (playerSlots[i] != null) playerSlots[i].setCard(null);
-            if (bossSlots[i] != null) bossSlots[i].setCard(null);
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) slots[i].setCard(null);
         }
 
         CardImageManager imgManager = CardImageManager.getInstance();
-        List<game.card.card> all = game.card.CardRepository.getAllCards();
-
-        // PLAYER 보드 -> playerSlots
-        List<UnitState> pBoard = gameState.getPlayerState(BattleSide.PLAYER).getBoard();
-        for (int i = 0; i < pBoard.size() && i < playerSlots.length; i++) {
-            UnitState unit = pBoard.get(i);
-            game.card.card base = pBoard.get(i).getBaseCard();
-            int imageIndex = findImageIndexById(all, base.getId());
-            CardUI ui = new CardUI(base, imgManager.getCardImage(imageIndex), 0, 0);
-            ui.setHp(unit.getCurrentHealth());
-            playerSlots[i].setCard(ui);
-        }
 
-        // ENEMY 보드 -> bossSlots
-        List<UnitState> eBoard = gameState.getPlayerState(BattleSide.ENEMY).getBoard();
-        for (int i = 0; i < eBoard.size() && i < bossSlots.length; i++) {
-        	UnitState unit = eBoard.get(i);
-            game.card.card base = eBoard.get(i).getBaseCard();
-            int imageIndex = findImageIndexById(all, base.getId());
-            CardUI ui = new CardUI(base, imgManager.getCardImage(imageIndex), 0, 0);
+        // 엔진의 필드 칸 번호 = FieldSlot 번호
+        Board board = gameState.getPlayerState(side).getBoard();
+        for (int i = 0; i < slots.length; i++) {
+            UnitState unit = board.get(i);
+            if (unit == null || slots[i] == null) continue;
+            game.card.card base = unit.getBaseCard();
+            int imageIndex = findImageIndex(base);
+            CardUI ui = new CardUI(base, imgManager.getCardImage(imageIndex), 0, 0, dirtyRegions);
             ui.setHp(unit.getCurrentHealth());
-            bossSlots[i].setCard(ui);
+            ui.setAttack(unit.getAttack());
+            slots[i].setCard(ui);
         }
     }
 
-    private int findImageIndexById(List<game.card.card> all, String id) {
-        for (int i = 0; i < all.size(); i++) {
-            if (all.get(i).getId().equals(id)) return i;
-        }
-        return 0;
+    private int findImageIndex(game.card.card c) {
+        int ordinal = game.card.CardRepository.ordinalOf(c);
+        return ordinal < 0 ? 0 : ordinal;
     }
     
     private void checkResult() {
@@ -640,12 +933,16 @@ public abstract class BaseStage {
     		gameLose = true;
     		gameWin = false;
     		hideTurnBtn();
+    		saveReplay();
     		MainFrame.bgplay("/res/gameLose.mp3");
+    		dirtyRegions.markAll();
     	} else if (bossHp <= 0) {
     		gameWin = true;
     		gameLose = false;
     		hideTurnBtn();
+    		saveReplay();
     		MainFrame.bgplay("/res/gameWin.mp3");
+    		dirtyRegions.markAll();
     	}
     }
     
@@ -686,8 +983,61 @@ public abstract class BaseStage {
     	gameLose = false;
     	endTimer = 0;
     	
-    	initBattle();
+    	if (!resumeSuspended()) initBattle();
+    	// 적 턴 도중에 저장한 전투면 적 턴을 이어서 진행
+    	if (gameState.getCurrentTurnSide() == BattleSide.ENEMY && !gameState.isGameOver()) beginEnemyTurn();
     	syncAllToUI();
+    	dirtyRegions.markAll();
+    }
+
+    /**
+     * 진행 중인 전투를 스냅샷으로 저장합니다. (EscMenu 의 스테이지 선택 / 게임 종료)
+     * 끝난 전투나 리플레이는 저장하지 않습니다.
+     */
+    public void suspend() {
+        if (gameState == null || replayPlayer != null || gameWin || gameLose || gameState.isGameOver()) return;
+        MatchSnapshot snapshot = MatchSnapshot.capture(gameState, difficulty);
+        try {
+            Files.createDirectories(SAVE_DIR);
+            Path file = suspendFile(difficulty);
+            snapshot.write(file);
+            System.out.println("[저장] 전투를 중단했습니다: " + file + " (" + snapshot + ")");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** 현재 난이도의 중단한 전투가 있으면 이어서 시작합니다. (읽은 스냅샷은 지움) */
+    private boolean resumeSuspended() {
+        Stage.Difficulty d = screen.getDifficulty();
+        Path file = suspendFile(d);
+        if (!Files.exists(file)) return false;
+
+        MatchSnapshot snapshot;
+        try {
+            snapshot = MatchSnapshot.load(file); // 매핑하면 Windows 에서 아래 삭제가 실패함
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[저장] 중단한 전투를 읽을 수 없어 새로 시작합니다: " + e.getMessage());
+            snapshot = null;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (snapshot == null || snapshot.getDifficulty() != d) return false;
+
+        this.difficulty = d;
+        bindBattle(snapshot.restore());
+        this.replayPlayer = null;
+        this.replayRecorder = null; // 리플레이는 시드부터 기록해야 하므로 이어 한 전투는 기록하지 않음
+        this.enemyAI = new MctsEnemyAI(gameState, d.aiThinkMillis);
+        System.out.println("[저장] 중단한 전투를 이어서 진행합니다: " + snapshot);
+        return true;
+    }
+
+    private static Path suspendFile(Stage.Difficulty d) {
+        return SAVE_DIR.resolve("suspend-" + d + MatchSnapshot.FILE_EXTENSION);
     }
     
     public void drawResult(Graphics g){{
@@ -12,8 +12,15 @@ public class CardDragge {
     private boolean isDragging = false;
     private int dragX, dragY;
     private int originX, originY;
+    // 움직일 때 이전/새 영역을 표시할 곳 (null 이면 표시 안 함)
+    private final DirtyRegions dirtyRegions;
 
     public CardDragge(int x, int y, BufferedImage img) {
+        this(x, y, img, null);
+    }
+
+    CardDragge(int x, int y, BufferedImage img, DirtyRegions dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
         this.x = x;
         this.y = y;
         this.originX = x;
@@ -41,8 +48,7 @@ public class CardDragge {
 
     public void dragTo(int mx, int my) {
         if (isDragging) {
-            this.x = mx - dragX;
-            this.y = my - dragY;
+            moveTo(mx - dragX, my - dragY);
         }
     }
 
@@ -55,8 +61,15 @@ public class CardDragge {
     }
     
     public void resetPosition() {
-    	this.x = originX;
-    	this.y = originY;
+    	moveTo(originX, originY);
+    }
+
+    private void moveTo(int nx, int ny) {
+    	if (nx == x && ny == y) return;
+    	if (dirtyRegions != null) dirtyRegions.mark(x, y, width, height);
+    	this.x = nx;
+    	this.y = ny;
+    	if (dirtyRegions != null) dirtyRegions.mark(x, y, width, height);
     }
     
     public Rectangle getRect() {
@@ -0,0 +1,133 @@
+package game.ui.swing;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import game.card.card;
+
+/**
+ * 카드 앞면(그림 + 비용/공격력/체력 숫자)을 100x140 이미지로 한 번만 그려 두는 캐시입니다.
+ *
+ * units.jpg 에서 잘라 낸 그림을 줄이고 글자를 쓰는 일은 (카드 id, 체력, 공격력) 이 같으면 결과가 같으므로,
+ * 처음 한 번만 그리고 CardUI 는 그 이미지를 크기 변환 없이 drawImage 한 번으로 그립니다.
+ * 최근에 쓰지 않은 것부터 MAX_FACES 개를 넘는 만큼 버립니다. (LRU)
+ * 공격력은 카드의 기본값이 아니라 필드 유닛의 지금 값(버프/디버프 반영)을 씁니다.
+ * 비용은 카드마다 정해져 있어서 키에 넣지 않습니다. EDT 에서만 사용합니다.
+ */
+final class CardFaceCache {
+
+    static final int WIDTH = 100;
+    static final int HEIGHT = 140;
+    /** 카드 20종 x 전투 중 보이는 체력 몇 가지면 충분함 (한 장 약 56KB) */
+    static final int MAX_FACES = 64;
+
+    private static final Font STAT_FONT = new Font("Arial", Font.BOLD, 18);
+
+    private static CardFaceCache instance;
+
+    private final Map<Key, BufferedImage> faces = new LinkedHashMap<>(MAX_FACES * 4 / 3 + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+            return size() > MAX_FACES;
+        }
+    };
+    // 화면과 같은 픽셀 형식으로 만들어서 그릴 때 변환이 없게 함 (headless 면 null)
+    private final GraphicsConfiguration gc;
+
+    private CardFaceCache() {
+        this.gc = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    static CardFaceCache getInstance() {
+        if (instance == null) {
+            instance = new CardFaceCache();
+        }
+        return instance;
+    }
+
+    /**
+     * data 카드를 체력 hp, 공격력 attack 으로 보여 주는 앞면. (-1 이면 카드의 기본 체력/공격력)
+     * art 는 같은 카드면 항상 같은 그림이어야 합니다.
+     */
+    BufferedImage get(card data, BufferedImage art, int hp, int attack) {
+        if (data == null) throw new IllegalArgumentException("카드는 null 일 수 없습니다.");
+        int shownHp = (hp != -1) ? hp : data.getDefense();
+        int shownAttack = (attack != -1) ? attack : data.getAttack();
+        Key key = new Key(data.getId(), shownHp, shownAttack);
+        BufferedImage face = faces.get(key);
+        if (face == null) {
+            face = render(data, art, shownHp, shownAttack);
+            faces.put(key, face);
+        }
+        return face;
+    }
+
+    int size() {
+        return faces.size();
+    }
+
+    void clear() {
+        faces.clear();
+    }
+
+    private BufferedImage render(card data, BufferedImage art, int hp, int attack) {
+        // 그림이 없으면 글자만 있는 투명한 앞면
+        int transparency = (art != null) ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        BufferedImage face = (gc != null) ? gc.createCompatibleImage(WIDTH, HEIGHT, transparency)
+                : new BufferedImage(WIDTH, HEIGHT, art != null ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = face.createGraphics();
+        try {
+            g2d.drawImage(art, 0, 0, WIDTH, HEIGHT, null);
+
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setFont(STAT_FONT);
+
+            g2d.setColor(Color.RED);
+            g2d.drawString(String.valueOf(attack), 10, HEIGHT - 10);
+
+            g2d.setColor(Color.GREEN);
+            g2d.drawString(String.valueOf(hp), WIDTH - 25, HEIGHT - 10);
+
+            g2d.setColor(Color.YELLOW);
+            g2d.drawString(String.valueOf(data.getCost()), 8, 20);
+        } finally {
+            g2d.dispose();
+        }
+        return face;
+    }
+
+    private static final class Key {
+        private final String cardId;
+        private final int hp;
+        private final int attack;
+
+        Key(String cardId, int hp, int attack) {
+            this.cardId = cardId;
+            this.hp = hp;
+            this.attack = attack;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hp == other.hp && attack == other.attack && cardId.equals(other.cardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return (cardId.hashCode() * 31 + hp) * 31 + attack;
+        }
+    }
+}
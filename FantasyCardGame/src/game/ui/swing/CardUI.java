@@ -1,11 +1,7 @@
 package game.ui.swing;
 
-import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Rectangle;
-import java.awt.RenderingHints; // 텍스트 깨짐 방지
 import java.awt.image.BufferedImage;
 
 // 팀원이 만든 데이터 클래스 import
@@ -26,8 +22,21 @@ public class CardUI {
     private int originX, originY;
     private boolean isDragging = false;
     private int currentHp = -1;
+    private int currentAttack = -1;
+    // CardFaceCache 에서 받은 지금 모습 (체력/공격력이 바뀌면 다시 받음)
+    private BufferedImage face;
+
+    // 모양이나 위치가 바뀔 때 자기 영역을 표시할 곳 (null 이면 표시 안 함)
+    private final DirtyRegions dirtyRegions;
+    // 아직 한 번도 자리를 잡지 않은 카드(생성 직후 0,0)는 이전 영역을 표시하지 않음
+    private boolean placed;
 
     public CardUI(card data, BufferedImage image, int x, int y) {
+        this(data, image, x, y, null);
+    }
+
+    CardUI(card data, BufferedImage image, int x, int y, DirtyRegions dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
         this.data = data;
         this.image = image;
         this.x = x;
@@ -35,30 +44,20 @@ public class CardUI {
         this.originX = x;
         this.originY = y;
         this.currentHp = -1;
+        this.currentAttack = -1;
     }
 
     public void draw(Graphics g) {
+        if (data == null) {
             g.drawImage(image, x, y, width, height, null);
+            return;
+        }
+        // 그림 + 비용/공격력/체력은 미리 그려 둔 앞면 한 장
+        if (face == null) face = CardFaceCache.getInstance().get(data, image, currentHp, currentAttack);
+        g.drawImage(face, x, y, null);
 
         if (isSelected) { /* ... */ } 
         else if (isHovered) { /* ... */ }
-
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
-
-        if (data != null) {
-            g2d.setColor(Color.RED);
-            g2d.drawString(String.valueOf(data.getAttack()), x + 10, y + height - 10);
-
-            g2d.setColor(Color.GREEN);
-            String hpText = (currentHp != -1) ? String.valueOf(currentHp) : String.valueOf(data.getDefense());
-            g2d.drawString(hpText, x + width - 25, y + height - 10);
-
-            g2d.setColor(Color.YELLOW);
-            g2d.drawString(String.valueOf(data.getCost()), x + 8, y + 20);
-            
-        }
     }
     
     public Rectangle getRect() {
@@ -75,8 +74,7 @@ public class CardUI {
     
     public void dragTo(int mx, int my) {
         if (isDragging) {
-            this.x = mx - width / 2;
-            this.y = my - height / 2;
+            moveTo(mx - width / 2, my - height / 2);
         }
     }
     
@@ -85,8 +83,7 @@ public class CardUI {
     }
     
     public void resetPosition() {
-        this.x = originX;
-        this.y = originY;
+        moveTo(originX, originY);
     }
     
     public boolean isDragging() { return isDragging; }
@@ -96,8 +93,7 @@ public class CardUI {
     }
     
     public void setPosition(int x, int y) {
-    	this.x = x;
-    	this.y = y;
+    	moveTo(x, y);
     	this.originX = x;
     	this.originY = y;
     }
@@ -112,6 +108,31 @@ public class CardUI {
     }
     
     public void setHp(int hp) {
+    	if (hp == currentHp) return;
     	this.currentHp = hp;
+    	this.face = null;
+    	markDirty();
+    }
+
+    /** 필드 유닛의 지금 공격력 (버프/디버프 반영). -1 이면 카드의 기본 공격력 */
+    public void setAttack(int attack) {
+    	if (attack == currentAttack) return;
+    	this.currentAttack = attack;
+    	this.face = null;
+    	markDirty();
+    }
+
+    /** 다음 프레임에 이 카드 영역을 다시 그리도록 표시 (손패에서 빠질 때 등) */
+    void markDirty() {
+    	if (dirtyRegions != null && placed) dirtyRegions.mark(x, y, width, height);
+    }
+
+    private void moveTo(int nx, int ny) {
+    	if (placed && nx == x && ny == y) return;
+    	markDirty();
+    	this.x = nx;
+    	this.y = ny;
+    	this.placed = true;
+    	markDirty();
     }
 }
\ No newline at end of file
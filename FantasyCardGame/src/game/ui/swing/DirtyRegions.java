@@ -0,0 +1,128 @@
+package game.ui.swing;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다음 프레임에 다시 그려야 할 화면 영역들입니다.
+ *
+ * 카드/슬롯/캐릭터/HUD 는 모양이나 위치가 바뀔 때 자기 영역(바뀌기 전과 후)을 mark 하고,
+ * Screen 은 프레임마다 take() 로 영역을 받아 그 부분만 다시 합성합니다. 아무것도 바뀌지 않은
+ * 프레임은 합성도, 화면 출력도 하지 않습니다.
+ *
+ * 겹치거나 맞닿은 영역은 하나로 합치고, 영역이 MAX_RECTS 개를 넘으면 가장 적게 커지는 쪽으로 합칩니다.
+ * (멀리 떨어진 작은 영역 두 개를 화면 전체 크기의 하나로 만들지 않기 위해)
+ * EDT 에서만 사용합니다.
+ */
+final class DirtyRegions {
+
+    static final int MAX_RECTS = 8;
+
+    private final int width;
+    private final int height;
+
+    // 영역 i = [x0[i], x1[i]) × [y0[i], y1[i])
+    private final int[] x0 = new int[MAX_RECTS];
+    private final int[] y0 = new int[MAX_RECTS];
+    private final int[] x1 = new int[MAX_RECTS];
+    private final int[] y1 = new int[MAX_RECTS];
+    private int count;
+
+    DirtyRegions(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("화면 크기는 양수여야 합니다: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    /** (x, y, w, h) 영역을 다시 그리도록 표시합니다. 화면 밖은 잘라냅니다. */
+    void mark(int x, int y, int w, int h) {
+        int ax = Math.max(0, x);
+        int ay = Math.max(0, y);
+        int bx = Math.min(width, x + w);
+        int by = Math.min(height, y + h);
+        if (ax >= bx || ay >= by) return;
+
+        // 겹치거나 맞닿은 영역을 흡수하면서 키움 (커진 뒤 다른 영역과 또 닿을 수 있으므로 처음부터 다시)
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < count; i++) {
+                if (ax <= x1[i] && x0[i] <= bx && ay <= y1[i] && y0[i] <= by) {
+                    ax = Math.min(ax, x0[i]);
+                    ay = Math.min(ay, y0[i]);
+                    bx = Math.max(bx, x1[i]);
+                    by = Math.max(by, y1[i]);
+                    removeAt(i);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+
+        if (count == MAX_RECTS) {
+            int best = 0;
+            long bestGrowth = Long.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                long grown = (long) (Math.max(bx, x1[i]) - Math.min(ax, x0[i]))
+                        * (Math.max(by, y1[i]) - Math.min(ay, y0[i]));
+                long growth = grown - (long) (x1[i] - x0[i]) * (y1[i] - y0[i]);
+                if (growth < bestGrowth) {
+                    bestGrowth = growth;
+                    best = i;
+                }
+            }
+            ax = Math.min(ax, x0[best]);
+            ay = Math.min(ay, y0[best]);
+            bx = Math.max(bx, x1[best]);
+            by = Math.max(by, y1[best]);
+            removeAt(best);
+            mark(ax, ay, bx - ax, by - ay);
+            return;
+        }
+
+        x0[count] = ax;
+        y0[count] = ay;
+        x1[count] = bx;
+        y1[count] = by;
+        count++;
+    }
+
+    void mark(Rectangle r) {
+        if (r != null) mark(r.x, r.y, r.width, r.height);
+    }
+
+    /** 화면 전체를 다시 그리도록 표시합니다. (화면 전환, 결과 표시 등) */
+    void markAll() {
+        count = 0;
+        mark(0, 0, width, height);
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /** 표시된 영역들을 꺼내고 비웁니다. (없으면 빈 목록) */
+    List<Rectangle> take() {
+        List<Rectangle> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new Rectangle(x0[i], y0[i], x1[i] - x0[i], y1[i] - y0[i]));
+        }
+        count = 0;
+        return result;
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    private void removeAt(int i) {
+        count--;
+        x0[i] = x0[count];
+        y0[i] = y0[count];
+        x1[i] = x1[count];
+        y1[i] = y1[count];
+    }
+}
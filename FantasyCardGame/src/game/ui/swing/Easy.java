@@ -43,15 +43,20 @@ public class Easy extends BaseStage {
     private void Characters() {
     	int bossX = (1280 - EasyBoss.getWidth()) / 2;
     	int bossY = 10;
-    	this.boss = new CardDragge(bossX, bossY, EasyBoss);
+    	this.boss = new CardDragge(bossX, bossY, EasyBoss, dirtyRegions);
     	 
     	int playerX = (1280 - Player.getWidth()) / 2;
     	int playerY = 650;
-    	this.player = new CardDragge(playerX, playerY, Player);
+    	this.player = new CardDragge(playerX, playerY, Player, dirtyRegions);
     }
     
+    @Override
+    protected BufferedImage getBackgroundImage() {
+        return EasyBack;
+    }
+
     public void draw(Graphics g, Screen screen) {
-        g.drawImage(EasyBack, 0, 0, screen);
+        drawStaticLayer(g);
         drawField(g);
         drawCharacter(g);
         
@@ -27,6 +27,7 @@ public class EscMenu {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				toggleMenu();
+				screen.suspendBattle();
 				screen.returnSelect();
 			}
 		});
@@ -38,6 +39,7 @@ public class EscMenu {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				toggleMenu();
+				screen.suspendBattle();
 				System.exit(0);
 			}
 		});
@@ -6,14 +6,23 @@ import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 public class FieldSlot {
+
+    private static final Color OUTLINE_COLOR = new Color(255, 255, 255, 150);
     
     private int x, y;
     private int width;
     private int height;
     private BufferedImage backgroundImage; 
     private CardUI equippedCard = null;
+    // 카드가 바뀔 때 슬롯 영역을 표시할 곳 (null 이면 표시 안 함)
+    private final DirtyRegions dirtyRegions;
 
     public FieldSlot(int x, int y, int width, int height, BufferedImage bg) {
+        this(x, y, width, height, bg, null);
+    }
+
+    FieldSlot(int x, int y, int width, int height, BufferedImage bg, DirtyRegions dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
         this.x = x;
         this.y = y;
         this.width = width;
@@ -23,11 +32,19 @@ public class FieldSlot {
     }
 
     public void draw(Graphics g) {
+        drawOutline(g);
+        drawCard(g);
+    }
+
+    /** 빈 슬롯 모양 (바뀌지 않으므로 StaticLayer 에 그림) */
+    public void drawOutline(Graphics g) {
             g.drawImage(backgroundImage, x, y, width, height, null);
 
-        g.setColor(new Color(255, 255, 255, 150)); 
+        g.setColor(OUTLINE_COLOR);
         g.drawRect(x, y, width, height);
-        
+    }
+
+    public void drawCard(Graphics g) {
         if (equippedCard != null) {
         	equippedCard.draw(g);
         }
@@ -38,6 +55,9 @@ public class FieldSlot {
     }
     
     public void setCard(CardUI card) {
+    	if (card == equippedCard) return;
+    	// drawRect 는 오른쪽/아래로 1px 더 그림
+    	if (dirtyRegions != null) dirtyRegions.mark(x, y, width + 1, height + 1);
     	this.equippedCard = card;
     	if (card != null) {
     		card.setPosition(this.x, this.y);
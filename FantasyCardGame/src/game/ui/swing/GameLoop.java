@@ -0,0 +1,118 @@
+package game.ui.swing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * 고정 간격(STEP_NANOS) 으로 게임을 진행하고, 그 사이를 보간해서 그리는 게임 루프입니다.
+ *
+ * - 시간 측정과 대기만 "game-loop" 스레드에서 하고, update / render 는 항상 EDT 에서 실행합니다.
+ *   그래서 마우스/버튼 처리와 게임 진행이 같은 스레드(EDT)에서만 GameState 를 바꿉니다.
+ * - update 는 실제 흐른 시간만큼 고정 간격으로 여러 번(또는 0번) 불립니다. 부하와 상관없이
+ *   1초에 UPDATES_PER_SECOND 번이므로 애니메이션/타이머 속도가 일정합니다.
+ * - render 에는 마지막 update 이후 다음 update 까지 얼마나 왔는지(0 ~ 1)를 넘깁니다.
+ * - 한 프레임의 목표 시각에서 update + render 에 걸린 시간을 빼고 남은 만큼만 기다립니다.
+ *
+ * EDT 가 오래 막히면(창 이동, 긴 GC 등) 밀린 update 는 MAX_STEPS_PER_FRAME 번까지만 따라잡고 나머지는 버립니다.
+ */
+final class GameLoop {
+
+    static final int UPDATES_PER_SECOND = 60;
+    static final long STEP_NANOS = 1_000_000_000L / UPDATES_PER_SECOND;
+    /** update 한 번이 나타내는 시간(ms) */
+    static final double STEP_MILLIS = STEP_NANOS / 1_000_000.0;
+
+    /** 목표 프레임 간격 (그리기는 update 와 같은 빈도) */
+    private static final long FRAME_NANOS = STEP_NANOS;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    /** 이만큼 남았으면 잠들고, 그보다 짧으면 양보하면서 기다림 (잠들기의 오차 보정) */
+    private static final long SPIN_NANOS = 1_000_000L;
+
+    private final Runnable update;
+    private final DoubleConsumer render;
+    private final Runnable frame = this::runFrame;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // 아래 값들은 game-loop 스레드에서 쓰고, runFrame(EDT) 은 invokeAndWait 안에서만 읽음
+    private int pendingSteps;
+    private double pendingAlpha;
+
+    /** 버린 update 수 (EDT 가 밀렸던 정도) */
+    private volatile long droppedSteps;
+
+    GameLoop(Runnable update, DoubleConsumer render) {
+        if (update == null || render == null) {
+            throw new IllegalArgumentException("update / render 는 null 일 수 없습니다.");
+        }
+        this.update = update;
+        this.render = render;
+    }
+
+    synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::loop, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    synchronized void stop() {
+        running = false;
+        if (thread != null) thread.interrupt();
+        thread = null;
+    }
+
+    long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    private void loop() {
+        long previous = System.nanoTime();
+        long lag = 0;
+        while (running) {
+            long frameStart = System.nanoTime();
+            lag += frameStart - previous;
+            previous = frameStart;
+
+            int steps = (int) Math.min(lag / STEP_NANOS, Integer.MAX_VALUE);
+            if (steps > MAX_STEPS_PER_FRAME) {
+                droppedSteps += steps - MAX_STEPS_PER_FRAME;
+                lag -= (long) (steps - MAX_STEPS_PER_FRAME) * STEP_NANOS;
+                steps = MAX_STEPS_PER_FRAME;
+            }
+            lag -= steps * STEP_NANOS;
+
+            pendingSteps = steps;
+            pendingAlpha = lag / (double) STEP_NANOS;
+            try {
+                SwingUtilities.invokeAndWait(frame);
+            } catch (InterruptedException e) {
+                return;
+            } catch (InvocationTargetException e) {
+                e.getCause().printStackTrace();
+            }
+
+            waitUntil(frameStart + FRAME_NANOS);
+        }
+    }
+
+    /** EDT: 밀린 update 를 실행하고 한 번 그림 */
+    private void runFrame() {
+        for (int i = 0; i < pendingSteps; i++) update.run();
+        render.accept(pendingAlpha);
+    }
+
+    private void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && running) {
+            if (remaining > SPIN_NANOS) LockSupport.parkNanos(remaining - SPIN_NANOS);
+            else Thread.yield();
+        }
+    }
+}
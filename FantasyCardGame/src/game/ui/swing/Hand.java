@@ -22,13 +22,23 @@ public class Hand {
 
     private boolean isExpanded = false;
 
+    // 카드가 움직이거나 바뀔 때 영역을 표시할 곳 (null 이면 표시 안 함)
+    private final DirtyRegions dirtyRegions;
+
     public Hand() {
+        this(null);
+    }
+
+    Hand(DirtyRegions dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
         // 초기에는 비어있어도 됨 (BaseStage에서 battle hand로 채움)
         arrangeCards(false);
     }
 
     /**battle의 손패를 그대로 UI hand로 동기화 */
     public void setFromBattleHand(List<card> battleHand) {
+        // 빠지는 카드 자리도 다시 그려야 함
+        for (CardUI c : myHandCards) c.markDirty();
         myHandCards.clear();
         if (battleHand == null) {
             arrangeCards(false);
@@ -39,7 +49,7 @@ public class Hand {
 
         for (card data : battleHand) {
             int imageIndex = findImageIndex(data);
-            CardUI newCard = new CardUI(data, imgManager.getCardImage(imageIndex), 0, 0);
+            CardUI newCard = new CardUI(data, imgManager.getCardImage(imageIndex), 0, 0, dirtyRegions);
             myHandCards.add(newCard);
         }
 
@@ -77,11 +87,8 @@ public class Hand {
     }
 
     private int findImageIndex(card c) {
-        List<card> all = CardRepository.getAllCards();
-        for (int i = 0; i < all.size(); i++) {
-            if (all.get(i).getId().equals(c.getId())) return i;
-        }
-        return 0;
+        int ordinal = CardRepository.ordinalOf(c);
+        return ordinal < 0 ? 0 : ordinal;
     }
 
     public void draw(Graphics g) {
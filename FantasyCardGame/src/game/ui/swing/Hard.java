@@ -43,15 +43,20 @@ public class Hard extends BaseStage {
     private void Characters() {
     	int bossX = (1280 - HardBoss.getWidth()) / 2;
     	int bossY = 10;
-    	this.boss = new CardDragge(bossX, bossY, HardBoss);
+    	this.boss = new CardDragge(bossX, bossY, HardBoss, dirtyRegions);
     	
     	int playerX = (1280 - Player.getWidth()) / 2;
     	int playerY = 650;
-    	this.player = new CardDragge(playerX, playerY, Player);
+    	this.player = new CardDragge(playerX, playerY, Player, dirtyRegions);
     }
     
+    @Override
+    protected BufferedImage getBackgroundImage() {
+        return HardBack;
+    }
+
     public void draw(Graphics g, Screen screen) {
-        g.drawImage(HardBack, 0, 0, screen);
+        drawStaticLayer(g);
         drawField(g);
         drawCharacter(g);
         
@@ -1,4 +1,7 @@
 package game.ui.swing;
+import java.awt.DisplayMode;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
 import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 
@@ -7,14 +10,53 @@ import javax.swing.JFrame;
 import javazoom.jl.player.Player;
 
 public class MainFrame extends JFrame {
+	private final Screen screen = new Screen();
+
+	public static final int FRAME_WIDTH = 1280;
+	public static final int FRAME_HEIGHT = 800;
+
 	public MainFrame() {
 		setTitle("짭스스톤");
-		setSize(1280, 800);
-		add(new Screen());
-		setVisible(true);
+		setSize(FRAME_WIDTH, FRAME_HEIGHT);
+		add(screen);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		if (screen.getRenderMode() != Screen.RenderMode.FULLSCREEN || !enterFullScreen()) {
+			setVisible(true);
+		}
 		bgplay("/res/bgmusic.mp3");
 	}
+
+	/**
+	 * 전체 화면 전용 모드로 전환합니다. (Screen.RenderMode.FULLSCREEN)
+	 * 가능하면 해상도도 1280x800 으로 바꾸고, 이 모드에서는 BufferStrategy 가 page flipping 을 씁니다.
+	 * 지원하지 않는 환경이면 false 를 반환하고 창 모드로 뜹니다.
+	 */
+	private boolean enterFullScreen() {
+		GraphicsDevice device = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+		if (!device.isFullScreenSupported()) {
+			System.err.println("[화면] 전체 화면 전용 모드를 지원하지 않아 창 모드로 실행합니다.");
+			return false;
+		}
+		setUndecorated(true);
+		setResizable(false);
+		device.setFullScreenWindow(this);
+
+		if (device.isDisplayChangeSupported()) {
+			DisplayMode current = device.getDisplayMode();
+			for (DisplayMode mode : device.getDisplayModes()) {
+				if (mode.getWidth() == FRAME_WIDTH && mode.getHeight() == FRAME_HEIGHT
+						&& (mode.getBitDepth() == current.getBitDepth() || mode.getBitDepth() == DisplayMode.BIT_DEPTH_MULTI)) {
+					device.setDisplayMode(mode);
+					break;
+				}
+			}
+		}
+		return true;
+	}
+	public Screen getScreen() {
+		return screen;
+	}
+
 	public static void bgplay(String filename) {
 	    Player jlPlayer = null;
 	    try {
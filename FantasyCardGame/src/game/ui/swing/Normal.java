@@ -43,15 +43,20 @@ public class Normal extends BaseStage {
     private void Characters() {
     	int bossX = (1280 - NormalBoss.getWidth()) / 2;
     	int bossY = 10;
-    	this.boss = new CardDragge(bossX, bossY, NormalBoss);
+    	this.boss = new CardDragge(bossX, bossY, NormalBoss, dirtyRegions);
     	
     	int playerX = (1280 - Player.getWidth()) / 2;
     	int playerY = 650;
-    	this.player = new CardDragge(playerX, playerY, Player);
+    	this.player = new CardDragge(playerX, playerY, Player, dirtyRegions);
     }
     
+    @Override
+    protected BufferedImage getBackgroundImage() {
+        return NormalBack;
+    }
+
     public void draw(Graphics g, Screen screen) {
-        g.drawImage(NormalBack, 0, 0, screen);
+        drawStaticLayer(g);
         drawField(g);
         drawCharacter(g);
         
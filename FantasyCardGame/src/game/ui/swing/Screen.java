@@ -3,6 +3,7 @@ package game.ui.swing;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Image;
+import java.awt.Rectangle;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.KeyEvent;
@@ -10,17 +11,50 @@ import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
-import java.util.Timer;
-import java.util.TimerTask;
+import game.sim.Replay;
 import game.stage.Stage;
 
 import javax.swing.JPanel;
 
 public class Screen extends JPanel implements ComponentListener, KeyListener, MouseListener, MouseMotionListener {
 
-    private Graphics bg;
+    /**
+     * 그리는 방식. 실행 인자 -Dgame.render=PASSIVE|ACTIVE|FULLSCREEN 으로 고릅니다. (기본 ACTIVE)
+     * - PASSIVE   : JPanel.paintComponent + 직접 만든 뒤 버퍼 (예전 방식)
+     * - ACTIVE    : ActiveCanvas(BufferStrategy) 에 게임 루프가 직접 그림
+     * - FULLSCREEN: ACTIVE + 전체 화면 전용 모드 (MainFrame 이 전환, page flipping)
+     * ACTIVE 준비에 실패하면 PASSIVE 로 돌아갑니다.
+     */
+    public enum RenderMode {
+        PASSIVE, ACTIVE, FULLSCREEN;
+
+        public static final String PROPERTY = "game.render";
+
+        public static RenderMode fromSystemProperty() {
+            String value = System.getProperty(PROPERTY);
+            if (value == null || value.isBlank()) return ACTIVE;
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("[화면] 알 수 없는 " + PROPERTY + " 값이라 ACTIVE 로 그립니다: " + value);
+                return ACTIVE;
+            }
+        }
+    }
+
+    /** BufferStrategy 버퍼 수. -Dgame.buffers=2|3 (기본 3) */
+    public static final String BUFFERS_PROPERTY = "game.buffers";
+
+    private RenderMode renderMode;
+    // ACTIVE / FULLSCREEN 일 때만 null 이 아님
+    private ActiveCanvas canvas;
+
+    // 지금 화면에 보여야 할 내용을 계속 들고 있는 뒤 버퍼. 전투 화면은 바뀐 영역만 여기에 다시 그림
     private Image offScreen;
     private Dimension dim;
+    // 뒤 버퍼에 마지막으로 그린 스테이지 (바뀌면 전체를 다시 그림)
+    private int composedStage = -1;
+    private boolean fullRedraw = true;
     //난이도
     private Stage.Difficulty difficulty = Stage.Difficulty.NORMAL;
     
@@ -33,7 +67,18 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
     int stage = 0;
     private EscMenu escMenu;
 
+    // 고정 간격 게임 루프 (update / 그리기 모두 EDT 에서 실행)
+    private final GameLoop loop = new GameLoop(this::update, this::render);
+    // 마지막 update 이후 다음 update 까지의 진행 정도 (0 ~ 1, 그리기 보간용)
+    private double interpolation;
+
     public Screen() {
+        this(RenderMode.fromSystemProperty());
+    }
+
+    public Screen(RenderMode renderMode) {
+        if (renderMode == null) throw new IllegalArgumentException("RenderMode 는 null 일 수 없습니다.");
+        this.renderMode = renderMode;
         setLayout(null);
         addKeyListener(this);
         addMouseListener(this);
@@ -43,26 +88,72 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
         setFocusable(true);
         escMenu = new EscMenu(this);
 
-        Timer timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                repaint();
-                
-                if (escMenu.isVisible()) {
-                	return;
-                }
-                counting();
-                turnBtn();
-
-                //스테이지 tick 연결(턴시간 표시/자동 종료)
-                if (stage == 2) easy.tick();
-                else if (stage == 3) normal.tick();
-                else if (stage == 4) hard.tick();
-            }
-        }, 0, 16); //1ms -> 16ms
+        if (renderMode != RenderMode.PASSIVE) {
+            canvas = new ActiveCanvas(Math.max(2, Math.min(3, Integer.getInteger(BUFFERS_PROPERTY, 3))));
+            canvas.addKeyListener(this);
+            canvas.addMouseListener(this);
+            canvas.addMouseMotionListener(this);
+            // 버튼들보다 아래에 깔림 (z 순서 맨 뒤)
+            add(canvas);
+            setComponentZOrder(canvas, getComponentCount() - 1);
+        }
 
         select.hideButtons();
+        loop.start();
+    }
+
+    /** 실제로 쓰고 있는 그리기 방식 (ACTIVE 가 실패했으면 PASSIVE) */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /** 고정 간격(GameLoop.STEP_MILLIS) 마다 한 번: 게임 진행 */
+    private void update() {
+        if (escMenu.isVisible()) {
+        	return;
+        }
+        counting();
+        turnBtn();
+
+        if (stage == 0) stageTitle.update(countNumber);
+        //스테이지 tick 연결(턴시간 표시/자동 종료)
+        else if (stage == 2) easy.tick();
+        else if (stage == 3) normal.tick();
+        else if (stage == 4) hard.tick();
+    }
+
+    /**
+     * 매 프레임: 바뀐 부분을 뒤 버퍼에 다시 그리고 화면에 내보냄 (update 사이는 interpolation 으로 보간)
+     * 바뀐 것이 없으면(가만히 있는 전투 화면) 그리지도 내보내지도 않습니다.
+     */
+    private void render(double interpolation) {
+        this.interpolation = interpolation;
+        Rectangle area = composeFrame();
+        if (canvas != null) {
+            if (area == null && !canvas.needsPresent()) return;
+            try {
+                canvas.render(this::presentFrame);
+                return;
+            } catch (RuntimeException e) {
+                fallbackToPassive(e);
+            }
+        }
+        if (area != null) paintImmediately(area);
+    }
+
+    /** BufferStrategy 를 쓸 수 없으면 캔버스를 빼고 JPanel 로 그립니다. */
+    private void fallbackToPassive(RuntimeException cause) {
+        System.err.println("[화면] BufferStrategy 를 쓸 수 없어 JPanel 로 그립니다: " + cause);
+        remove(canvas);
+        canvas = null;
+        renderMode = RenderMode.PASSIVE;
+        requestFocusInWindow();
+        repaint();
+    }
+
+    /** 그리기 보간 값 (0 = 마지막 update 시점, 1 = 다음 update 시점) */
+    public double getInterpolation() {
+        return interpolation;
     }
     
     public void startBattle(int stageNumber) {
@@ -73,6 +164,31 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
         else if (stageNumber == 4) hard.reset();
     }
     
+    /** 저장된 리플레이를 그 난이도의 스테이지 화면에서 재생합니다. */
+    public void playReplay(Replay replay) {
+        setDifficulty(replay.getDifficulty());
+        select.hideButtons();
+        switch (replay.getDifficulty()) {
+            case EASY:   this.stage = 2; easy.playReplay(replay); break;
+            case NORMAL: this.stage = 3; normal.playReplay(replay); break;
+            case HARD:   this.stage = 4; hard.playReplay(replay); break;
+        }
+    }
+
+    /** 현재 스테이지 화면 (전투 중이 아니면 null) */
+    private BaseStage currentStage() {
+        if (stage == 2) return easy;
+        if (stage == 3) return normal;
+        if (stage == 4) return hard;
+        return null;
+    }
+
+    /** 진행 중인 전투를 저장합니다. (EscMenu 에서 나갈 때) */
+    public void suspendBattle() {
+        BaseStage current = currentStage();
+        if (current != null) current.suspend();
+    }
+
     public void returnSelect() {
         this.stage = 1;
         select.showButtons();
@@ -83,15 +199,86 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
 
     private void initBuffer() {
         this.dim = getSize();
-        this.offScreen = createImage(dim.width, dim.height);
-        this.bg = this.offScreen.getGraphics();
+        this.offScreen = (dim.width > 0 && dim.height > 0) ? createImage(dim.width, dim.height) : null;
+        this.fullRedraw = true;
+        invalidateStaticLayers();
+    }
+
+    /** 전투 화면들의 바뀌지 않는 층을 버림 (화면 크기 / 스테이지가 바뀔 때) */
+    private void invalidateStaticLayers() {
+        easy.invalidateStaticLayer();
+        normal.invalidateStaticLayer();
+        hard.invalidateStaticLayer();
+    }
+
+    /** 다음 프레임에 화면 전체를 다시 그립니다. (ESC 메뉴처럼 캔버스 위의 Swing 컴포넌트가 바뀔 때) */
+    void invalidateFrame() {
+        this.fullRedraw = true;
+    }
+
+    /**
+     * 뒤 버퍼에서 바뀐 부분만 다시 그리고, 다시 그린 영역을 모두 덮는 사각형을 반환합니다. (없으면 null)
+     * 전투 화면은 스테이지의 dirtyRegions 영역만 잘라서(clip) 다시 그리고,
+     * 타이틀/선택 화면이나 스테이지가 바뀐 프레임은 전체를 그립니다.
+     */
+    private Rectangle composeFrame() {
+        if (offScreen == null) initBuffer();
+        if (offScreen == null) return null;
+
+        BaseStage current = currentStage();
+        if (current != null) current.collectDirty();
+
+        if (current == null || stage != composedStage || fullRedraw) {
+            if (stage != composedStage) invalidateStaticLayers();
+            composedStage = stage;
+            fullRedraw = false;
+            if (current != null) current.dirtyRegions.clear();
+            Rectangle all = new Rectangle(0, 0, dim.width, dim.height);
+            drawClipped(all);
+            return all;
+        }
+        if (current.dirtyRegions.isEmpty()) return null;
+
+        Rectangle area = null;
+        for (Rectangle r : current.dirtyRegions.take()) {
+            drawClipped(r);
+            area = (area == null) ? r : area.union(r);
+        }
+        return area;
+    }
+
+    /**
+     * 뒤 버퍼의 clip 영역만 다시 그립니다.
+     * 그리는 코드가 글꼴/색/안티에일리어싱을 바꾼 채로 두므로, 영역마다 새 Graphics 로 그려야
+     * 일부만 다시 그린 결과가 전체를 다시 그린 결과와 같습니다.
+     */
+    private void drawClipped(Rectangle clip) {
+        Graphics g = offScreen.getGraphics();
+        try {
+            g.setClip(clip);
+            drawFrame(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /** 뒤 버퍼를 그대로 g 에 복사합니다. (BufferStrategy 의 버퍼는 내용이 남아 있지 않으므로 항상 전체) */
+    private void presentFrame(Graphics g) {
+        if (offScreen != null) g.drawImage(offScreen, 0, 0, null);
+        else drawFrame(g);
     }
 
     @Override
     public void paintComponent(Graphics g) {
-        if (bg == null || dim == null) initBuffer();
+        if (canvas != null) return; // 캔버스가 덮고 있고, 게임 루프가 직접 그림
+
+        if (offScreen == null) composeFrame();
+        if (offScreen != null) g.drawImage(offScreen, 0, 0, this);
+    }
 
-        bg.clearRect(0, 0, dim.width, dim.height);
+    /** 현재 스테이지를 g 에 그립니다. (clip 이 있으면 그 영역만 바뀜) */
+    private void drawFrame(Graphics bg) {
+        bg.clearRect(0, 0, getWidth(), getHeight()); // clip 밖은 지워지지 않음
 
         if (stage == 0) {
             stageTitle.draw(bg, this);
@@ -104,8 +291,6 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
         } else if (stage == 4) {
             hard.draw(bg, this);
         }
-
-        g.drawImage(offScreen, 0, 0, this);
     }
 
     private void turnBtn() {
@@ -136,7 +321,10 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
     }
 
     @Override
-    public void componentResized(ComponentEvent e) { initBuffer(); }
+    public void componentResized(ComponentEvent e) {
+        if (canvas != null) canvas.setBounds(0, 0, getWidth(), getHeight());
+        initBuffer();
+    }
     @Override public void componentMoved(ComponentEvent e) {}
     @Override public void componentShown(ComponentEvent e) {}
     @Override public void componentHidden(ComponentEvent e) {}
@@ -147,8 +335,16 @@ public class Screen extends JPanel implements ComponentListener, KeyListener, Mo
     public void keyPressed(KeyEvent e) {
         if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
                 escMenu.toggleMenu();
+                invalidateFrame();
                 repaint();
         }
+
+        // 리플레이 배속: [ 느리게, ] 빠르게
+        BaseStage current = currentStage();
+        if (current != null && current.isReplaying()) {
+            if (e.getKeyCode() == KeyEvent.VK_OPEN_BRACKET) current.setReplaySpeed(current.getReplaySpeed() / 2);
+            else if (e.getKeyCode() == KeyEvent.VK_CLOSE_BRACKET) current.setReplaySpeed(current.getReplaySpeed() * 2);
+        }
     }
 
     @Override public void keyReleased(KeyEvent e) {}
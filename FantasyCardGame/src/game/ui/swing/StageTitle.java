@@ -101,27 +101,27 @@ public class StageTitle {
 	private boolean blink = false;	
 	private int blink_time = 200;	
 	
+	// 이전 update 의 위치 (그리기 보간용)
+	private int prev_sky_y = sky_y;
+	private int prev_fight_y = fight_y;
+
+	/** 고정 간격마다 한 번: 로고 깜빡임 / 카드 넘김 / 배경 스크롤 진행 (count = Screen 의 update 횟수) */
+	public void update(int count) {
+	    prev_sky_y = sky_y;
+	    prev_fight_y = fight_y;
 
-	public void draw(Graphics g, Screen screen) {	
-	    g.drawImage(this.start_back, 0, sky_y, screen);
-	    
 	    if(sky_y >= -10) {
-	        if(screen.getCount() % blink_time == 0) {	
+	        if(count % blink_time == 0) {	
 	            blink = !blink;	 
 	            if(blink)	
 	                blink_time = 60; 
 	            else
 	                blink_time = 20;	
 	        }
-	        if(blink) {	
-	            g.drawImage(this.logo, 335, 100, screen);
-	        }
 	    }
-	    int safeIndex = (start_index > 3) ? 3 : start_index; 
-	    g.drawImage(this.start_card[safeIndex], 100, fight_y, screen);
 	    
 	    if (start_index < 3) {
-	        if(screen.getCount() % time_step == 0) {	
+	        if(count % time_step == 0) {	
 	            start_index++;	
 	        }
 	    } 
@@ -132,4 +132,18 @@ public class StageTitle {
 	        }
 	    }
 	}
+
+	public void draw(Graphics g, Screen screen) {	
+	    double a = screen.getInterpolation();
+	    int skyY = (int) Math.round(prev_sky_y + (sky_y - prev_sky_y) * a);
+	    int fightY = (int) Math.round(prev_fight_y + (fight_y - prev_fight_y) * a);
+
+	    g.drawImage(this.start_back, 0, skyY, screen);
+	    
+	    if(blink) {	
+	        g.drawImage(this.logo, 335, 100, screen);
+	    }
+	    int safeIndex = (start_index > 3) ? 3 : start_index; 
+	    g.drawImage(this.start_card[safeIndex], 100, fightY, screen);
+	}
 }
@@ -0,0 +1,82 @@
+package game.ui.swing;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.VolatileImage;
+import java.util.function.Consumer;
+
+/**
+ * 한 판 동안 바뀌지 않는 그림(배경, 보드, 빈 슬롯 테두리, 덱 뒷면)을 한 번만 그려 두는 층입니다.
+ *
+ * painter 로 화면과 호환되는 VolatileImage 에 미리 그려 두고, 프레임마다 그 이미지를 한 번 복사합니다.
+ * 유닛/손패/HUD/드래그 같은 움직이는 것들은 그 위에 따로 그립니다.
+ *
+ * 다시 그리는 경우는 아래뿐입니다.
+ * - invalidate() : 화면 크기가 바뀌거나 스테이지가 바뀔 때 (Screen 이 부름)
+ * - 크기가 달라졌거나, 다른 모니터로 옮겨서 호환되지 않거나, VRAM 내용을 잃었을 때
+ * 아직 화면에 붙지 않아 GraphicsConfiguration 이 없으면 캐시 없이 painter 로 바로 그립니다.
+ * EDT 에서만 사용합니다.
+ */
+final class StaticLayer {
+
+    private final Consumer<Graphics> painter;
+    private VolatileImage image;
+    private boolean painted;
+
+    StaticLayer(Consumer<Graphics> painter) {
+        if (painter == null) throw new IllegalArgumentException("painter 는 null 일 수 없습니다.");
+        this.painter = painter;
+    }
+
+    /** owner 크기만큼의 층을 target 의 (0, 0) 에 그립니다. */
+    void draw(Graphics target, Component owner) {
+        GraphicsConfiguration gc = owner.getGraphicsConfiguration();
+        int width = owner.getWidth();
+        int height = owner.getHeight();
+        if (gc == null || width <= 0 || height <= 0) {
+            painter.accept(target);
+            return;
+        }
+
+        while (true) {
+            if (image == null || image.getWidth() != width || image.getHeight() != height) {
+                create(gc, width, height);
+            }
+            int status = image.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                create(gc, width, height);
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                painted = false;
+            }
+            if (!painted) {
+                Graphics g = image.createGraphics();
+                try {
+                    painter.accept(g);
+                } finally {
+                    g.dispose();
+                }
+                painted = true;
+            }
+            target.drawImage(image, 0, 0, null);
+            if (!image.contentsLost()) return;
+            painted = false; // 복사하는 사이에 잃었으면 다시 그려서 다시 복사
+        }
+    }
+
+    /** 다음 draw 에서 다시 그립니다. 들고 있던 VRAM 도 돌려줍니다. */
+    void invalidate() {
+        painted = false;
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+    }
+
+    private void create(GraphicsConfiguration gc, int width, int height) {
+        if (image != null) image.flush();
+        image = gc.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+        painted = false;
+    }
+}